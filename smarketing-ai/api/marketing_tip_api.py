@@ -2,12 +2,14 @@
 마케팅 팁 생성 API 엔드포인트
 Java 서비스와 연동되는 API
 """
-from flask import Blueprint, request, jsonify
+from flask import Blueprint, request, jsonify, Response, stream_with_context
 from datetime import datetime
 import logging
 
+from config.config import Config
+from utils.sse import stream_events
 from services.marketing_tip_service import MarketingTipService
-from models.marketing_tip_models import MarketingTipGenerateRequest, MarketingTipResponse
+from models.marketing_tip_models import MarketingTipGenerateRequest, MarketingTipResponse, MarketingTipBatchRequest
 
 logger = logging.getLogger(__name__)
 
@@ -119,6 +121,112 @@ def generate_marketing_tip():
         }), 500
 
 
+@marketing_tip_bp.route('/api/v1/generate-marketing-tip/stream', methods=['POST'])
+def generate_marketing_tip_stream():
+    """
+    AI 마케팅 팁 스트리밍 생성 API (Server-Sent Events)
+    chunk 이벤트로 생성 중인 팁 조각을, complete 이벤트로 전체 팁을 전달
+    """
+    if not request.is_json:
+        return jsonify({'status': 'error', 'message': 'Content-Type이 application/json이어야 합니다.'}), 400
+
+    data = request.get_json()
+    if not data or not data.get('store_name') or not data.get('business_type'):
+        return jsonify({'status': 'error', 'message': '매장명(store_name)과 업종(business_type)은 필수입니다.'}), 400
+
+    try:
+        request_model = MarketingTipGenerateRequest(**data)
+    except ValueError as e:
+        return jsonify({'status': 'error', 'message': f'요청 데이터 형식이 올바르지 않습니다: {str(e)}'}), 400
+
+    logger.info(f"마케팅 팁 스트리밍 생성 요청: {request_model.store_name}")
+
+    store_data = {
+        'store_name': request_model.store_name,
+        'business_type': request_model.business_type,
+        'location': request_model.location or '',
+        'seat_count': request_model.seat_count or 0,
+        'menu_list': [menu.dict() for menu in request_model.menu_list or []]
+    }
+
+    return Response(
+        stream_with_context(stream_events(marketing_tip_service.stream_marketing_tip(store_data))),
+        mimetype='text/event-stream',
+        headers={'Cache-Control': 'no-cache', 'X-Accel-Buffering': 'no'}
+    )
+
+
+@marketing_tip_bp.route('/api/v1/generate-marketing-tips/batch', methods=['POST'])
+def generate_marketing_tips_batch():
+    """
+    AI 마케팅 팁 일괄 생성 API
+    Java 서비스가 짧은 시간 동안 모은 여러 매장의 요청을 한 번에 전달하는 엔드포인트
+    응답의 request_id로 호출 측에서 결과를 매칭
+    """
+    try:
+        if not request.is_json:
+            return jsonify({
+                'results': [],
+                'status': 'error',
+                'message': 'Content-Type이 application/json이어야 합니다.'
+            }), 400
+
+        data = request.get_json()
+        if not data or not data.get('requests'):
+            return jsonify({
+                'results': [],
+                'status': 'error',
+                'message': '요청 목록(requests)이 없습니다.'
+            }), 400
+
+        if len(data['requests']) > Config.MARKETING_TIP_BATCH_MAX_SIZE:
+            return jsonify({
+                'results': [],
+                'status': 'error',
+                'message': f'한 번에 요청할 수 있는 매장 수는 최대 {Config.MARKETING_TIP_BATCH_MAX_SIZE}개입니다.'
+            }), 400
+
+        try:
+            batch_request = MarketingTipBatchRequest(**data)
+        except ValueError as e:
+            return jsonify({
+                'results': [],
+                'status': 'error',
+                'message': f'요청 데이터 형식이 올바르지 않습니다: {str(e)}'
+            }), 400
+
+        logger.info(f"마케팅 팁 일괄 생성 요청: {len(batch_request.requests)}건")
+
+        store_data_list = [
+            {
+                'request_id': item.request_id,
+                'store_name': item.store_name,
+                'business_type': item.business_type,
+                'location': item.location or '',
+                'seat_count': item.seat_count or 0,
+                'menu_list': [menu.dict() for menu in item.menu_list or []]
+            }
+            for item in batch_request.requests
+        ]
+
+        results = marketing_tip_service.generate_marketing_tips(store_data_list)
+
+        return jsonify({
+            'results': results,
+            'status': 'success',
+            'message': f'{len(results)}건의 마케팅 팁이 생성되었습니다.'
+        }), 200
+
+    except Exception as e:
+        logger.error(f"마케팅 팁 일괄 생성 API 오류: {str(e)}")
+
+        return jsonify({
+            'results': [],
+            'status': 'error',
+            'message': f'서버 오류가 발생했습니다: {str(e)}'
+        }), 500
+
+
 @marketing_tip_bp.route('/api/v1/health', methods=['GET'])
 def health_check():
     """
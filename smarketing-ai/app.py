@@ -2,7 +2,7 @@
 AI 마케팅 서비스 Flask 애플리케이션
 점주를 위한 마케팅 콘텐츠 및 포스터 자동 생성 서비스
 """
-from flask import Flask, request, jsonify
+from flask import Flask, request, jsonify, Response, stream_with_context
 from flask_cors import CORS
 from werkzeug.utils import secure_filename
 import os
@@ -13,6 +13,7 @@ from services.sns_content_service import SnsContentService
 from services.poster_service import PosterService
 from models.request_models import ContentRequest, PosterRequest, SnsContentGetRequest, PosterContentGetRequest
 from api.marketing_tip_api import marketing_tip_bp
+from utils.sse import stream_events
 
 def create_app():
     """Flask 애플리케이션 팩토리"""
@@ -98,6 +99,46 @@ def create_app():
             app.logger.error(traceback.format_exc())
             return jsonify({'error': f'SNS 콘텐츠 생성 중 오류가 발생했습니다: {str(e)}'}), 500
 
+    @app.route('/api/ai/sns/stream', methods=['POST'])
+    def stream_sns_content():
+        """
+        SNS 게시물 스트리밍 생성 API (Server-Sent Events)
+        status/chunk 이벤트로 진행 상황과 생성 중인 원문을, complete 이벤트로 HTML 형식의 최종 게시물을 전달
+        """
+        if not request.is_json:
+            return jsonify({'error': 'Content-Type은 application/json이어야 합니다.'}), 400
+
+        data = request.get_json()
+        if not data:
+            return jsonify({'error': '요청 데이터가 없습니다.'}), 400
+
+        required_fields = ['title', 'category', 'contentType', 'platform', 'images']
+        for field in required_fields:
+            if field not in data:
+                return jsonify({'error': f'필수 필드가 누락되었습니다: {field}'}), 400
+
+        sns_request = SnsContentGetRequest(
+            title=data.get('title'),
+            category=data.get('category'),
+            contentType=data.get('contentType'),
+            platform=data.get('platform'),
+            images=data.get('images', []),
+            requirement=data.get('requirement'),
+            storeName=data.get('storeName'),
+            storeType=data.get('storeType'),
+            target=data.get('target'),
+            menuName=data.get('menuName'),
+            eventName=data.get('eventName'),
+            startDate=data.get('startDate'),
+            endDate=data.get('endDate')
+        )
+
+        return Response(
+            stream_with_context(stream_events(sns_content_service.stream_sns_content(sns_request))),
+            mimetype='text/event-stream',
+            headers={'Cache-Control': 'no-cache', 'X-Accel-Buffering': 'no'}
+        )
+
     @app.route('/api/ai/poster', methods=['POST'])
     def generate_poster_content():
         """
@@ -21,6 +21,13 @@ class Config:
     CLAUDE_API_KEY = os.environ.get('CLAUDE_API_KEY')
     OPENAI_API_KEY = os.environ.get('OPENAI_API_KEY')
 
+    # 마케팅 팁 일괄 생성 설정
+    MARKETING_TIP_BATCH_MAX_SIZE = int(os.environ.get('MARKETING_TIP_BATCH_MAX_SIZE') or 16)
+    # 동시에 들어오는 묶음의 모든 매장을 한 번에 생성할 수 있도록 (묶음 크기 x 동시 묶음 수) 이상으로 설정
+    # 작업자가 부족하면 묶음 안의 생성이 여러 차례로 나뉘어 호출 측(ai-recommend) 묶음 타임아웃을 넘김
+    # 기본값: ai-recommend batch.max-size(8) x batch.max-in-flight(4)
+    MARKETING_TIP_BATCH_WORKERS = int(os.environ.get('MARKETING_TIP_BATCH_WORKERS') or 32)
+
     # Azure Blob Storage 설정
     AZURE_STORAGE_ACCOUNT_NAME = os.environ.get('AZURE_STORAGE_ACCOUNT_NAME') or 'stdigitalgarage02'
     AZURE_STORAGE_ACCOUNT_KEY = os.environ.get('AZURE_STORAGE_ACCOUNT_KEY')
@@ -68,6 +68,18 @@ class MarketingTipGenerateRequest(BaseModel):
             }
         }
 
+class MarketingTipBatchItem(MarketingTipGenerateRequest):
+    """마케팅 팁 일괄 생성 요청 항목"""
+
+    request_id: str = Field(..., description="호출 측 요청 식별자 (응답 매칭용)")
+
+
+class MarketingTipBatchRequest(BaseModel):
+    """마케팅 팁 일괄 생성 요청 모델"""
+
+    requests: List[MarketingTipBatchItem] = Field(..., description="매장별 생성 요청 목록")
+
+
 class MarketingTipResponse(BaseModel):
     """마케팅 팁 응답 모델"""
     
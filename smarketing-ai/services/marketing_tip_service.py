@@ -4,10 +4,12 @@ Java 서비스에서 요청받은 매장 정보를 기반으로 AI 마케팅 팁
 """
 import os
 import logging
-from typing import Dict, Any, Optional
+from concurrent.futures import ThreadPoolExecutor
+from typing import Dict, Any, Optional, List, Iterator, Tuple
 import anthropic
 import openai
 from datetime import datetime
+from config.config import Config
 
 # 로깅 설정
 logging.basicConfig(level=logging.INFO)
@@ -35,6 +37,10 @@ class MarketingTipService:
         else:
             self.openai_client = None
             logger.warning("OpenAI API 키가 설정되지 않았습니다.")
+
+        # 일괄 생성 요청을 병렬 처리할 작업자 풀 (요청마다 생성하지 않고 재사용)
+        self.batch_executor = ThreadPoolExecutor(max_workers=Config.MARKETING_TIP_BATCH_WORKERS,
+                                                 thread_name_prefix='marketing-tip-batch')
     
     def generate_marketing_tip(self, store_data: Dict[str, Any], additional_requirement: Optional[str] = None) -> Dict[str, Any]:
         """
@@ -86,6 +92,67 @@ class MarketingTipService:
                 'ai_model': 'fallback'
             }
     
+    def stream_marketing_tip(self, store_data: Dict[str, Any]) -> Iterator[Tuple[str, Dict[str, Any]]]:
+        """
+        매장 정보를 기반으로 AI 마케팅 팁 스트리밍 생성
+        생성되는 팁 조각을 chunk 이벤트로 전달하고, 완료 시 전체 팁을 complete 이벤트로 전달
+        첫 조각 전에 모든 AI 호출이 실패하면 Fallback 팁을 한 번에 전달
+        """
+        logger.info(f"마케팅 팁 스트리밍 생성 시작: {store_data.get('store_name', 'Unknown')}")
+
+        prompt = self._create_marketing_prompt(store_data, None)
+        tip_parts = []
+        ai_model = 'fallback'
+
+        try:
+            for ai_model, text in self._stream_ai_service(prompt):
+                tip_parts.append(text)
+                yield 'chunk', {'text': text}
+        except Exception as e:
+            if tip_parts:
+                raise
+            logger.error(f"마케팅 팁 스트리밍 생성 실패: {str(e)}")
+
+        if not tip_parts:
+            fallback_tip = self._create_fallback_tip(store_data, None)
+            tip_parts.append(fallback_tip)
+            ai_model = 'fallback'
+            yield 'chunk', {'text': fallback_tip}
+
+        yield 'complete', {
+            'tip': ''.join(tip_parts).strip(),
+            'status': 'fallback' if ai_model == 'fallback' else 'success',
+            'generated_at': datetime.now().isoformat(),
+            'store_name': store_data.get('store_name', ''),
+            'business_type': store_data.get('business_type', ''),
+            'ai_model': ai_model
+        }
+
+        logger.info(f"마케팅 팁 스트리밍 생성 완료: {store_data.get('store_name', 'Unknown')}")
+
+    def generate_marketing_tips(self, store_data_list: List[Dict[str, Any]]) -> List[Dict[str, Any]]:
+        """
+        여러 매장의 마케팅 팁 일괄 생성
+        한 번의 HTTP 요청으로 받은 매장들을 작업자 풀에서 병렬로 생성하고 요청 순서대로 반환
+
+        Args:
+            store_data_list: 매장 정보 목록 (각 항목에 request_id 포함)
+
+        Returns:
+            request_id가 포함된 마케팅 팁 결과 목록
+        """
+        logger.info(f"마케팅 팁 일괄 생성 시작: {len(store_data_list)}건")
+
+        def generate(store_data: Dict[str, Any]) -> Dict[str, Any]:
+            result = self.generate_marketing_tip(store_data)
+            result['request_id'] = store_data.get('request_id', '')
+            return result
+
+        results = list(self.batch_executor.map(generate, store_data_list))
+
+        logger.info(f"마케팅 팁 일괄 생성 완료: {len(results)}건")
+        return results
+
     def _create_marketing_prompt(self, store_data: Dict[str, Any], additional_requirement: Optional[str]) -> str:
         """마케팅 팁 생성을 위한 프롬프트 생성"""
         
@@ -217,6 +284,66 @@ class MarketingTipService:
         # 모든 AI 서비스 호출 실패
         raise Exception("모든 AI 서비스 호출에 실패했습니다.")
     
+    def _stream_ai_service(self, prompt: str) -> Iterator[Tuple[str, str]]:
+        """AI 서비스 스트리밍 호출 ((모델명, 텍스트 조각) 반환, 첫 조각 전 실패 시에만 다음 서비스로 전환)"""
+
+        # Claude API 우선 시도
+        if self.claude_client:
+            emitted = False
+            try:
+                with self.claude_client.messages.stream(
+                        model="claude-3-sonnet-20240229",
+                        max_tokens=1000,
+                        temperature=0.7,
+                        messages=[
+                            {
+                                "role": "user",
+                                "content": prompt
+                            }
+                        ]
+                ) as stream:
+                    for text in stream.text_stream:
+                        emitted = True
+                        yield 'claude', text
+                return
+            except Exception as e:
+                if emitted:
+                    raise
+                logger.warning(f"Claude API 스트리밍 호출 실패: {str(e)}")
+
+        # OpenAI API 시도
+        if self.openai_client:
+            emitted = False
+            try:
+                stream = self.openai_client.chat.completions.create(
+                    model="gpt-3.5-turbo",
+                    messages=[
+                        {
+                            "role": "system",
+                            "content": "당신은 소상공인을 위한 마케팅 전문가입니다. 실용적이고 구체적인 마케팅 조언을 제공해주세요."
+                        },
+                        {
+                            "role": "user",
+                            "content": prompt
+                        }
+                    ],
+                    max_tokens=800,
+                    temperature=0.7,
+                    stream=True
+                )
+                for chunk in stream:
+                    if chunk.choices and chunk.choices[0].delta.content:
+                        emitted = True
+                        yield 'openai', chunk.choices[0].delta.content
+                return
+            except Exception as e:
+                if emitted:
+                    raise
+                logger.warning(f"OpenAI API 스트리밍 호출 실패: {str(e)}")
+
+        # 모든 AI 서비스 호출 실패
+        raise Exception("모든 AI 서비스 호출에 실패했습니다.")
+
     def _create_fallback_tip(self, store_data: Dict[str, Any], additional_requirement: Optional[str]) -> str:
         """AI 서비스 실패 시 규칙 기반 Fallback 팁 생성"""
         
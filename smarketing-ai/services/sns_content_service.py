@@ -2,7 +2,7 @@
 SNS 콘텐츠 생성 서비스 (플랫폼 특화 개선)
 """
 import os
-from typing import Dict, Any, List, Tuple
+from typing import Dict, Any, List, Tuple, Iterator
 from datetime import datetime
 from utils.ai_client import AIClient
 from utils.image_processor import ImageProcessor
@@ -1445,35 +1445,14 @@ class SnsContentService:
         SNS 콘텐츠 생성 (플랫폼별 특화)
         """
         try:
-            # 이미지 다운로드 및 분석
-            image_analysis = self._analyze_images_from_urls(request.images)
-
-            # 네이버 블로그인 경우 이미지 배치 계획 생성
-            image_placement_plan = None
-            if request.platform == 'NAVER_BLOG':
-                image_placement_plan = self._create_image_placement_plan(image_analysis, request)
-
-            # 플랫폼별 특화 프롬프트 생성
-            prompt = self._create_platform_specific_prompt(request, image_analysis, image_placement_plan)
-
-            # blog_example을 프롬프트에 추가
-            if request.platform == 'NAVER_BLOG' and hasattr(self, 'blog_example') and self.blog_example:
-                prompt += f"\n\n**참고 예시:**\n{str(self.blog_example)}\n위 예시를 참고하여 점주의 입장에서 가게 홍보 게시물을 작성해주세요."
-            elif hasattr(self, 'insta_example') and self.insta_example :
-                prompt += f"\n\n**참고 예시:**\n{str(self.insta_example)}\n위 예시를 참고하여 점주의 입장에서 가게 홍보 게시물을 작성해주세요."
+            prompt, image_placement_plan = self._prepare_generation(request)
 
             # AI로 콘텐츠 생성
             generated_content = self.ai_client.generate_text(prompt, max_tokens=1500)
 
-            # 플랫폼별 후처리
-            processed_content = self._post_process_content(generated_content, request)
-
-            # HTML 형식으로 포맷팅
-            html_content = self._format_to_html(processed_content, request, image_placement_plan)
-
             result = {
                 'success': True,
-                'content': html_content
+                'content': self._finalize_content(generated_content, request, image_placement_plan)
             }
 
             # 네이버 블로그인 경우 이미지 배치 가이드라인 추가
@@ -1488,6 +1467,65 @@ class SnsContentService:
                 'error': str(e)
             }
 
+    def stream_sns_content(self, request: SnsContentGetRequest) -> Iterator[Tuple[str, Dict[str, Any]]]:
+        """
+        SNS 콘텐츠 스트리밍 생성
+        AI가 생성하는 원문 조각을 chunk 이벤트로 전달하고,
+        생성이 끝나면 후처리/HTML 포맷팅을 마친 최종 콘텐츠를 complete 이벤트로 전달
+        """
+        yield 'status', {'message': '이미지를 분석하고 있습니다.'}
+
+        prompt, image_placement_plan = self._prepare_generation(request)
+
+        yield 'status', {'message': '콘텐츠를 작성하고 있습니다.'}
+
+        generated_parts = []
+        for text in self.ai_client.stream_text(prompt, max_tokens=1500):
+            generated_parts.append(text)
+            yield 'chunk', {'text': text}
+
+        result = {
+            'content': self._finalize_content(''.join(generated_parts), request, image_placement_plan)
+        }
+        if request.platform == 'NAVER_BLOG' and image_placement_plan:
+            result['image_placement_guide'] = image_placement_plan
+
+        yield 'complete', result
+
+    def _prepare_generation(self, request: SnsContentGetRequest) -> Tuple[str, Dict[str, Any]]:
+        """
+        이미지 분석 후 플랫폼별 프롬프트와 이미지 배치 계획 생성
+        """
+        # 이미지 다운로드 및 분석
+        image_analysis = self._analyze_images_from_urls(request.images)
+
+        # 네이버 블로그인 경우 이미지 배치 계획 생성
+        image_placement_plan = None
+        if request.platform == 'NAVER_BLOG':
+            image_placement_plan = self._create_image_placement_plan(image_analysis, request)
+
+        # 플랫폼별 특화 프롬프트 생성
+        prompt = self._create_platform_specific_prompt(request, image_analysis, image_placement_plan)
+
+        # blog_example을 프롬프트에 추가
+        if request.platform == 'NAVER_BLOG' and hasattr(self, 'blog_example') and self.blog_example:
+            prompt += f"\n\n**참고 예시:**\n{str(self.blog_example)}\n위 예시를 참고하여 점주의 입장에서 가게 홍보 게시물을 작성해주세요."
+        elif hasattr(self, 'insta_example') and self.insta_example :
+            prompt += f"\n\n**참고 예시:**\n{str(self.insta_example)}\n위 예시를 참고하여 점주의 입장에서 가게 홍보 게시물을 작성해주세요."
+
+        return prompt, image_placement_plan
+
+    def _finalize_content(self, generated_content: str, request: SnsContentGetRequest,
+                          image_placement_plan: Dict[str, Any]) -> str:
+        """
+        생성된 원문을 플랫폼별 후처리 후 HTML 형식으로 포맷팅
+        """
+        # 플랫폼별 후처리
+        processed_content = self._post_process_content(generated_content, request)
+
+        # HTML 형식으로 포맷팅
+        return self._format_to_html(processed_content, request, image_placement_plan)
+
     def _analyze_images_from_urls(self, image_urls: list) -> Dict[str, Any]:
         """
         URL에서 이미지를 다운로드하고 분석 (이미지 타입 분류 추가)
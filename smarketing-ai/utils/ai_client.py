@@ -5,7 +5,7 @@ Claude AI 및 OpenAI API 호출을 담당
 import os
 import base64
 import requests
-from typing import Optional, List
+from typing import Optional, List, Iterator
 import anthropic
 import openai
 from PIL import Image
@@ -136,6 +136,56 @@ class AIClient:
         # 기본 응답
         return self._generate_fallback_content(prompt)
 
+    def stream_text(self, prompt: str, max_tokens: int = 1000) -> Iterator[str]:
+        """
+        텍스트 스트리밍 생성 (Claude 우선, 실패시 OpenAI 사용)
+        생성되는 텍스트 조각을 순서대로 반환하며, 첫 조각 전에 실패한 경우에만 다음 방법으로 전환
+        """
+        # Claude AI 시도
+        if self.claude_client:
+            emitted = False
+            try:
+                with self.claude_client.messages.stream(
+                        model="claude-3-5-sonnet-20240620",
+                        max_tokens=max_tokens,
+                        messages=[
+                            {"role": "user", "content": prompt}
+                        ]
+                ) as stream:
+                    for text in stream.text_stream:
+                        emitted = True
+                        yield text
+                return
+            except Exception as e:
+                if emitted:
+                    raise
+                print(f"Claude AI 스트리밍 호출 실패: {e}")
+
+        # OpenAI 시도
+        if self.openai_client:
+            emitted = False
+            try:
+                stream = self.openai_client.chat.completions.create(
+                    model="gpt-4o",
+                    messages=[
+                        {"role": "user", "content": prompt}
+                    ],
+                    max_tokens=max_tokens,
+                    stream=True
+                )
+                for chunk in stream:
+                    if chunk.choices and chunk.choices[0].delta.content:
+                        emitted = True
+                        yield chunk.choices[0].delta.content
+                return
+            except Exception as e:
+                if emitted:
+                    raise
+                print(f"OpenAI 스트리밍 호출 실패: {e}")
+
+        # 기본 응답
+        yield self._generate_fallback_content(prompt)
+
     def analyze_image(self, image_path: str) -> str:
         """
         이미지 분석 및 설명 생성
@@ -0,0 +1,33 @@
+"""
+Server-Sent Events 유틸리티
+스트리밍 응답을 text/event-stream 형식으로 변환
+"""
+import json
+from typing import Any, Dict, Iterable, Iterator, Tuple
+
+
+def format_sse(event: str, data: Dict[str, Any]) -> str:
+    """
+    SSE 이벤트 한 건을 직렬화
+    줄바꿈이 포함된 본문도 안전하게 전달되도록 data는 JSON 한 줄로 직렬화
+
+    Args:
+        event: 이벤트 이름 (status, chunk, complete, error)
+        data: 이벤트 데이터
+
+    Returns:
+        SSE 형식 문자열
+    """
+    return f"event: {event}\ndata: {json.dumps(data, ensure_ascii=False)}\n\n"
+
+
+def stream_events(events: Iterable[Tuple[str, Dict[str, Any]]]) -> Iterator[str]:
+    """
+    (이벤트 이름, 데이터) 목록을 SSE 문자열로 변환
+    생성 중 예외가 발생하면 error 이벤트로 전달하고 스트림 종료
+    """
+    try:
+        for event, data in events:
+            yield format_sse(event, data)
+    except Exception as e:
+        yield format_sse('error', {'message': str(e)})
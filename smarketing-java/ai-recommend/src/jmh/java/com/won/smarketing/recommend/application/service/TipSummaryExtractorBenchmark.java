@@ -0,0 +1,106 @@
+package com.won.smarketing.recommend.application.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마케팅 팁 요약 생성 벤치마크
+ * 기존 정규식 기반 구현과 단일 패스 추출기를 AI 응답 형식의 HTML로 비교
+ *
+ * 실행: ./gradlew :ai-recommend:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TipSummaryExtractorBenchmark {
+
+    /**
+     * Python AI 서비스 프롬프트 템플릿을 따른 일반적인 응답
+     */
+    private static final String TEMPLATE_TIP = """
+            <h3>✨ 핵심 마케팅 팁</h3>
+            <p>비 오는 평일 오후에는 &lt;우산 쓰고 온 손님&gt; 전용 따뜻한 음료 1+1 이벤트를 인스타그램 스토리로 알려 보세요. \
+            날씨와 연결된 한정 혜택은 지나가던 고객의 방문을 자연스럽게 유도합니다.</p>
+
+            <h3>🚀 실행 방법</h3>
+            <p>1. 오전 10시에 날씨 예보를 확인하고 비 소식이 있으면 스토리 이미지를 준비합니다.<br>
+            2. 매장 입구에 &quot;비 오는 날 1+1&quot; 안내 문구를 붙이고, 계산대에서 우산 보관함을 안내합니다.<br>
+            3. 이벤트 참여 고객에게 다음 방문 시 사용할 수 있는 스탬프를 하나 더 적립해 드립니다.</p>
+
+            <h3>💰 예상 비용과 기대 효과</h3>
+            <p>예상 비용은 음료 원가 기준 하루 3만 원 내외이며, 비 오는 날 평균 방문객 수 대비 20~30% 증가를 기대할 수 있습니다. \
+            재방문 스탬프로 단골 전환율도 함께 높아집니다.</p>
+
+            <h3>⚠️ 주의사항</h3>
+            <p>준비 가능한 재고 범위에서만 진행하고, 소진 시 스토리에 &amp; 매장 안내판에 바로 공지해 주세요.&nbsp;\
+            과도한 할인 경쟁은 피하는 것이 좋습니다.</p>
+
+            <h3>📈 참고했던 실제 성공한 마케팅</h3>
+            <p>스타벅스의 날씨 연동 프로모션 사례를 참고했습니다. (https://www.starbucks.co.kr/whats_new/campaign_list.do)</p>
+
+            <h3>🙌 오늘의 응원의 문장</h3>
+            <p>작은 아이디어 하나가 오늘의 매출을 바꿉니다! 사장님의 하루를 응원합니다 😊</p>
+            """;
+
+    /**
+     * 핵심 팁 섹션 제목이 없어 전체 본문에서 요약을 찾는 응답 (대체 팁 형식)
+     */
+    private static final String FALLBACK_TIP = """
+            <p>🎯 카페 인스타그램 마케팅 전략</p>
+            <p>&nbsp;</p>
+            <p>💡 핵심 포인트:<br>
+            - 매일 오후 3시, 시그니처 음료 사진을 자연광에서 촬영해 업로드하세요<br>
+            - 해시태그는 지역명과 메뉴명을 함께 사용해 주변 고객에게 노출되도록 합니다<br>
+            - 방문 고객의 리뷰를 스토리에 공유하면 신뢰도가 높아집니다</p>
+
+            <p>📱 실행 방법:<br>
+            1. 촬영 시간과 구도를 정해 두고 일주일 단위로 게시물을 예약합니다<br>
+            2. 리뷰 이벤트 참여 고객에게 음료 사이즈 업 쿠폰을 제공합니다</p>
+
+            <p>💰 예상 효과: 팔로워 증가와 함께 신규 방문 고객 15% 증가가 기대됩니다 &amp; 재방문율도 개선됩니다.</p>
+            """;
+
+    @Param({"template", "fallback"})
+    private String shape;
+
+    private String document;
+    private TipSummaryExtractor extractor;
+    private LegacyTipSummaryExtractor legacyExtractor;
+
+    @Setup
+    public void setUp() {
+        document = "template".equals(shape) ? TEMPLATE_TIP : FALLBACK_TIP;
+        extractor = new TipSummaryExtractor();
+        legacyExtractor = new LegacyTipSummaryExtractor();
+
+        String expected = legacyExtractor.generateTipSummary(document);
+        String actual = extractor.summarize(document);
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("요약 결과 불일치: legacy=" + expected + ", singlePass=" + actual);
+        }
+    }
+
+    @Benchmark
+    public String legacyRegex() {
+        return legacyExtractor.generateTipSummary(document);
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return extractor.summarize(document);
+    }
+}
@@ -0,0 +1,188 @@
+package com.won.smarketing.recommend.application.service;
+
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.service.TipGenerationLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 매장별 마케팅 팁 생성 요청 합치기 (single-flight)
+ * 같은 매장에 대한 동시 요청은 한 번만 AI를 호출하고 결과를 공유
+ * - 인스턴스 내부: 리더의 진행 중 Future를 팔로워가 대기
+ * - 인스턴스 간: Redis 리스를 보유한 인스턴스만 생성하고, 나머지는 저장된 팁을 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketingTipCoalescer {
+
+    private static final String NO_LEASE_TOKEN = "";
+
+    private final TipGenerationLease tipGenerationLease;
+
+    private final ConcurrentMap<Long, CompletableFuture<MarketingTip>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${marketing-tip.single-flight.wait-timeout:45000}")
+    private long waitTimeout;
+
+    @Value("${marketing-tip.single-flight.poll-interval:500}")
+    private long pollInterval;
+
+    /**
+     * 매장 단위로 합쳐진 마케팅 팁 생성
+     *
+     * @param storeId 매장 ID
+     * @param recentTipLookup 최근 저장된 팁 조회 (다른 인스턴스 결과 확인용)
+     * @param generator 실제 팁 생성 및 저장
+     * @return 동시 요청이 공유하는 마케팅 팁
+     */
+    public MarketingTip coalesce(Long storeId,
+                                 Supplier<Optional<MarketingTip>> recentTipLookup,
+                                 Supplier<MarketingTip> generator) {
+        if (storeId == null) {
+            return generator.get();
+        }
+
+        CompletableFuture<MarketingTip> leaderFuture = new CompletableFuture<>();
+        CompletableFuture<MarketingTip> existing = inFlight.putIfAbsent(storeId, leaderFuture);
+
+        if (existing != null) {
+            log.info("진행 중인 마케팅 팁 생성에 합류: storeId={}", storeId);
+            return awaitLeader(storeId, existing);
+        }
+
+        try {
+            MarketingTip tip = generateWithLease(storeId, recentTipLookup, generator);
+            leaderFuture.complete(tip);
+            return tip;
+        } catch (RuntimeException e) {
+            leaderFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(storeId, leaderFuture);
+        }
+    }
+
+    /**
+     * 스트리밍 생성용 리스 획득
+     * 같은 매장을 이 인스턴스나 다른 인스턴스에서 생성 중이면 획득하지 않음
+     * 스트리밍 중에 들어온 일반 요청은 리스 해제를 기다린 뒤 저장된 팁을 사용
+     *
+     * @param storeId 매장 ID
+     * @return 리스 토큰 (매장 ID가 없으면 빈 토큰)
+     */
+    public Optional<String> tryAcquireStreamLease(Long storeId) {
+        if (storeId == null) {
+            return Optional.of(NO_LEASE_TOKEN);
+        }
+        if (inFlight.containsKey(storeId)) {
+            return Optional.empty();
+        }
+        return tipGenerationLease.tryAcquire(storeId);
+    }
+
+    /**
+     * 스트리밍 생성용 리스 해제 (팁 저장 이후 호출)
+     */
+    public void releaseStreamLease(Long storeId, String token) {
+        if (storeId == null || NO_LEASE_TOKEN.equals(token)) {
+            return;
+        }
+        tipGenerationLease.release(storeId, token);
+    }
+
+    /**
+     * Redis 리스를 획득한 경우에만 생성하고, 다른 인스턴스가 생성 중이면 결과를 기다림
+     */
+    private MarketingTip generateWithLease(Long storeId,
+                                           Supplier<Optional<MarketingTip>> recentTipLookup,
+                                           Supplier<MarketingTip> generator) {
+        long deadline = System.currentTimeMillis() + waitTimeout;
+
+        while (true) {
+            Optional<String> token = tipGenerationLease.tryAcquire(storeId);
+
+            if (token.isPresent()) {
+                try {
+                    // 리스 획득 직전에 다른 인스턴스가 저장했을 수 있으므로 재확인
+                    return recentTipLookup.get().orElseGet(generator);
+                } finally {
+                    releaseAfterCompletion(storeId, token.get());
+                }
+            }
+
+            log.info("다른 인스턴스에서 마케팅 팁 생성 중, 완료 대기: storeId={}", storeId);
+            waitForRelease(storeId, deadline);
+
+            Optional<MarketingTip> generatedElsewhere = recentTipLookup.get();
+            if (generatedElsewhere.isPresent()) {
+                log.info("다른 인스턴스에서 생성된 마케팅 팁 사용: storeId={}, tipId={}",
+                        storeId, generatedElsewhere.get().getId().getValue());
+                return generatedElsewhere.get();
+            }
+
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("마케팅 팁 생성 대기 시간 초과, 직접 생성: storeId={}", storeId);
+                return generator.get();
+            }
+            // 리더가 실패하고 리스를 반납한 경우 다시 획득 시도
+        }
+    }
+
+    private MarketingTip awaitLeader(Long storeId, CompletableFuture<MarketingTip> leaderFuture) {
+        try {
+            return leaderFuture.get(waitTimeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("마케팅 팁 생성 실패: storeId=" + storeId, e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("마케팅 팁 생성 대기 시간 초과: storeId=" + storeId, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("마케팅 팁 생성 대기 중 인터럽트: storeId=" + storeId, e);
+        }
+    }
+
+    private void waitForRelease(Long storeId, long deadline) {
+        while (tipGenerationLease.isHeld(storeId) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(pollInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("마케팅 팁 생성 대기 중 인터럽트: storeId=" + storeId, e);
+            }
+        }
+    }
+
+    /**
+     * 트랜잭션 커밋 이후 리스 해제
+     * 커밋 전에 해제하면 다른 인스턴스가 저장되지 않은 팁을 찾지 못하고 중복 생성함
+     */
+    private void releaseAfterCompletion(Long storeId, String token) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    tipGenerationLease.release(storeId, token);
+                }
+            });
+            return;
+        }
+        tipGenerationLease.release(storeId, token);
+    }
+}
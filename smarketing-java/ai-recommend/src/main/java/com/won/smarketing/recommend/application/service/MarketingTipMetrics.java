@@ -0,0 +1,135 @@
+package com.won.smarketing.recommend.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 마케팅 팁 처리 단계별 지표
+ * 단계(phase)와 결과(outcome)별 응답 시간을 히스토그램으로 기록하여 Prometheus에서 단계별 p50/p99 확인
+ *
+ * - marketing_tip.phase{phase, outcome}: 매장 조회, 최근 팁 조회(hit/miss), AI 생성(success/fallback), 요약, 저장
+ * - marketing_tip.requests{result}: 팁 제공 요청 전체 (recent/generated/error)
+ * - marketing_tip.ai.fallback: 규칙 기반 대체 팁 저장 수
+ *
+ * 매장 스냅샷/최근 팁 캐시 단계별 적중률은 cache.gets{cache=storeSnapshot|marketingTipL1|marketingTipL2}로 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class MarketingTipMetrics {
+
+    private static final String PHASE_TIMER = "marketing_tip.phase";
+    private static final String REQUEST_TIMER = "marketing_tip.requests";
+    private static final String FALLBACK_COUNTER = "marketing_tip.ai.fallback";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String DEGRADED = "degraded";
+    public static final String FALLBACK = "fallback";
+    public static final String RECENT = "recent";
+    public static final String GENERATED = "generated";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 마케팅 팁 처리 단계
+     */
+    public enum Phase {
+        STORE_FETCH("store_fetch"),
+        RECENT_LOOKUP("recent_lookup"),
+        AI_GENERATION("ai_generation"),
+        SUMMARY("summary"),
+        PERSISTENCE("persistence");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록 (예외는 error로 기록 후 그대로 전달)
+     *
+     * @param phase 처리 단계
+     * @param call 단계 실행
+     * @param outcomeOf 결과별 outcome 태그
+     * @return 단계 실행 결과
+     */
+    public <T> T record(Phase phase, Supplier<T> call, Function<T, String> outcomeOf) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        T result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            sample.stop(phaseTimer(phase, ERROR));
+            throw e;
+        }
+        sample.stop(phaseTimer(phase, outcomeOf.apply(result)));
+        return result;
+    }
+
+    /**
+     * 비동기 단계 실행 시간 기록 (구독 시점부터 완료 시점까지)
+     *
+     * @param phase 처리 단계
+     * @param call 단계 실행
+     * @param outcomeOf 결과별 outcome 태그
+     * @param emptyOutcome 결과가 없을 때 outcome 태그
+     * @return 기록이 연결된 단계 실행
+     */
+    public <T> Mono<T> record(Phase phase, Mono<T> call, Function<T, String> outcomeOf, String emptyOutcome) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(result -> sample.stop(phaseTimer(phase,
+                            result != null ? outcomeOf.apply(result) : emptyOutcome)))
+                    .doOnError(e -> sample.stop(phaseTimer(phase, ERROR)));
+        });
+    }
+
+    /**
+     * 팁 제공 요청 전체 시간 측정 시작
+     */
+    public Timer.Sample startRequest() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 팁 제공 요청 전체 시간 기록
+     */
+    public void stopRequest(Timer.Sample sample, String result) {
+        sample.stop(Timer.builder(REQUEST_TIMER)
+                .description("마케팅 팁 제공 요청 처리 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * 규칙 기반 대체 팁 저장 수 증가
+     */
+    public void countFallback() {
+        Counter.builder(FALLBACK_COUNTER)
+                .description("AI 생성 실패로 저장된 규칙 기반 대체 팁 수")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer phaseTimer(Phase phase, String outcome) {
+        return Timer.builder(PHASE_TIMER)
+                .description("마케팅 팁 처리 단계별 응답 시간")
+                .tag("phase", phase.tag)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
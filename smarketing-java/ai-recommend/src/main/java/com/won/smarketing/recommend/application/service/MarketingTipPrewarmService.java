@@ -0,0 +1,139 @@
+package com.won.smarketing.recommend.application.service;
+
+import com.won.smarketing.common.activity.ActiveUserRegistry;
+import com.won.smarketing.common.security.JwtTokenProvider;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.repository.MarketingTipRepository;
+import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 최근 활동 매장의 마케팅 팁 사전 생성
+ * 최근 로그인 사용자와 최근 팁 생성 이력이 있는 사용자를 대상으로, 재사용 가능한 팁이 없는 매장만 생성
+ * AI 서비스 부하를 제한하기 위해 동시 생성 수와 생성 시작 간격을 설정으로 조절
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketingTipPrewarmService {
+
+    private static final String PREWARM_METRIC = "marketing_tip.prewarm";
+
+    private final MarketingTipRepository marketingTipRepository;
+    private final StoreDataProvider storeDataProvider;
+    private final MarketingTipService marketingTipService;
+    private final ActiveUserRegistry activeUserRegistry;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${marketing-tip.prewarm.lookback-days:7}")
+    private int lookbackDays;
+
+    @Value("${marketing-tip.prewarm.max-users:500}")
+    private int maxUsers;
+
+    @Value("${marketing-tip.prewarm.max-concurrency:2}")
+    private int maxConcurrency;
+
+    @Value("${marketing-tip.prewarm.pacing:1000}")
+    private long pacing;
+
+    /**
+     * 최근 활동 매장의 마케팅 팁 사전 생성 실행
+     */
+    public void prewarmActiveStores() {
+        Set<String> userIds = findActiveUserIds();
+        log.info("마케팅 팁 사전 생성 시작: 대상 사용자 수={}, 동시 생성 수={}, 간격={}ms",
+                userIds.size(), maxConcurrency, pacing);
+
+        Map<PrewarmResult, Long> summary = Flux.fromIterable(userIds)
+                .delayElements(Duration.ofMillis(pacing))
+                .flatMap(userId -> Mono.fromCallable(() -> prewarm(userId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("마케팅 팁 사전 생성 실패: userId={}, error={}", userId, e.getMessage());
+                            return Mono.just(PrewarmResult.FAILED);
+                        }), maxConcurrency)
+                .doOnNext(result -> meterRegistry.counter(PREWARM_METRIC, "result", result.getTag()).increment())
+                .collect(() -> new EnumMap<PrewarmResult, Long>(PrewarmResult.class),
+                        (counts, result) -> counts.merge(result, 1L, Long::sum))
+                .block();
+
+        log.info("마케팅 팁 사전 생성 완료: {}", summary);
+    }
+
+    /**
+     * 사전 생성 대상 사용자 조회 (최근 로그인 사용자 우선)
+     */
+    private Set<String> findActiveUserIds() {
+        Instant since = Instant.now().minus(Duration.ofDays(lookbackDays));
+        activeUserRegistry.removeInactiveBefore(since);
+
+        Set<String> userIds = new LinkedHashSet<>(activeUserRegistry.findActiveSince(since, maxUsers));
+        userIds.addAll(marketingTipRepository.findActiveUserIdsSince(LocalDateTime.now().minusDays(lookbackDays)));
+
+        return userIds.stream()
+                .limit(maxUsers)
+                .collect(LinkedHashSet::new, Set::add, Set::addAll);
+    }
+
+    /**
+     * 사용자 매장의 마케팅 팁 사전 생성
+     * 매장 정보를 가져오지 못해 대체 데이터로 채워진 경우에는 생성하지 않음
+     */
+    private PrewarmResult prewarm(String userId) {
+        Long storeIdHint = marketingTipRepository.findLatestStoreIdByUserId(userId).orElse(null);
+        // 요청 컨텍스트가 없으므로 사전 생성 작업에서만 사용자 토큰을 발급하여 명시적으로 전달
+        StoreWithMenuData storeWithMenuData = storeDataProvider.fetchStoreWithMenuData(userId, storeIdHint)
+                .contextWrite(StoreDataProvider.withAuthToken(jwtTokenProvider.generateAccessToken(userId)))
+                .block();
+
+        if (storeWithMenuData == null || storeWithMenuData.isDegraded()
+                || storeWithMenuData.getStoreData().getStoreId() == null) {
+            log.debug("매장 정보 조회 불가, 사전 생성 건너뜀: userId={}", userId);
+            return PrewarmResult.SKIPPED;
+        }
+
+        Long storeId = storeWithMenuData.getStoreData().getStoreId();
+        if (marketingTipRepository.findRecentByStoreId(storeId).isPresent()) {
+            log.debug("재사용 가능한 마케팅 팁 존재, 사전 생성 건너뜀: storeId={}", storeId);
+            return PrewarmResult.FRESH;
+        }
+
+        marketingTipService.generateMarketingTip(userId, storeWithMenuData);
+        log.debug("마케팅 팁 사전 생성 완료: userId={}, storeId={}", userId, storeId);
+        return PrewarmResult.GENERATED;
+    }
+
+    private enum PrewarmResult {
+        GENERATED("generated"),
+        FRESH("fresh"),
+        SKIPPED("skipped"),
+        FAILED("failed");
+
+        private final String tag;
+
+        PrewarmResult(String tag) {
+            this.tag = tag;
+        }
+
+        String getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.won.smarketing.recommend.application.service;
+
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.model.TipInputFingerprint;
+import com.won.smarketing.recommend.domain.repository.MarketingTipRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 입력 변화 없는 매장의 마케팅 팁 순환 재사용
+ * 재사용 기간(1시간)이 지나도 AI에 보내는 매장/메뉴 정보가 그대로면, 같은 입력 지문으로 만든 이전 팁 중
+ * 가장 오래전에 제공한 팁을 다시 제공하여 AI 호출을 생략
+ * 지문별로 서로 다른 팁이 설정 개수(variants)만큼 쌓일 때까지는 새로 생성
+ * 후보는 본문 생성 시각이 horizon-hours 이내인 팁만 사용하므로, 입력이 바뀌지 않아도 주기적으로 새로 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketingTipRotation {
+
+    private static final String REUSE_METRIC = "marketing_tip.fingerprint_reuse";
+    private static final int CANDIDATE_ROWS_PER_VARIANT = 8;
+
+    private final MarketingTipRepository marketingTipRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${marketing-tip.fingerprint-reuse.enabled:true}")
+    private boolean enabled;
+
+    @Value("${marketing-tip.fingerprint-reuse.horizon-hours:168}")
+    private long horizonHours;
+
+    @Value("${marketing-tip.fingerprint-reuse.variants:3}")
+    private int variants;
+
+    /**
+     * 저장할 팁의 입력 지문 (대체 데이터나 규칙 기반 팁은 재사용 대상이 아니므로 null)
+     */
+    public String fingerprintOf(StoreWithMenuData storeWithMenuData, boolean fallbackTip) {
+        if (fallbackTip || storeWithMenuData.isDegraded()) {
+            return null;
+        }
+        return TipInputFingerprint.of(storeWithMenuData);
+    }
+
+    /**
+     * 다시 제공할 이전 마케팅 팁 선택
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @return 다시 제공할 팁 (새로 생성해야 하면 empty)
+     */
+    public Optional<MarketingTip> selectReusableTip(StoreWithMenuData storeWithMenuData) {
+        return candidateQuery(storeWithMenuData)
+                .flatMap(query -> choose(query, marketingTipRepository.findByInputFingerprintSince(
+                        query.storeId(), query.inputFingerprint(), query.since(), query.limit())));
+    }
+
+    /**
+     * 재사용 후보 조회 조건 (재사용하지 않는 경우 empty)
+     */
+    public Optional<CandidateQuery> candidateQuery(StoreWithMenuData storeWithMenuData) {
+        Long storeId = storeWithMenuData.getStoreData().getStoreId();
+        if (!enabled || storeId == null || storeWithMenuData.isDegraded()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CandidateQuery(storeId, TipInputFingerprint.of(storeWithMenuData),
+                LocalDateTime.now().minusHours(horizonHours), variants * CANDIDATE_ROWS_PER_VARIANT));
+    }
+
+    /**
+     * 같은 입력 지문의 후보(최신순) 중 가장 오래전에 제공한 팁 선택
+     *
+     * @param query 후보 조회 조건
+     * @param candidates 후보 팁 (최신순)
+     * @return 다시 제공할 팁 (서로 다른 팁이 부족하면 empty)
+     */
+    public Optional<MarketingTip> choose(CandidateQuery query, List<MarketingTip> candidates) {
+        // 최근 제공 순서로 서로 다른 본문만 남김
+        Map<String, MarketingTip> latestByContent = new LinkedHashMap<>();
+        for (MarketingTip candidate : candidates) {
+            if (candidate.getTipContent() != null) {
+                latestByContent.putIfAbsent(candidate.getTipContent(), candidate);
+            }
+        }
+
+        if (latestByContent.size() < variants) {
+            log.debug("재사용 가능한 마케팅 팁 부족, 새로 생성: storeId={}, variants={}/{}",
+                    query.storeId(), latestByContent.size(), variants);
+            meterRegistry.counter(REUSE_METRIC, "result", "generate").increment();
+            return Optional.empty();
+        }
+
+        List<MarketingTip> rotation = new ArrayList<>(latestByContent.values());
+        MarketingTip selected = rotation.get(rotation.size() - 1);
+        log.info("입력 변화 없는 매장, 이전 마케팅 팁 재사용: storeId={}, tipId={}",
+                query.storeId(), selected.getId().getValue());
+        meterRegistry.counter(REUSE_METRIC, "result", "reuse").increment();
+        return Optional.of(selected);
+    }
+
+    /**
+     * 재사용 후보 조회 조건
+     */
+    public record CandidateQuery(Long storeId, String inputFingerprint, LocalDateTime since, int limit) {
+    }
+}
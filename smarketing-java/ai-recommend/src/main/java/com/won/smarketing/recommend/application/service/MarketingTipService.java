@@ -3,22 +3,32 @@ package com.won.smarketing.recommend.application.service;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
 import com.won.smarketing.recommend.application.usecase.MarketingTipUseCase;
+import com.won.smarketing.recommend.application.service.MarketingTipMetrics.Phase;
 import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.MarketingTipCursor;
+import com.won.smarketing.recommend.domain.model.MarketingTipRequest;
+import com.won.smarketing.recommend.domain.model.MarketingTipStatus;
+import com.won.smarketing.recommend.domain.model.MarketingTipSummary;
 import com.won.smarketing.recommend.domain.model.MenuData;
 import com.won.smarketing.recommend.domain.model.StoreData;
 import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
 import com.won.smarketing.recommend.domain.repository.MarketingTipRepository;
 import com.won.smarketing.recommend.domain.service.AiTipGenerator;
+import com.won.smarketing.recommend.domain.service.AsyncMarketingTipGenerator;
 import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipHistoryResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipRequestResponse;
 import com.won.smarketing.recommend.presentation.dto.MarketingTipResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipStreamEvent;
+import io.micrometer.core.instrument.Timer;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,18 +40,26 @@ import java.util.Optional;
 @Transactional
 public class MarketingTipService implements MarketingTipUseCase {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 50;
+
     private final MarketingTipRepository marketingTipRepository;
     private final StoreDataProvider storeDataProvider;
     private final AiTipGenerator aiTipGenerator;
+    private final MarketingTipCoalescer marketingTipCoalescer;
+    private final AsyncMarketingTipGenerator asyncMarketingTipGenerator;
+    private final TipSummaryExtractor tipSummaryExtractor;
+    private final MarketingTipRotation marketingTipRotation;
+    private final MarketingTipMetrics marketingTipMetrics;
 
     @Override
     public MarketingTipResponse provideMarketingTip() {
         String userId = getCurrentUserId();
         log.info("마케팅 팁 제공: userId={}", userId);
+        Timer.Sample requestSample = marketingTipMetrics.startRequest();
 
         try {
             // 1. 사용자의 매장 정보 조회
-            StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(userId);
+            StoreWithMenuData storeWithMenuData = fetchStoreWithMenuData(userId);
 
             // 2. 1시간 이내에 생성된 마케팅 팁이 있는지 DB에서 확인
             Optional<MarketingTip> recentTip = findRecentMarketingTip(storeWithMenuData.getStoreData().getStoreId());
@@ -49,260 +67,302 @@ public class MarketingTipService implements MarketingTipUseCase {
             if (recentTip.isPresent()) {
                 log.info("1시간 이내에 생성된 마케팅 팁 발견: tipId={}", recentTip.get().getId().getValue());
                 log.info("1시간 이내에 생성된 마케팅 팁 발견: getTipContent()={}", recentTip.get().getTipContent());
+                marketingTipMetrics.stopRequest(requestSample, MarketingTipMetrics.RECENT);
                 return convertToResponse(recentTip.get(), storeWithMenuData.getStoreData(), true);
             }
 
-            // 3. 1시간 이내 팁이 없으면 새로 생성
-            log.info("1시간 이내 마케팅 팁이 없어 새로 생성합니다: userId={}, storeId={}", userId, storeWithMenuData.getStoreData().getStoreId());
-            MarketingTip newTip = createNewMarketingTip(storeWithMenuData);
+            // 3. 1시간 이내 팁이 없으면 새로 생성 (같은 매장의 동시 요청은 한 번만 생성)
+            Long storeId = storeWithMenuData.getStoreData().getStoreId();
+            log.info("1시간 이내 마케팅 팁이 없어 새로 생성합니다: userId={}, storeId={}", userId, storeId);
+            MarketingTip newTip = marketingTipCoalescer.coalesce(storeId,
+                    () -> findRecentMarketingTip(storeId),
+                    () -> createNewMarketingTip(userId, storeWithMenuData));
+            marketingTipMetrics.stopRequest(requestSample, MarketingTipMetrics.GENERATED);
             return convertToResponse(newTip, storeWithMenuData.getStoreData(), false);
 
         } catch (Exception e) {
+            marketingTipMetrics.stopRequest(requestSample, MarketingTipMetrics.ERROR);
             log.error("마케팅 팁 조회/생성 중 오류: userId={}", userId, e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
 
-    /**
-     * DB에서 1시간 이내 생성된 마케팅 팁 조회
-     */
-    private Optional<MarketingTip> findRecentMarketingTip(Long storeId) {
-        log.debug("DB에서 1시간 이내 마케팅 팁 조회: storeId={}", storeId);
+    @Override
+    public Flux<MarketingTipStreamEvent> streamMarketingTip() {
+        String userId = getCurrentUserId();
+        log.info("마케팅 팁 스트리밍 제공: userId={}", userId);
 
-        // 최근 생성된 팁 1개 조회
-        Pageable pageable = PageRequest.of(0, 1);
-        Page<MarketingTip> recentTips = marketingTipRepository.findByStoreIdOrderByCreatedAtDesc(storeId, pageable);
+        // 매장 조회와 재사용 확인은 사용자 토큰이 있는 요청 스레드에서 처리
+        StoreWithMenuData storeWithMenuData = fetchStoreWithMenuData(userId);
+        StoreData storeData = storeWithMenuData.getStoreData();
+        Long storeId = storeData.getStoreId();
 
-        if (recentTips.isEmpty()) {
-            log.debug("매장의 마케팅 팁이 존재하지 않음: storeId={}", storeId);
-            return Optional.empty();
+        Optional<MarketingTip> recentTip = findRecentMarketingTip(storeId);
+        if (recentTip.isPresent()) {
+            return Flux.just(MarketingTipStreamEvent.completed(convertToResponse(recentTip.get(), storeData, true)));
         }
 
-        MarketingTip mostRecentTip = recentTips.getContent().get(0);
-        LocalDateTime oneHourAgo = LocalDateTime.now().minusHours(1);
+        Optional<MarketingTip> reusedTip = reuseMarketingTip(userId, storeWithMenuData);
+        if (reusedTip.isPresent()) {
+            return Flux.just(MarketingTipStreamEvent.completed(convertToResponse(reusedTip.get(), storeData, false)));
+        }
 
-        // 1시간 이내에 생성된 팁인지 확인
-        if (mostRecentTip.getCreatedAt().isAfter(oneHourAgo)) {
-            log.debug("1시간 이내 마케팅 팁 발견: tipId={}, 생성시간={}",
-                    mostRecentTip.getId().getValue(), mostRecentTip.getCreatedAt());
-            return Optional.of(mostRecentTip);
+        Optional<String> leaseToken = marketingTipCoalescer.tryAcquireStreamLease(storeId);
+        if (leaseToken.isEmpty()) {
+            // 같은 매장을 생성 중인 요청이 있으면 그 결과를 기다려 한 번에 전달
+            log.info("같은 매장의 마케팅 팁 생성 중, 완료 후 전달: storeId={}", storeId);
+            return Mono.fromCallable(() -> generateMarketingTip(userId, storeWithMenuData))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .map(tip -> MarketingTipStreamEvent.completed(convertToResponse(tip, storeData, false)))
+                    .onErrorResume(e -> Mono.just(streamError(userId, e)))
+                    .flux();
         }
 
-        log.debug("가장 최근 팁이 1시간 이전에 생성됨: tipId={}, 생성시간={}",
-                mostRecentTip.getId().getValue(), mostRecentTip.getCreatedAt());
-        return Optional.empty();
+        StringBuilder assembledTip = new StringBuilder();
+        return aiTipGenerator.streamTip(storeWithMenuData)
+                .doOnNext(assembledTip::append)
+                .map(MarketingTipStreamEvent::chunk)
+                .concatWith(Mono.fromCallable(() -> saveMarketingTip(userId, storeWithMenuData, assembledTip.toString(),
+                                aiTipGenerator.isFallbackTip(storeWithMenuData, assembledTip.toString())))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .map(tip -> MarketingTipStreamEvent.completed(convertToResponse(tip, storeData, false))))
+                .onErrorResume(e -> Mono.just(streamError(userId, e)))
+                .doFinally(signal -> marketingTipCoalescer.releaseStreamLease(storeId, leaseToken.get()));
     }
 
-    /**
-     * 새로운 마케팅 팁 생성
-     */
-    private MarketingTip createNewMarketingTip(StoreWithMenuData storeWithMenuData) {
-        log.info("새로운 마케팅 팁 생성 시작: storeName={}", storeWithMenuData.getStoreData().getStoreName());
+    @Override
+    public MarketingTipRequestResponse requestMarketingTip() {
+        String userId = getCurrentUserId();
+        log.info("마케팅 팁 비동기 생성 요청: userId={}", userId);
 
-        // AI 서비스로 팁 생성
-        String aiGeneratedTip = aiTipGenerator.generateTip(storeWithMenuData);
-        log.debug("AI 팁 생성 완료: {}", aiGeneratedTip.substring(0, Math.min(50, aiGeneratedTip.length())));
+        try {
+            // 매장 정보는 사용자 토큰이 있는 요청 스레드에서 조회하여 이벤트에 담음
+            StoreWithMenuData storeWithMenuData = fetchStoreWithMenuData(userId);
+            String requestId = asyncMarketingTipGenerator.requestMarketingTip(userId, storeWithMenuData);
+
+            return MarketingTipRequestResponse.builder()
+                    .requestId(requestId)
+                    .status(MarketingTipStatus.PROCESSING.name())
+                    .requestedAt(LocalDateTime.now())
+                    .build();
+
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("마케팅 팁 비동기 생성 요청 중 오류: userId={}", userId, e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
 
-        String tipSummary = generateTipSummary(aiGeneratedTip);
+    @Override
+    public MarketingTipRequestResponse getMarketingTipRequest(String requestId) {
+        String userId = getCurrentUserId();
 
-        // 도메인 객체 생성 및 저장
-        MarketingTip marketingTip = MarketingTip.builder()
-                .storeId(storeWithMenuData.getStoreData().getStoreId())
-                .tipSummary(tipSummary)
-                .tipContent(aiGeneratedTip)
-                .storeWithMenuData(storeWithMenuData)
-                .createdAt(LocalDateTime.now())
+        MarketingTipRequest request = asyncMarketingTipGenerator.getMarketingTipRequest(requestId)
+                .filter(found -> found.isOwnedBy(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.MARKETING_TIP_REQUEST_NOT_FOUND));
+
+        MarketingTipResponse marketingTip = null;
+        if (request.getStatus() == MarketingTipStatus.COMPLETED && request.getTipId() != null) {
+            StoreData storeData = StoreData.builder()
+                    .storeId(request.getStoreId())
+                    .storeName(request.getStoreName())
+                    .businessType(request.getBusinessType())
+                    .location(request.getLocation())
+                    .build();
+            marketingTip = marketingTipRepository.findById(request.getTipId())
+                    .map(tip -> convertToResponse(tip, storeData, false))
+                    .orElse(null);
+        }
+
+        return MarketingTipRequestResponse.builder()
+                .requestId(request.getRequestId())
+                .status(request.getStatus().name())
+                .errorMessage(request.getErrorMessage())
+                .requestedAt(request.getRequestedAt())
+                .completedAt(request.getCompletedAt())
+                .marketingTip(marketingTip)
                 .build();
+    }
 
-        MarketingTip savedTip = marketingTipRepository.save(marketingTip);
-        log.info("새로운 마케팅 팁 저장 완료: tipId={}", savedTip.getId().getValue());
-        log.info("새로운 마케팅 팁 저장 완료: savedTip.getTipContent()={}", savedTip.getTipContent());
+    @Override
+    public MarketingTipHistoryResponse getMarketingTipHistory(String cursor, int size) {
+        String userId = getCurrentUserId();
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        MarketingTipCursor after = parseHistoryCursor(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MarketingTipSummary> summaries = marketingTipRepository.findHistoryByUserId(userId, after, pageSize + 1);
+        boolean hasNext = summaries.size() > pageSize;
+        List<MarketingTipSummary> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+
+        List<MarketingTipHistoryResponse.Item> tips = page.stream()
+                .map(summary -> MarketingTipHistoryResponse.Item.builder()
+                        .tipId(summary.getId().getValue())
+                        .storeId(summary.getStoreId())
+                        .tipSummary(summary.getTipSummary())
+                        .createdAt(summary.getCreatedAt())
+                        .build())
+                .toList();
 
-        return savedTip;
+        return MarketingTipHistoryResponse.builder()
+                .tips(tips)
+                .nextCursor(hasNext ? MarketingTipCursor.from(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 마케팅 팁을 응답 DTO로 변환 (전체 내용 포함)
+     * 사용자 매장의 마케팅 팁 생성 (비동기 워커용)
+     * 1시간 이내 팁이 있으면 재사용하고, 없으면 매장 단위로 합쳐서 생성
      */
-    private MarketingTipResponse convertToResponse(MarketingTip marketingTip, StoreData storeData, boolean isRecentlyCreated) {
+    public MarketingTip generateMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        Long storeId = storeWithMenuData.getStoreData().getStoreId();
 
-        return MarketingTipResponse.builder()
-                .tipId(marketingTip.getId().getValue())
-                .tipSummary(marketingTip.getTipSummary())
-                .tipContent(marketingTip.getTipContent())  // 🆕 전체 내용 포함
-                .storeInfo(MarketingTipResponse.StoreInfo.builder()
-                        .storeName(storeData.getStoreName())
-                        .businessType(storeData.getBusinessType())
-                        .location(storeData.getLocation())
-                        .build())
-                .createdAt(marketingTip.getCreatedAt())
-                .updatedAt(marketingTip.getUpdatedAt())
-                .isRecentlyCreated(isRecentlyCreated)
-                .build();
+        return findRecentMarketingTip(storeId)
+                .orElseGet(() -> marketingTipCoalescer.coalesce(storeId,
+                        () -> findRecentMarketingTip(storeId),
+                        () -> createNewMarketingTip(userId, storeWithMenuData)));
     }
 
     /**
-     * 마케팅 팁 요약 생성 (핵심 마케팅 팁 섹션에서 첫 번째 문장 추출)
-     *
-     * @param fullContent AI로 생성된 전체 마케팅 팁 HTML 콘텐츠
-     * @return 핵심 마케팅 팁의 첫 번째 문장
+     * 매장 및 메뉴 정보 조회
+     * 이전 팁의 매장 ID를 힌트로 넘겨 매장 정보와 메뉴 정보를 병렬로 조회
      */
-    private String generateTipSummary(String fullContent) {
-        if (fullContent == null || fullContent.trim().isEmpty()) {
-            return "마케팅 팁이 생성되었습니다.";
-        }
-
-        try {
-            // 1. "✨ 핵심 마케팅 팁" 섹션 추출
-            String coreSection = extractCoreMarketingTipSection(fullContent);
-
-            if (coreSection != null && !coreSection.trim().isEmpty()) {
-                // 2. HTML 태그 제거
-                String cleanText = removeHtmlTags(coreSection);
-
-                // 3. 첫 번째 의미있는 문장 추출
-                String summary = extractFirstMeaningfulSentence(cleanText);
-
-                // 4. 길이 제한 (100자 이내)
-                if (summary.length() > 100) {
-                    summary = summary.substring(0, 97) + "...";
-                }
+    private StoreWithMenuData fetchStoreWithMenuData(String userId) {
+        return marketingTipMetrics.record(Phase.STORE_FETCH, () -> {
+            Long storeIdHint = marketingTipRepository.findLatestStoreIdByUserId(userId).orElse(null);
+            return storeDataProvider.fetchStoreWithMenuData(userId, storeIdHint).block();
+        }, data -> data.isDegraded() ? MarketingTipMetrics.DEGRADED : MarketingTipMetrics.SUCCESS);
+    }
 
-                return summary;
-            }
+    /**
+     * 1시간 이내 생성된 마케팅 팁 조회 (캐시 → DB 순서)
+     */
+    private Optional<MarketingTip> findRecentMarketingTip(Long storeId) {
+        log.debug("1시간 이내 마케팅 팁 조회: storeId={}", storeId);
 
-            // 핵심 팁 섹션을 찾지 못한 경우 fallback 처리
-            return extractFallbackSummary(fullContent);
+        Optional<MarketingTip> recentTip = marketingTipMetrics.record(Phase.RECENT_LOOKUP,
+                () -> marketingTipRepository.findRecentByStoreId(storeId),
+                found -> found.isPresent() ? MarketingTipMetrics.HIT : MarketingTipMetrics.MISS);
 
-        } catch (Exception e) {
-            log.warn("마케팅 팁 요약 생성 중 오류 발생, 기본 메시지 반환: {}", e.getMessage());
-            return "맞춤형 마케팅 팁이 생성되었습니다.";
+        if (recentTip.isEmpty()) {
+            log.debug("1시간 이내 생성된 마케팅 팁이 없음: storeId={}", storeId);
+            return Optional.empty();
         }
+
+        log.debug("1시간 이내 마케팅 팁 발견: tipId={}, 생성시간={}",
+                recentTip.get().getId().getValue(), recentTip.get().getCreatedAt());
+        return recentTip;
     }
 
     /**
-     * "✨ 핵심 마케팅 팁" 섹션 추출
+     * 새로운 마케팅 팁 생성
      */
-    private String extractCoreMarketingTipSection(String fullContent) {
-        // 핵심 마케팅 팁 섹션 시작 패턴들
-        String[] corePatterns = {
-                "✨ 핵심 마케팅 팁",
-                "<h3>✨ 핵심 마케팅 팁</h3>",
-                "핵심 마케팅 팁"
-        };
-
-        // 다음 섹션 시작 패턴들
-        String[] nextSectionPatterns = {
-                "🚀 실행 방법",
-                "<h3>🚀 실행 방법</h3>",
-                "💰 예상 비용",
-                "<h3>💰 예상 비용"
-        };
-
-        for (String pattern : corePatterns) {
-            int startIndex = fullContent.indexOf(pattern);
-            if (startIndex != -1) {
-                // 패턴 뒤부터 시작
-                int contentStart = startIndex + pattern.length();
-
-                // 다음 섹션까지의 내용 추출
-                int endIndex = fullContent.length();
-                for (String nextPattern : nextSectionPatterns) {
-                    int nextIndex = fullContent.indexOf(nextPattern, contentStart);
-                    if (nextIndex != -1 && nextIndex < endIndex) {
-                        endIndex = nextIndex;
-                    }
-                }
-
-                return fullContent.substring(contentStart, endIndex).trim();
-            }
+    private MarketingTip createNewMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        Optional<MarketingTip> reusedTip = reuseMarketingTip(userId, storeWithMenuData);
+        if (reusedTip.isPresent()) {
+            return reusedTip.get();
         }
 
-        return null;
+        log.info("새로운 마케팅 팁 생성 시작: storeName={}", storeWithMenuData.getStoreData().getStoreName());
+
+        // AI 서비스로 팁 생성 (실패 시 규칙 기반 팁)
+        GeneratedTip generatedTip = marketingTipMetrics.record(Phase.AI_GENERATION, () -> {
+            String tip = aiTipGenerator.generateTip(storeWithMenuData);
+            return new GeneratedTip(tip, aiTipGenerator.isFallbackTip(storeWithMenuData, tip));
+        }, tip -> tip.fallback() ? MarketingTipMetrics.FALLBACK : MarketingTipMetrics.SUCCESS);
+        String aiGeneratedTip = generatedTip.content();
+        log.debug("AI 팁 생성 완료: {}", aiGeneratedTip.substring(0, Math.min(50, aiGeneratedTip.length())));
+
+        return saveMarketingTip(userId, storeWithMenuData, aiGeneratedTip, generatedTip.fallback());
     }
 
     /**
-     * HTML 태그 제거
+     * 매장/메뉴 정보가 바뀌지 않았으면 이전 팁을 새 제공 이력으로 저장 (AI 호출 생략)
+     * 생성 시각은 원본 팁 값을 그대로 유지하여, 재사용이 재사용 기간(horizon)을 다시 늘리지 않게 함
      */
-    private String removeHtmlTags(String htmlText) {
-        if (htmlText == null) return "";
-
-        return htmlText
-                .replaceAll("<[^>]+>", "")  // HTML 태그 제거
-                .replaceAll("&nbsp;", " ")  // HTML 엔티티 처리
-                .replaceAll("&lt;", "<")
-                .replaceAll("&gt;", ">")
-                .replaceAll("&amp;", "&")
-                .replaceAll("\\s+", " ")    // 연속된 공백을 하나로
-                .trim();
+    private Optional<MarketingTip> reuseMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        return marketingTipRotation.selectReusableTip(storeWithMenuData)
+                .map(previousTip -> persist(MarketingTip.builder()
+                        .storeId(storeWithMenuData.getStoreData().getStoreId())
+                        .tipSummary(previousTip.getTipSummary())
+                        .tipContent(previousTip.getTipContent())
+                        .inputFingerprint(previousTip.getInputFingerprint())
+                        .storeWithMenuData(storeWithMenuData)
+                        .createdAt(LocalDateTime.now())
+                        .generatedAt(previousTip.getGeneratedAt())
+                        .build(), userId));
     }
 
     /**
-     * 첫 번째 의미있는 문장 추출
+     * AI가 생성한 마케팅 팁 저장
      */
-    private String extractFirstMeaningfulSentence(String cleanText) {
-        if (cleanText == null || cleanText.trim().isEmpty()) {
-            return "마케팅 팁이 생성되었습니다.";
+    private MarketingTip saveMarketingTip(String userId, StoreWithMenuData storeWithMenuData,
+                                          String aiGeneratedTip, boolean fallbackTip) {
+        String tipSummary = marketingTipMetrics.record(Phase.SUMMARY,
+                () -> tipSummaryExtractor.summarize(aiGeneratedTip), summary -> MarketingTipMetrics.SUCCESS);
+        if (fallbackTip) {
+            marketingTipMetrics.countFallback();
         }
 
-        // 문장 분할 (마침표, 느낌표, 물음표 기준)
-        String[] sentences = cleanText.split("[.!?]");
-
-        for (String sentence : sentences) {
-            String trimmed = sentence.trim();
-
-            // 의미있는 문장인지 확인 (10자 이상, 특수문자만으로 구성되지 않음)
-            if (trimmed.length() >= 10 &&
-                    !trimmed.matches("^[\\s\\p{Punct}]*$") &&  // 공백과 구두점만으로 구성되지 않음
-                    !isOnlyEmojisOrSymbols(trimmed)) {         // 이모지나 기호만으로 구성되지 않음
+        // 도메인 객체 생성 및 저장
+        MarketingTip marketingTip = MarketingTip.builder()
+                .storeId(storeWithMenuData.getStoreData().getStoreId())
+                .tipSummary(tipSummary)
+                .tipContent(aiGeneratedTip)
+                .inputFingerprint(marketingTipRotation.fingerprintOf(storeWithMenuData, fallbackTip))
+                .storeWithMenuData(storeWithMenuData)
+                .createdAt(LocalDateTime.now())
+                .build();
 
-                // 문장 끝에 마침표 추가 (없는 경우)
-                if (!trimmed.endsWith(".") && !trimmed.endsWith("!") && !trimmed.endsWith("?")) {
-                    trimmed += ".";
-                }
+        MarketingTip savedTip = persist(marketingTip, userId);
+        log.info("새로운 마케팅 팁 저장 완료: tipId={}", savedTip.getId().getValue());
+        log.info("새로운 마케팅 팁 저장 완료: savedTip.getTipContent()={}", savedTip.getTipContent());
 
-                return trimmed;
-            }
-        }
+        return savedTip;
+    }
 
-        // 의미있는 문장을 찾지 못한 경우 원본의 처음 50자 반환
-        if (cleanText.length() > 50) {
-            return cleanText.substring(0, 47) + "...";
-        }
+    private MarketingTip persist(MarketingTip marketingTip, String userId) {
+        return marketingTipMetrics.record(Phase.PERSISTENCE,
+                () -> marketingTipRepository.save(marketingTip, userId), saved -> MarketingTipMetrics.SUCCESS);
+    }
 
-        return cleanText;
+    private MarketingTipStreamEvent streamError(String userId, Throwable e) {
+        log.error("마케팅 팁 스트리밍 생성 중 오류: userId={}", userId, e);
+        return MarketingTipStreamEvent.error(ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
     }
 
     /**
-     * 이모지나 기호만으로 구성되었는지 확인
+     * 마케팅 팁을 응답 DTO로 변환 (전체 내용 포함, 리액티브 실행 모드와 공유)
      */
-    private boolean isOnlyEmojisOrSymbols(String text) {
-        // 한글, 영문, 숫자가 포함되어 있으면 의미있는 텍스트로 판단
-        return !text.matches(".*[\\p{L}\\p{N}].*");
+    static MarketingTipResponse convertToResponse(MarketingTip marketingTip, StoreData storeData, boolean isRecentlyCreated) {
+
+        return MarketingTipResponse.builder()
+                .tipId(marketingTip.getId().getValue())
+                .tipSummary(marketingTip.getTipSummary())
+                .tipContent(marketingTip.getTipContent())  // 🆕 전체 내용 포함
+                .storeInfo(MarketingTipResponse.StoreInfo.builder()
+                        .storeName(storeData.getStoreName())
+                        .businessType(storeData.getBusinessType())
+                        .location(storeData.getLocation())
+                        .build())
+                .createdAt(marketingTip.getCreatedAt())
+                .updatedAt(marketingTip.getUpdatedAt())
+                .isRecentlyCreated(isRecentlyCreated)
+                .build();
     }
 
-    /**
-     * 핵심 팁 섹션을 찾지 못한 경우 대체 요약 생성
-     */
-    private String extractFallbackSummary(String fullContent) {
-        // HTML 태그 제거 후 첫 번째 의미있는 문장 찾기
-        String cleanContent = removeHtmlTags(fullContent);
-
-        // 첫 번째 문단에서 의미있는 문장 추출
-        String[] paragraphs = cleanContent.split("\\n\\n");
-
-        for (String paragraph : paragraphs) {
-            String trimmed = paragraph.trim();
-            if (trimmed.length() >= 20) {  // 충분히 긴 문단
-                String summary = extractFirstMeaningfulSentence(trimmed);
-                if (summary.length() >= 10) {
-                    return summary;
-                }
-            }
+    private MarketingTipCursor parseHistoryCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return MarketingTipCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 마케팅 팁 이력 커서: cursor={}", cursor);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
-
-        // 모든 방법이 실패한 경우 기본 메시지
-        return "개인화된 마케팅 팁이 생성되었습니다.";
     }
 
     /**
@@ -311,4 +371,10 @@ public class MarketingTipService implements MarketingTipUseCase {
     private String getCurrentUserId() {
         return SecurityContextHolder.getContext().getAuthentication().getName();
     }
-}
\ No newline at end of file
+
+    /**
+     * AI 생성 결과와 규칙 기반 대체 팁 여부 (리액티브 실행 모드와 공유)
+     */
+    record GeneratedTip(String content, boolean fallback) {
+    }
+}
@@ -0,0 +1,201 @@
+package com.won.smarketing.recommend.application.service;
+
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.recommend.application.service.MarketingTipMetrics.Phase;
+import com.won.smarketing.recommend.application.service.MarketingTipService.GeneratedTip;
+import com.won.smarketing.recommend.application.usecase.ReactiveMarketingTipUseCase;
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.StoreData;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.repository.ReactiveMarketingTipRepository;
+import com.won.smarketing.recommend.domain.service.AiTipGenerator;
+import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipResponse;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 마케팅 팁 리액티브 실행 모드 서비스
+ * 요청 스레드를 점유하지 않고 매장 조회(WebClient) → 팁 조회(R2DBC) → AI 호출(WebClient) → 저장(R2DBC)을 연결
+ * 같은 매장의 동시 생성은 인스턴스 안에서만 합침 (인스턴스 간 Redis 리스는 블로킹 경로에서만 사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marketing-tip.reactive.enabled", havingValue = "true")
+public class ReactiveMarketingTipService implements ReactiveMarketingTipUseCase {
+
+    private final ReactiveMarketingTipRepository reactiveMarketingTipRepository;
+    private final StoreDataProvider storeDataProvider;
+    private final AiTipGenerator aiTipGenerator;
+    private final TipSummaryExtractor tipSummaryExtractor;
+    private final MarketingTipRotation marketingTipRotation;
+    private final MarketingTipMetrics marketingTipMetrics;
+
+    private final ConcurrentMap<Long, Mono<MarketingTip>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<MarketingTipResponse> provideMarketingTip() {
+        return getCurrentUserId().flatMap(userId -> {
+            log.info("마케팅 팁 제공 (리액티브): userId={}", userId);
+            Timer.Sample requestSample = marketingTipMetrics.startRequest();
+
+            return fetchStoreWithMenuData(userId)
+                    .flatMap(storeWithMenuData -> provideMarketingTip(userId, storeWithMenuData))
+                    .doOnSuccess(response -> marketingTipMetrics.stopRequest(requestSample, response.isRecentlyCreated()
+                            ? MarketingTipMetrics.RECENT : MarketingTipMetrics.GENERATED))
+                    .doOnError(e -> marketingTipMetrics.stopRequest(requestSample, MarketingTipMetrics.ERROR))
+                    .onErrorMap(e -> !(e instanceof BusinessException), e -> {
+                        log.error("마케팅 팁 조회/생성 중 오류: userId={}", userId, e);
+                        return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+                    });
+        });
+    }
+
+    private Mono<MarketingTipResponse> provideMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        StoreData storeData = storeWithMenuData.getStoreData();
+        Long storeId = storeData.getStoreId();
+
+        // 1시간 이내 팁이 있으면 재사용, 없으면 매장 단위로 합쳐서 생성
+        return findRecentMarketingTip(storeId)
+                .doOnNext(tip -> log.info("1시간 이내에 생성된 마케팅 팁 발견: tipId={}", tip.getId().getValue()))
+                .map(tip -> MarketingTipService.convertToResponse(tip, storeData, true))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("1시간 이내 마케팅 팁이 없어 새로 생성합니다: userId={}, storeId={}", userId, storeId);
+                    return coalesce(storeId, () -> createNewMarketingTip(userId, storeWithMenuData))
+                            .map(tip -> MarketingTipService.convertToResponse(tip, storeData, false));
+                }));
+    }
+
+    /**
+     * 매장 및 메뉴 정보 조회 (이전 팁의 매장 ID를 힌트로 넘겨 병렬 조회)
+     */
+    private Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId) {
+        Mono<StoreWithMenuData> storeWithMenuData = reactiveMarketingTipRepository.findLatestStoreIdByUserId(userId)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(storeIdHint -> storeDataProvider.fetchStoreWithMenuData(userId, storeIdHint.orElse(null)));
+
+        return marketingTipMetrics.record(Phase.STORE_FETCH, storeWithMenuData,
+                data -> data.isDegraded() ? MarketingTipMetrics.DEGRADED : MarketingTipMetrics.SUCCESS,
+                MarketingTipMetrics.ERROR);
+    }
+
+    /**
+     * 1시간 이내 생성된 마케팅 팁 조회 (캐시 → DB 순서)
+     */
+    private Mono<MarketingTip> findRecentMarketingTip(Long storeId) {
+        return marketingTipMetrics.record(Phase.RECENT_LOOKUP, reactiveMarketingTipRepository.findRecentByStoreId(storeId),
+                tip -> MarketingTipMetrics.HIT, MarketingTipMetrics.MISS);
+    }
+
+    /**
+     * 같은 매장의 동시 생성 요청은 먼저 시작된 생성 결과를 공유
+     */
+    private Mono<MarketingTip> coalesce(Long storeId, Supplier<Mono<MarketingTip>> generator) {
+        if (storeId == null) {
+            return generator.get();
+        }
+
+        // 앞선 요청이 방금 저장했을 수 있으므로 생성 전에 한 번 더 확인
+        Mono<MarketingTip> leader = findRecentMarketingTip(storeId)
+                .switchIfEmpty(Mono.defer(generator))
+                .cache();
+
+        Mono<MarketingTip> existing = inFlight.putIfAbsent(storeId, leader);
+        if (existing != null) {
+            log.debug("같은 매장의 마케팅 팁 생성 대기: storeId={}", storeId);
+            return existing;
+        }
+        return leader.doFinally(signal -> inFlight.remove(storeId, leader));
+    }
+
+    /**
+     * 새로운 마케팅 팁 생성 (입력 변화가 없으면 이전 팁 재사용)
+     */
+    private Mono<MarketingTip> createNewMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        return reuseMarketingTip(userId, storeWithMenuData)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.info("새로운 마케팅 팁 생성 시작: storeName={}", storeWithMenuData.getStoreData().getStoreName());
+                    Mono<GeneratedTip> generatedTip = aiTipGenerator.generateTipAsync(storeWithMenuData)
+                            .map(tip -> new GeneratedTip(tip, aiTipGenerator.isFallbackTip(storeWithMenuData, tip)));
+
+                    return marketingTipMetrics.record(Phase.AI_GENERATION, generatedTip,
+                                    tip -> tip.fallback() ? MarketingTipMetrics.FALLBACK : MarketingTipMetrics.SUCCESS,
+                                    MarketingTipMetrics.ERROR)
+                            .flatMap(tip -> saveMarketingTip(userId, storeWithMenuData, tip));
+                }));
+    }
+
+    /**
+     * 매장/메뉴 정보가 바뀌지 않았으면 이전 팁을 새 제공 이력으로 저장 (AI 호출 생략)
+     * 생성 시각은 원본 팁 값을 그대로 유지하여, 재사용이 재사용 기간(horizon)을 다시 늘리지 않게 함
+     */
+    private Mono<MarketingTip> reuseMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        return Mono.justOrEmpty(marketingTipRotation.candidateQuery(storeWithMenuData))
+                .flatMap(query -> reactiveMarketingTipRepository.findByInputFingerprintSince(
+                                query.storeId(), query.inputFingerprint(), query.since(), query.limit())
+                        .collectList()
+                        .flatMap(candidates -> Mono.justOrEmpty(marketingTipRotation.choose(query, candidates))))
+                .flatMap(previousTip -> persist(MarketingTip.builder()
+                        .storeId(storeWithMenuData.getStoreData().getStoreId())
+                        .tipSummary(previousTip.getTipSummary())
+                        .tipContent(previousTip.getTipContent())
+                        .inputFingerprint(previousTip.getInputFingerprint())
+                        .storeWithMenuData(storeWithMenuData)
+                        .createdAt(LocalDateTime.now())
+                        .generatedAt(previousTip.getGeneratedAt())
+                        .build(), userId));
+    }
+
+    /**
+     * AI가 생성한 마케팅 팁 저장
+     */
+    private Mono<MarketingTip> saveMarketingTip(String userId, StoreWithMenuData storeWithMenuData, GeneratedTip generatedTip) {
+        String tipSummary = marketingTipMetrics.record(Phase.SUMMARY,
+                () -> tipSummaryExtractor.summarize(generatedTip.content()), summary -> MarketingTipMetrics.SUCCESS);
+        if (generatedTip.fallback()) {
+            marketingTipMetrics.countFallback();
+        }
+
+        MarketingTip marketingTip = MarketingTip.builder()
+                .storeId(storeWithMenuData.getStoreData().getStoreId())
+                .tipSummary(tipSummary)
+                .tipContent(generatedTip.content())
+                .inputFingerprint(marketingTipRotation.fingerprintOf(storeWithMenuData, generatedTip.fallback()))
+                .storeWithMenuData(storeWithMenuData)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        return persist(marketingTip, userId)
+                .doOnNext(savedTip -> log.info("새로운 마케팅 팁 저장 완료: tipId={}", savedTip.getId().getValue()));
+    }
+
+    private Mono<MarketingTip> persist(MarketingTip marketingTip, String userId) {
+        return marketingTipMetrics.record(Phase.PERSISTENCE, reactiveMarketingTipRepository.save(marketingTip, userId),
+                saved -> MarketingTipMetrics.SUCCESS, MarketingTipMetrics.ERROR);
+    }
+
+    /**
+     * 현재 로그인된 사용자 ID 조회 (Reactor 컨텍스트 기준)
+     */
+    private Mono<String> getCurrentUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+                .flatMap(securityContext -> Mono.justOrEmpty(securityContext.getAuthentication()))
+                .map(Authentication::getName)
+                .switchIfEmpty(Mono.error(() -> new BusinessException(ErrorCode.ACCESS_DENIED)));
+    }
+}
@@ -0,0 +1,386 @@
+package com.won.smarketing.recommend.application.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마케팅 팁 요약 추출기
+ * AI가 생성한 HTML을 한 번만 훑으면서 태그 제거, 엔티티 변환, 공백 정리, 섹션 탐지, 문장 선택을 함께 처리
+ * 정규식을 사용하지 않으며 "✨ 핵심 마케팅 팁" 섹션에서 요약 문장을 찾으면 나머지 본문은 읽지 않음
+ *
+ * 요약 규칙
+ * 1. 핵심 마케팅 팁 섹션("🚀 실행 방법" 또는 "💰 예상 비용" 전까지)의 첫 번째 의미있는 문장 (100자 제한)
+ * 2. 섹션이 없거나 제목 뒤가 비어 있으면 전체 본문의 첫 번째 의미있는 문장
+ * 3. 의미있는 문장: 마침표/느낌표/물음표로 나눈 10자 이상의 문장 중 문자나 숫자를 포함한 문장
+ */
+@Slf4j
+@Component
+public class TipSummaryExtractor {
+
+    private static final String DEFAULT_SUMMARY = "마케팅 팁이 생성되었습니다.";
+    private static final String FALLBACK_SUMMARY = "개인화된 마케팅 팁이 생성되었습니다.";
+    private static final String ERROR_SUMMARY = "맞춤형 마케팅 팁이 생성되었습니다.";
+
+    private static final String CORE_SECTION_MARKER = "핵심 마케팅 팁";
+    private static final String[] NEXT_SECTION_MARKERS = {"🚀 실행 방법", "💰 예상 비용"};
+
+    private static final int MAX_SUMMARY_LENGTH = 100;
+    private static final int MIN_SENTENCE_LENGTH = 10;
+    private static final int MIN_FALLBACK_LENGTH = 20;
+    private static final int SHORT_TEXT_LENGTH = 50;
+
+    /**
+     * 마케팅 팁 요약 생성
+     *
+     * @param fullContent AI로 생성된 전체 마케팅 팁 HTML 콘텐츠
+     * @return 핵심 마케팅 팁의 첫 번째 문장
+     */
+    public String summarize(String fullContent) {
+        if (fullContent == null || fullContent.trim().isEmpty()) {
+            return DEFAULT_SUMMARY;
+        }
+
+        try {
+            return new Scan(fullContent).run();
+        } catch (Exception e) {
+            log.warn("마케팅 팁 요약 생성 중 오류 발생, 기본 메시지 반환: {}", e.getMessage());
+            return ERROR_SUMMARY;
+        }
+    }
+
+    /**
+     * 요약 한 건에 대한 스캔 상태
+     */
+    private static final class Scan {
+
+        private final String html;
+        private final SentenceCollector documentCollector = new SentenceCollector();
+        private final MarkerMatcher coreMarker = new MarkerMatcher(CORE_SECTION_MARKER);
+        private final MarkerMatcher[] nextSectionMarkers = new MarkerMatcher[NEXT_SECTION_MARKERS.length];
+
+        private SentenceCollector sectionCollector;
+        private boolean sectionClosed;
+        private boolean sectionHasMarkup;
+        private boolean pendingSpace;
+        private boolean emittedAny;
+
+        private Scan(String html) {
+            this.html = html;
+            for (int i = 0; i < NEXT_SECTION_MARKERS.length; i++) {
+                nextSectionMarkers[i] = new MarkerMatcher(NEXT_SECTION_MARKERS[i]);
+            }
+        }
+
+        private String run() {
+            int length = html.length();
+            // 닫는 '>'가 더 이상 없으면 이후의 '<'는 모두 일반 문자
+            boolean tagsPossible = true;
+            int i = 0;
+
+            while (i < length) {
+                char c = html.charAt(i);
+
+                if (c == '<' && tagsPossible) {
+                    int tagEnd = html.indexOf('>', i + 1);
+                    if (tagEnd == -1) {
+                        tagsPossible = false;
+                    } else if (tagEnd > i + 1) {
+                        markSectionMarkup();
+                        i = tagEnd + 1;
+                        continue;
+                    }
+                } else if (c == '&') {
+                    int consumed = decodeEntity(i);
+                    if (consumed > 0) {
+                        i += consumed;
+                        if (isSectionResolved()) {
+                            break;
+                        }
+                        continue;
+                    }
+                }
+
+                accept(c);
+                i++;
+                if (isSectionResolved()) {
+                    break;
+                }
+            }
+
+            return summary();
+        }
+
+        /**
+         * 지원하는 엔티티(&nbsp; &lt; &gt; &amp;)를 변환해 전달하고 소비한 길이 반환
+         */
+        private int decodeEntity(int index) {
+            if (html.startsWith("&nbsp;", index)) {
+                markSectionMarkup();
+                accept(' ');
+                return 6;
+            }
+            if (html.startsWith("&lt;", index)) {
+                markSectionMarkup();
+                accept('<');
+                return 4;
+            }
+            if (html.startsWith("&gt;", index)) {
+                markSectionMarkup();
+                accept('>');
+                return 4;
+            }
+            if (html.startsWith("&amp;", index)) {
+                markSectionMarkup();
+                accept('&');
+                return 5;
+            }
+            return 0;
+        }
+
+        /**
+         * 연속된 공백을 하나로 줄이고 앞뒤 공백을 버린 문자 흐름을 만듦
+         */
+        private void accept(char c) {
+            if (isWhitespace(c)) {
+                pendingSpace = emittedAny;
+                return;
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                emit(' ');
+            }
+            emittedAny = true;
+            emit(c);
+        }
+
+        private void emit(char c) {
+            documentCollector.accept(c);
+
+            if (sectionCollector == null) {
+                if (coreMarker.advance(c)) {
+                    sectionCollector = new SentenceCollector();
+                    for (MarkerMatcher marker : nextSectionMarkers) {
+                        marker.reset();
+                    }
+                }
+                return;
+            }
+
+            if (sectionClosed) {
+                return;
+            }
+
+            sectionCollector.accept(c);
+            for (MarkerMatcher marker : nextSectionMarkers) {
+                if (marker.advance(c)) {
+                    // 다음 섹션 제목은 핵심 팁 본문에서 제외
+                    sectionCollector.retract(marker.length());
+                    sectionClosed = true;
+                    return;
+                }
+            }
+        }
+
+        private void markSectionMarkup() {
+            if (sectionCollector != null && !sectionClosed) {
+                sectionHasMarkup = true;
+            }
+        }
+
+        /**
+         * 핵심 팁 섹션에 태그나 텍스트가 있는지 확인 (제목만 있고 비어 있으면 전체 본문 기준으로 요약)
+         */
+        private boolean hasSectionContent() {
+            return sectionCollector != null && (sectionHasMarkup || sectionCollector.length() > 0);
+        }
+
+        /**
+         * 핵심 팁 섹션만으로 요약이 결정되었는지 확인
+         */
+        private boolean isSectionResolved() {
+            return hasSectionContent() && (sectionClosed || sectionCollector.hasSentence());
+        }
+
+        private String summary() {
+            if (hasSectionContent()) {
+                String summary = sectionCollector.finish();
+                if (summary.length() > MAX_SUMMARY_LENGTH) {
+                    summary = summary.substring(0, MAX_SUMMARY_LENGTH - 3) + "...";
+                }
+                return summary;
+            }
+
+            // 핵심 팁 섹션을 찾지 못한 경우 전체 본문에서 추출
+            if (documentCollector.length() >= MIN_FALLBACK_LENGTH) {
+                return documentCollector.finish();
+            }
+            return FALLBACK_SUMMARY;
+        }
+
+        private static boolean isWhitespace(char c) {
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+    }
+
+    /**
+     * 정리된 문자 흐름에서 첫 번째 의미있는 문장을 찾는 수집기
+     * 문장을 찾지 못한 경우를 위해 앞부분(50자 기준)과 전체 길이도 함께 기록
+     */
+    private static final class SentenceCollector {
+
+        private final StringBuilder sentence = new StringBuilder();
+        private final StringBuilder head = new StringBuilder(SHORT_TEXT_LENGTH + 1);
+        private boolean sentenceHasLetterOrDigit;
+        private int length;
+        private String result;
+
+        private void accept(char c) {
+            if (length == 0 && c == ' ') {
+                return;
+            }
+            length++;
+            if (head.length() <= SHORT_TEXT_LENGTH) {
+                head.append(c);
+            }
+            if (result != null) {
+                return;
+            }
+
+            if (c == '.' || c == '!' || c == '?') {
+                completeSentence();
+                return;
+            }
+            sentence.append(c);
+            if (!sentenceHasLetterOrDigit && isLetterOrDigit(c)) {
+                sentenceHasLetterOrDigit = true;
+            }
+        }
+
+        /**
+         * 마지막으로 받은 문자들과 그 앞의 공백을 취소 (문장 구분 문자는 포함되지 않아야 함)
+         */
+        private void retract(int count) {
+            sentence.setLength(sentence.length() - count);
+            length -= count;
+            if (sentence.length() > 0 && sentence.charAt(sentence.length() - 1) == ' ') {
+                sentence.setLength(sentence.length() - 1);
+                length--;
+            }
+            if (head.length() > length) {
+                head.setLength(length);
+            }
+            sentenceHasLetterOrDigit = containsLetterOrDigit(sentence);
+        }
+
+        private boolean hasSentence() {
+            return result != null;
+        }
+
+        private int length() {
+            return length;
+        }
+
+        private String finish() {
+            if (result == null) {
+                completeSentence();
+            }
+            if (result != null) {
+                return result;
+            }
+
+            // 의미있는 문장을 찾지 못한 경우 앞부분 반환
+            if (length == 0) {
+                return DEFAULT_SUMMARY;
+            }
+            if (length > SHORT_TEXT_LENGTH) {
+                return head.substring(0, SHORT_TEXT_LENGTH - 3) + "...";
+            }
+            return head.toString();
+        }
+
+        private void completeSentence() {
+            int start = 0;
+            int end = sentence.length();
+            if (start < end && sentence.charAt(start) == ' ') {
+                start++;
+            }
+            if (start < end && sentence.charAt(end - 1) == ' ') {
+                end--;
+            }
+
+            if (end - start >= MIN_SENTENCE_LENGTH && sentenceHasLetterOrDigit) {
+                result = sentence.substring(start, end) + ".";
+            }
+            sentence.setLength(0);
+            sentenceHasLetterOrDigit = false;
+        }
+
+        private static boolean containsLetterOrDigit(CharSequence text) {
+            for (int i = 0; i < text.length(); i++) {
+                if (isLetterOrDigit(text.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isLetterOrDigit(char c) {
+            if (Character.isLetter(c)) {
+                return true;
+            }
+            int type = Character.getType(c);
+            return type == Character.DECIMAL_DIGIT_NUMBER
+                    || type == Character.LETTER_NUMBER
+                    || type == Character.OTHER_NUMBER;
+        }
+    }
+
+    /**
+     * 문자 흐름에서 고정 문자열 등장을 찾는 증분 매처 (KMP)
+     */
+    private static final class MarkerMatcher {
+
+        private final String marker;
+        private final int[] failure;
+        private int matched;
+
+        private MarkerMatcher(String marker) {
+            this.marker = marker;
+            this.failure = new int[marker.length()];
+            for (int i = 1, k = 0; i < marker.length(); i++) {
+                while (k > 0 && marker.charAt(i) != marker.charAt(k)) {
+                    k = failure[k - 1];
+                }
+                if (marker.charAt(i) == marker.charAt(k)) {
+                    k++;
+                }
+                failure[i] = k;
+            }
+        }
+
+        /**
+         * 문자 하나를 반영하고 문자열이 완성되었는지 반환
+         */
+        private boolean advance(char c) {
+            while (matched > 0 && marker.charAt(matched) != c) {
+                matched = failure[matched - 1];
+            }
+            if (marker.charAt(matched) == c) {
+                matched++;
+            }
+            if (matched == marker.length()) {
+                matched = failure[matched - 1];
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            matched = 0;
+        }
+
+        private int length() {
+            return marker.length();
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.won.smarketing.recommend.application.usecase;
 
+import com.won.smarketing.recommend.presentation.dto.MarketingTipHistoryResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipRequestResponse;
 import com.won.smarketing.recommend.presentation.dto.MarketingTipResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipStreamEvent;
+import reactor.core.publisher.Flux;
 
 public interface MarketingTipUseCase {
 
@@ -9,4 +13,27 @@ public interface MarketingTipUseCase {
      * 1시간 이내 팁이 있으면 기존 것 사용, 없으면 새로 생성
      */
     MarketingTipResponse provideMarketingTip();
-}
\ No newline at end of file
+
+    /**
+     * 마케팅 팁 스트리밍 제공
+     * 1시간 이내 팁이 있으면 바로 완료 이벤트, 없으면 생성 조각을 전달한 뒤 저장된 팁으로 완료
+     */
+    Flux<MarketingTipStreamEvent> streamMarketingTip();
+
+    /**
+     * 마케팅 팁 비동기 생성 요청
+     * 요청 ID를 즉시 반환하고 생성은 워커에서 처리
+     */
+    MarketingTipRequestResponse requestMarketingTip();
+
+    /**
+     * 마케팅 팁 비동기 생성 요청 상태/결과 조회
+     */
+    MarketingTipRequestResponse getMarketingTipRequest(String requestId);
+
+    /**
+     * 마케팅 팁 이력 조회
+     * 최신순 커서 페이지네이션으로 요약과 메타데이터만 반환
+     */
+    MarketingTipHistoryResponse getMarketingTipHistory(String cursor, int size);
+}
@@ -0,0 +1,18 @@
+package com.won.smarketing.recommend.application.usecase;
+
+import com.won.smarketing.recommend.presentation.dto.MarketingTipResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * 마케팅 팁 리액티브 실행 모드 유스케이스 (marketing-tip.reactive.enabled=true)
+ * 매장 조회, AI 호출, DB 조회/저장을 모두 논블로킹으로 처리
+ */
+public interface ReactiveMarketingTipUseCase {
+
+    /**
+     * 마케팅 팁 제공
+     * 1시간 이내 팁이 있으면 기존 것 사용, 없으면 새로 생성
+     * 사용자 정보는 Reactor 컨텍스트의 ReactiveSecurityContextHolder에서 조회
+     */
+    Mono<MarketingTipResponse> provideMarketingTip();
+}
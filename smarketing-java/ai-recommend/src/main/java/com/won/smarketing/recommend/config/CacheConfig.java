@@ -1,13 +1,63 @@
 package com.won.smarketing.recommend.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 /**
  * 캐시 설정
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
-    // 기본 Simple 캐시 사용
+
+    public static final String MARKETING_TIP_L1_CACHE = "marketingTipL1";
+
+    @Value("${marketing-tip.cache.local-max-size:10000}")
+    private long localMaxSize;
+
+    /**
+     * 매장별 최근 마케팅 팁 L1(로컬) 캐시
+     * 항목마다 팁 생성 시각 + 1시간에 만료되도록 설정
+     */
+    @Bean
+    public Cache<Long, MarketingTip> marketingTipLocalCache(MeterRegistry meterRegistry) {
+        Cache<Long, MarketingTip> cache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<Long, MarketingTip>() {
+                    @Override
+                    public long expireAfterCreate(Long storeId, MarketingTip tip, long currentTime) {
+                        return remainingNanos(tip);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long storeId, MarketingTip tip, long currentTime, long currentDuration) {
+                        return remainingNanos(tip);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long storeId, MarketingTip tip, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, MARKETING_TIP_L1_CACHE);
+    }
+
+    private static long remainingNanos(MarketingTip tip) {
+        long remaining = Duration.between(LocalDateTime.now(), tip.getRecentUntil()).toNanos();
+        return Math.max(remaining, 0L);
+    }
 }
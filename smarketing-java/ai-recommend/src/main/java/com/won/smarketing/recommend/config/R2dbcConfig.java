@@ -0,0 +1,57 @@
+package com.won.smarketing.recommend.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * R2DBC 설정 (리액티브 실행 모드 전용)
+ * JPA 트랜잭션 매니저와 함께 쓰므로 리액티브 트랜잭션 매니저는 빈으로 등록하지 않고 TransactionalOperator에만 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "marketing-tip.reactive.enabled", havingValue = "true")
+public class R2dbcConfig {
+
+    @Value("${marketing-tip.reactive.r2dbc.url}")
+    private String url;
+
+    @Value("${marketing-tip.reactive.r2dbc.username}")
+    private String username;
+
+    @Value("${marketing-tip.reactive.r2dbc.password}")
+    private String password;
+
+    @Value("${marketing-tip.reactive.r2dbc.max-pool-size:10}")
+    private int maxPoolSize;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool marketingTipConnectionPool() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("marketing-tip-r2dbc")
+                .maxSize(maxPoolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient marketingTipDatabaseClient(ConnectionPool marketingTipConnectionPool) {
+        return DatabaseClient.create(marketingTipConnectionPool);
+    }
+
+    @Bean
+    public TransactionalOperator marketingTipTransactionalOperator(ConnectionPool marketingTipConnectionPool) {
+        return TransactionalOperator.create(new R2dbcTransactionManager(marketingTipConnectionPool));
+    }
+}
@@ -14,7 +14,7 @@ import java.time.LocalDateTime;
 public class MarketingTipRequestEvent {
 
     private String requestId;           // 요청 고유 ID
-    private Long userId;                // 사용자 ID
+    private String userId;              // 사용자 ID
     private Long storeId;               // 매장 ID
     private String storeName;           // 매장명
     private String businessType;        // 업종
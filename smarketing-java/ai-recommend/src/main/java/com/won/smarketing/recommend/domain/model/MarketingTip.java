@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.cglib.core.Local;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 /**
@@ -17,12 +18,24 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class MarketingTip {
 
+    /**
+     * 생성된 팁을 재사용하는 기간
+     */
+    public static final Duration RECENT_WINDOW = Duration.ofHours(1);
+
+    /**
+     * 매장 ID 힌트를 찾는 기간 (월별 파티션 중 최근 파티션만 조회)
+     */
+    public static final Duration STORE_ID_HINT_WINDOW = Duration.ofDays(31);
+
     private TipId id;
     private Long storeId;
     private String tipSummary;
     private String tipContent;
+    private String inputFingerprint;   // 규칙 기반 대체 팁이면 null
     private StoreWithMenuData storeWithMenuData;
-    private LocalDateTime createdAt;
+    private LocalDateTime createdAt;    // 제공 시각 (재사용하면 새 제공 이력으로 저장)
+    private LocalDateTime generatedAt;  // 본문 생성 시각 (재사용 이력은 원본 값을 그대로 복사, 없으면 createdAt)
     private LocalDateTime updatedAt;
 
     public static MarketingTip create(Long storeId, String tipContent, StoreWithMenuData storeWithMenuData) {
@@ -33,4 +46,18 @@ public class MarketingTip {
                 .createdAt(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * 재사용 기간이 끝나는 시각
+     */
+    public LocalDateTime getRecentUntil() {
+        return createdAt.plus(RECENT_WINDOW);
+    }
+
+    /**
+     * 주어진 시각 기준으로 재사용 기간 이내인지 확인
+     */
+    public boolean isRecentAt(LocalDateTime now) {
+        return createdAt != null && getRecentUntil().isAfter(now);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.won.smarketing.recommend.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 마케팅 팁 이력 커서 (마지막으로 조회한 팁의 생성 시각과 ID)
+ * 클라이언트에는 "생성시각|팁ID"를 URL-safe Base64로 인코딩한 문자열로 전달
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class MarketingTipCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long tipId;
+
+    public static MarketingTipCursor from(MarketingTipSummary summary) {
+        return of(summary.getCreatedAt(), summary.getId().getValue());
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param encoded 인코딩된 커서
+     * @return 커서
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static MarketingTipCursor decode(String encoded) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int delimiterIndex = decoded.indexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다: " + encoded);
+            }
+            return of(LocalDateTime.parse(decoded.substring(0, delimiterIndex)),
+                    Long.parseLong(decoded.substring(delimiterIndex + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다: " + encoded, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + tipId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
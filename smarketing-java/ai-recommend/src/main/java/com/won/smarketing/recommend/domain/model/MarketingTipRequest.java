@@ -0,0 +1,34 @@
+package com.won.smarketing.recommend.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 마케팅 팁 생성 요청 도메인 모델
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketingTipRequest {
+
+    private String requestId;
+    private String userId;
+    private Long storeId;
+    private String storeName;
+    private String businessType;
+    private String location;
+    private MarketingTipStatus status;
+    private Long tipId;
+    private String errorMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public boolean isOwnedBy(String userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.won.smarketing.recommend.domain.model;
+
+/**
+ * 비동기 마케팅 팁 생성 처리 상태
+ */
+public enum MarketingTipStatus {
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,23 @@
+package com.won.smarketing.recommend.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마케팅 팁 이력 항목 도메인 모델 (본문 제외)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketingTipSummary {
+
+    private TipId id;
+    private Long storeId;
+    private String tipSummary;
+    private LocalDateTime createdAt;
+}
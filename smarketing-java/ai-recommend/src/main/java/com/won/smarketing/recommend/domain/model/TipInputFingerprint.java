@@ -0,0 +1,93 @@
+package com.won.smarketing.recommend.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 마케팅 팁 생성 입력 지문
+ * AI 서비스에 전달되는 매장/메뉴 항목(매장명, 업종, 위치, 좌석 수, 메뉴 ID/이름/카테고리/가격/설명)을
+ * 정규화해 SHA-256으로 계산하므로 입력이 같으면 항상 같은 값이 나옴
+ * AI 요청 항목이 바뀌면 VERSION을 올려 이전 지문과 구분
+ */
+public final class TipInputFingerprint {
+
+    private static final String VERSION = "v1";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    private TipInputFingerprint() {
+    }
+
+    /**
+     * 매장/메뉴 정보의 입력 지문 계산
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @return 입력 지문 (소문자 16진수 64자)
+     */
+    public static String of(StoreWithMenuData storeWithMenuData) {
+        StoreData storeData = storeWithMenuData.getStoreData();
+        StringBuilder canonical = new StringBuilder(VERSION).append(RECORD_SEPARATOR);
+        appendField(canonical, storeData.getStoreName());
+        appendField(canonical, storeData.getBusinessType());
+        appendField(canonical, storeData.getLocation());
+        appendField(canonical, storeData.getSeatCount());
+
+        // 메뉴 조회 순서와 무관하도록 정렬
+        List<MenuData> menus = storeWithMenuData.getMenuDataList() == null ? List.of()
+                : storeWithMenuData.getMenuDataList().stream()
+                .sorted(Comparator.comparing(MenuData::getMenuId, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(menu -> normalize(menu.getMenuName())))
+                .toList();
+        for (MenuData menu : menus) {
+            canonical.append(RECORD_SEPARATOR);
+            appendField(canonical, menu.getMenuId());
+            appendField(canonical, menu.getMenuName());
+            appendField(canonical, menu.getCategory());
+            appendField(canonical, menu.getPrice());
+            appendField(canonical, menu.getDescription());
+        }
+
+        return sha256(canonical.toString());
+    }
+
+    private static void appendField(StringBuilder canonical, Object value) {
+        canonical.append(value == null ? "" : normalize(value.toString())).append(FIELD_SEPARATOR);
+    }
+
+    /**
+     * 앞뒤 공백 제거 및 연속 공백을 하나로 정리
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(value.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+        }
+        return normalized.toString();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.won.smarketing.recommend.domain.repository;
 
 import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.MarketingTipCursor;
+import com.won.smarketing.recommend.domain.model.MarketingTipSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,7 +17,40 @@ public interface MarketingTipRepository {
 
     MarketingTip save(MarketingTip marketingTip);
 
+    /**
+     * 사용자 ID를 지정하여 저장 (보안 컨텍스트가 없는 워커 스레드용)
+     */
+    MarketingTip save(MarketingTip marketingTip, String userId);
+
     Optional<MarketingTip> findById(Long tipId);
 
     Page<MarketingTip> findByStoreIdOrderByCreatedAtDesc(Long storeId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 매장의 재사용 기간(1시간) 이내 가장 최근 마케팅 팁 조회
+     */
+    Optional<MarketingTip> findRecentByStoreId(Long storeId);
+
+    /**
+     * 사용자의 가장 최근 마케팅 팁의 매장 ID 조회 (매장 정보 병렬 조회 힌트용, 힌트 조회 기간 이내)
+     */
+    Optional<Long> findLatestStoreIdByUserId(String userId);
+
+    /**
+     * 기준 시각 이후 마케팅 팁을 생성한 사용자 ID 조회 (사전 생성 대상 선정용)
+     */
+    List<String> findActiveUserIdsSince(LocalDateTime since);
+
+    /**
+     * 매장의 같은 입력 지문으로 기준 시각 이후 본문이 생성된 마케팅 팁 조회 (제공 최신순, 입력 변화 없는 매장의 팁 재사용용)
+     */
+    List<MarketingTip> findByInputFingerprintSince(Long storeId, String inputFingerprint, LocalDateTime since, int limit);
+
+    /**
+     * 사용자별 마케팅 팁 이력 조회 (최신순 커서 페이지네이션, 본문 제외)
+     *
+     * @param cursor 마지막으로 조회한 팁 커서 (첫 페이지는 null)
+     * @param limit 최대 조회 건수
+     */
+    List<MarketingTipSummary> findHistoryByUserId(String userId, MarketingTipCursor cursor, int limit);
+}
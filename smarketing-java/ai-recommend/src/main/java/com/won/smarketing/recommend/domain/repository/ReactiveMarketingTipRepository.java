@@ -0,0 +1,33 @@
+package com.won.smarketing.recommend.domain.repository;
+
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마케팅 팁 리액티브 레포지토리 인터페이스 (리액티브 실행 모드용)
+ */
+public interface ReactiveMarketingTipRepository {
+
+    /**
+     * 사용자 ID를 지정하여 저장
+     */
+    Mono<MarketingTip> save(MarketingTip marketingTip, String userId);
+
+    /**
+     * 매장의 재사용 기간(1시간) 이내 가장 최근 마케팅 팁 조회
+     */
+    Mono<MarketingTip> findRecentByStoreId(Long storeId);
+
+    /**
+     * 사용자의 가장 최근 마케팅 팁의 매장 ID 조회 (매장 정보 병렬 조회 힌트용, 힌트 조회 기간 이내)
+     */
+    Mono<Long> findLatestStoreIdByUserId(String userId);
+
+    /**
+     * 매장의 같은 입력 지문으로 기준 시각 이후 본문이 생성된 마케팅 팁 조회 (제공 최신순)
+     */
+    Flux<MarketingTip> findByInputFingerprintSince(Long storeId, String inputFingerprint, LocalDateTime since, int limit);
+}
@@ -2,6 +2,8 @@ package com.won.smarketing.recommend.domain.service;
 
 import com.won.smarketing.recommend.domain.model.StoreData;
 import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * AI 팁 생성 도메인 서비스 인터페이스 (단순화)
@@ -15,4 +17,29 @@ public interface AiTipGenerator {
      * @return AI가 생성한 마케팅 팁
      */
     String generateTip(StoreWithMenuData storeWithMenuData);
+
+    /**
+     * Python AI 서비스를 통한 마케팅 팁 비동기 생성 (호출 스레드를 점유하지 않음)
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @return AI가 생성한 마케팅 팁 (실패 시 규칙 기반 팁)
+     */
+    Mono<String> generateTipAsync(StoreWithMenuData storeWithMenuData);
+
+    /**
+     * Python AI 서비스를 통한 마케팅 팁 스트리밍 생성
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @return 생성되는 순서대로의 팁 조각 (모두 이어 붙이면 전체 팁)
+     */
+    Flux<String> streamTip(StoreWithMenuData storeWithMenuData);
+
+    /**
+     * AI 서비스 장애로 규칙 기반 팁이 생성되었는지 확인
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @param tip 생성된 팁
+     * @return 규칙 기반 대체 팁 여부
+     */
+    boolean isFallbackTip(StoreWithMenuData storeWithMenuData, String tip);
 }
@@ -1,21 +1,24 @@
-//package com.won.smarketing.recommend.domain.service;
-//
-//import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
-//
-//public interface AsyncMarketingTipGenerator {
-//
-//    /**
-//     * 마케팅 팁 생성 요청 (비동기)
-//     */
-//    String requestMarketingTip(Long userId, StoreWithMenuData storeWithMenuData);
-//
-//    /**
-//     * 마케팅 팁 상태 조회
-//     */
-//    MarketingTipStatus getMarketingTipStatus(String requestId);
-//
-//    /**
-//     * 마케팅 팁 결과 조회
-//     */
-//    String getMarketingTipResult(String requestId);
-//}
\ No newline at end of file
+package com.won.smarketing.recommend.domain.service;
+
+import com.won.smarketing.recommend.domain.model.MarketingTipRequest;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+
+import java.util.Optional;
+
+/**
+ * 비동기 마케팅 팁 생성 도메인 서비스 인터페이스
+ */
+public interface AsyncMarketingTipGenerator {
+
+    /**
+     * 마케팅 팁 생성 요청 (비동기)
+     *
+     * @return 요청 ID
+     */
+    String requestMarketingTip(String userId, StoreWithMenuData storeWithMenuData);
+
+    /**
+     * 마케팅 팁 생성 요청 상태 조회
+     */
+    Optional<MarketingTipRequest> getMarketingTipRequest(String requestId);
+}
@@ -1,13 +1,58 @@
 package com.won.smarketing.recommend.domain.service;
 
 import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
-import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 매장 데이터 제공 도메인 서비스 인터페이스
  */
 public interface StoreDataProvider {
 
+    /**
+     * 매장 서비스 호출에 사용할 사용자 JWT 토큰의 Reactor 컨텍스트 키
+     * 요청 스레드 밖에서 조회하는 호출은 이 키로 토큰을 명시적으로 전달해야 함 (제공자가 임의로 토큰을 발급하지 않음)
+     */
+    String AUTH_TOKEN_CONTEXT_KEY = StoreDataProvider.class.getName() + ".authToken";
+
+    /**
+     * 매장 서비스 호출용 JWT 토큰을 담은 Reactor 컨텍스트
+     *
+     * @param jwtToken 사용자 JWT 토큰
+     * @return contextWrite에 전달할 컨텍스트
+     */
+    static Context withAuthToken(String jwtToken) {
+        return Context.of(AUTH_TOKEN_CONTEXT_KEY, jwtToken);
+    }
+
+    /**
+     * 한 요청 안에서 공유할 매장 스냅샷 저장소의 Reactor 컨텍스트 키 (사용자 ID → 매장 및 메뉴 정보)
+     */
+    String REQUEST_SNAPSHOTS_CONTEXT_KEY = StoreDataProvider.class.getName() + ".requestSnapshots";
+
+    /**
+     * 요청 스레드 밖에서 실행되는 요청 처리(리액티브 실행 모드)용 Reactor 컨텍스트
+     * 호출자의 JWT 토큰과 요청 단위 매장 스냅샷 저장소를 담음
+     *
+     * @param jwtToken 호출자의 JWT 토큰 (없으면 null)
+     * @return contextWrite에 전달할 컨텍스트
+     */
+    static Context forRequest(String jwtToken) {
+        Context context = Context.of(REQUEST_SNAPSHOTS_CONTEXT_KEY, new ConcurrentHashMap<String, StoreWithMenuData>());
+        return jwtToken != null ? context.put(AUTH_TOKEN_CONTEXT_KEY, jwtToken) : context;
+    }
+
     StoreWithMenuData getStoreWithMenuData(String userId);
+
+    /**
+     * 매장 정보와 메뉴 정보 비동기 조회
+     * 매장 ID 힌트가 있으면 메뉴를 동시에 조회하고, 실제 매장 ID와 다르면 메뉴만 다시 조회
+     *
+     * @param userId 사용자 ID
+     * @param storeIdHint 미리 알고 있는 매장 ID (없으면 null)
+     * @return 매장 및 메뉴 정보 (조회 실패 분기는 대체 데이터로 채워짐)
+     */
+    Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId, Long storeIdHint);
 }
@@ -0,0 +1,34 @@
+package com.won.smarketing.recommend.domain.service;
+
+import java.util.Optional;
+
+/**
+ * 매장별 마케팅 팁 생성 리스 도메인 서비스 인터페이스
+ * 여러 인스턴스가 같은 매장의 팁을 동시에 생성하지 않도록 조정
+ */
+public interface TipGenerationLease {
+
+    /**
+     * 매장의 팁 생성 리스 획득 시도
+     *
+     * @param storeId 매장 ID
+     * @return 획득에 성공하면 리스 토큰, 다른 인스턴스가 보유 중이면 빈 값
+     */
+    Optional<String> tryAcquire(Long storeId);
+
+    /**
+     * 매장의 팁 생성 리스가 현재 보유 중인지 확인
+     *
+     * @param storeId 매장 ID
+     * @return 보유 중이면 true
+     */
+    boolean isHeld(Long storeId);
+
+    /**
+     * 리스 해제 (토큰이 일치하는 경우에만 해제)
+     *
+     * @param storeId 매장 ID
+     * @param token 획득 시 받은 리스 토큰
+     */
+    void release(Long storeId, String token);
+}
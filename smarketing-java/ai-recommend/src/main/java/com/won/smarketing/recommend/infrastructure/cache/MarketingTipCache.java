@@ -0,0 +1,157 @@
+package com.won.smarketing.recommend.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.TipId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 매장별 최근 마케팅 팁 2단계 캐시
+ * L1: 인스턴스 로컬 Caffeine 캐시, L2: Redis (인스턴스 간 공유)
+ * 두 단계 모두 팁 생성 시각 + 1시간에 만료
+ */
+@Slf4j
+@Component
+public class MarketingTipCache {
+
+    private static final String L2_KEY_PREFIX = "marketing-tip:recent:";
+    private static final String L2_CACHE_NAME = "marketingTipL2";
+
+    private final Cache<Long, MarketingTip> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter l2HitCounter;
+    private final Counter l2MissCounter;
+
+    public MarketingTipCache(Cache<Long, MarketingTip> marketingTipLocalCache,
+                             RedisTemplate<String, String> redisTemplate,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.localCache = marketingTipLocalCache;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        // L1(CaffeineCacheMetrics)과 같은 cache.gets 지표로 집계하여 적중률을 함께 확인
+        this.l2HitCounter = Counter.builder("cache.gets")
+                .tag("cache", L2_CACHE_NAME)
+                .tag("result", "hit")
+                .description("마케팅 팁 L2 캐시 적중 수")
+                .register(meterRegistry);
+        this.l2MissCounter = Counter.builder("cache.gets")
+                .tag("cache", L2_CACHE_NAME)
+                .tag("result", "miss")
+                .description("마케팅 팁 L2 캐시 미적중 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매장의 최근 마케팅 팁 조회 (L1 → L2 순서)
+     */
+    public Optional<MarketingTip> get(Long storeId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        MarketingTip local = localCache.getIfPresent(storeId);
+        if (local != null && local.isRecentAt(now)) {
+            return Optional.of(local);
+        }
+
+        Optional<MarketingTip> shared = getFromRedis(storeId).filter(tip -> tip.isRecentAt(now));
+        if (shared.isPresent()) {
+            l2HitCounter.increment();
+            localCache.put(storeId, shared.get());
+        } else {
+            l2MissCounter.increment();
+        }
+        return shared;
+    }
+
+    /**
+     * 최근 마케팅 팁 저장 (재사용 기간이 지난 팁은 저장하지 않음)
+     */
+    public void put(MarketingTip marketingTip) {
+        if (marketingTip.getStoreId() == null || marketingTip.getCreatedAt() == null) {
+            return;
+        }
+
+        Duration ttl = Duration.between(LocalDateTime.now(), marketingTip.getRecentUntil());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        localCache.put(marketingTip.getStoreId(), marketingTip);
+
+        try {
+            String json = objectMapper.writeValueAsString(CachedMarketingTip.from(marketingTip));
+            redisTemplate.opsForValue().set(l2Key(marketingTip.getStoreId()), json, ttl);
+        } catch (Exception e) {
+            log.warn("마케팅 팁 L2 캐시 저장 실패: storeId={}, error={}", marketingTip.getStoreId(), e.getMessage());
+        }
+    }
+
+    private Optional<MarketingTip> getFromRedis(Long storeId) {
+        try {
+            String json = redisTemplate.opsForValue().get(l2Key(storeId));
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, CachedMarketingTip.class).toDomain());
+        } catch (Exception e) {
+            log.warn("마케팅 팁 L2 캐시 조회 실패: storeId={}, error={}", storeId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String l2Key(Long storeId) {
+        return L2_KEY_PREFIX + storeId;
+    }
+
+    /**
+     * Redis 저장용 마케팅 팁 스냅샷
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CachedMarketingTip {
+        private Long tipId;
+        private Long storeId;
+        private String tipSummary;
+        private String tipContent;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        static CachedMarketingTip from(MarketingTip marketingTip) {
+            return CachedMarketingTip.builder()
+                    .tipId(marketingTip.getId() != null ? marketingTip.getId().getValue() : null)
+                    .storeId(marketingTip.getStoreId())
+                    .tipSummary(marketingTip.getTipSummary())
+                    .tipContent(marketingTip.getTipContent())
+                    .createdAt(marketingTip.getCreatedAt())
+                    .updatedAt(marketingTip.getUpdatedAt())
+                    .build();
+        }
+
+        MarketingTip toDomain() {
+            return MarketingTip.builder()
+                    .id(tipId != null ? TipId.of(tipId) : null)
+                    .storeId(storeId)
+                    .tipSummary(tipSummary)
+                    .tipContent(tipContent)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+    }
+}
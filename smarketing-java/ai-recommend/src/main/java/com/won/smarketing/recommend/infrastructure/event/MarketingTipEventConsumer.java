@@ -1,117 +1,343 @@
-//package com.won.smarketing.recommend.infrastructure.event;
-//
-//import com.azure.messaging.eventhubs.EventData;
-//import com.azure.messaging.eventhubs.models.EventContext;
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//import com.won.smarketing.recommend.domain.event.MarketingTipRequestEvent;
-//import com.won.smarketing.recommend.domain.repository.MarketingTipRepository;
-//import com.won.smarketing.recommend.infrastructure.external.PythonMarketingTipGenerator;
-//import com.won.smarketing.recommend.infrastructure.persistence.MarketingTipEntity;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.beans.factory.annotation.Value;
-//import org.springframework.stereotype.Service;
-//
-//import java.time.LocalDateTime;
-//
-///**
-// * 마케팅 팁 이벤트 소비자
-// */
-//@Slf4j
-//@Service
-//@RequiredArgsConstructor
-//public class MarketingTipEventConsumer {
-//
-//    private final ObjectMapper objectMapper;
-//    private final PythonMarketingTipGenerator pythonMarketingTipGenerator;
-//    private final MarketingTipRepository marketingTipRepository;
-//
-//    @Value("${azure.eventhub.marketing-tip-hub}")
-//    private String marketingTipHub;
-//
-//    /**
-//     * Azure Event Hub 이벤트 처리
-//     */
-//    public void processMarketingTipRequest(EventContext eventContext) {
-//        try {
-//            EventData eventData = eventContext.getEventData();
-//            String eventBody = eventData.getBodyAsString();
-//
-//            MarketingTipRequestEvent request = objectMapper.readValue(eventBody, MarketingTipRequestEvent.class);
-//
-//            log.info("마케팅 팁 요청 처리 시작: requestId={}", request.getRequestId());
-//
-//            // 상태를 PROCESSING으로 업데이트
-//            updateProcessingStatus(request.getRequestId(), MarketingTipEntity.ProcessingStatus.PROCESSING);
-//
-//            // AI 마케팅 팁 생성
-//            String marketingTip = generateMarketingTip(request);
-//
-//            // 완료 처리
-//            completeMarketingTip(request.getRequestId(), marketingTip);
-//
-//            // 체크포인트 설정
-//            eventContext.updateCheckpoint();
-//
-//            log.info("마케팅 팁 요청 처리 완료: requestId={}", request.getRequestId());
-//
-//        } catch (Exception e) {
-//            log.error("마케팅 팁 요청 처리 실패", e);
-//            handleProcessingError(eventContext, e);
-//        }
-//    }
-//
-//    private void updateProcessingStatus(String requestId, MarketingTipEntity.ProcessingStatus status) {
-//        marketingTipRepository.findByRequestId(requestId)
-//                .ifPresent(entity -> {
-//                    entity.setStatus(status);
-//                    if (status == MarketingTipEntity.ProcessingStatus.PROCESSING) {
-//                        entity.setUpdatedAt(LocalDateTime.now());
-//                    }
-//                    marketingTipRepository.save(entity);
-//                });
-//    }
-//
-//    private String generateMarketingTip(MarketingTipRequestEvent request) {
-//        // StoreWithMenuData 객체 생성 로직
-//        // Python AI 서비스 호출
-//        return pythonMarketingTipGenerator.generateTipFromEvent(request);
-//    }
-//
-//    private void completeMarketingTip(String requestId, String tipContent) {
-//        marketingTipRepository.findByRequestId(requestId)
-//                .ifPresent(entity -> {
-//                    entity.setStatus(MarketingTipEntity.ProcessingStatus.COMPLETED);
-//                    entity.setTipContent(tipContent);
-//                    entity.setCompletedAt(LocalDateTime.now());
-//
-//                    // 처리 시간 계산
-//                    if (entity.getCreatedAt() != null) {
-//                        long processingTime = java.time.Duration.between(
-//                                entity.getCreatedAt(), LocalDateTime.now()).getSeconds();
-//                        entity.setProcessingTimeSeconds((int) processingTime);
-//                    }
-//
-//                    marketingTipRepository.save(entity);
-//                });
-//    }
-//
-//    private void handleProcessingError(EventContext eventContext, Exception e) {
-//        try {
-//            EventData eventData = eventContext.getEventData();
-//            String eventBody = eventData.getBodyAsString();
-//            MarketingTipRequestEvent request = objectMapper.readValue(eventBody, MarketingTipRequestEvent.class);
-//
-//            // 실패 상태로 업데이트
-//            marketingTipRepository.findByRequestId(request.getRequestId())
-//                    .ifPresent(entity -> {
-//                        entity.setStatus(MarketingTipEntity.ProcessingStatus.FAILED);
-//                        entity.setErrorMessage(e.getMessage());
-//                        marketingTipRepository.save(entity);
-//                    });
-//
-//        } catch (Exception ex) {
-//            log.error("오류 처리 중 추가 오류 발생", ex);
-//        }
-//    }
-//}
\ No newline at end of file
+package com.won.smarketing.recommend.infrastructure.event;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.recommend.application.service.MarketingTipService;
+import com.won.smarketing.recommend.domain.event.MarketingTipRequestEvent;
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.MenuData;
+import com.won.smarketing.recommend.domain.model.StoreData;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 마케팅 팁 이벤트 소비자 (Redis Streams 컨슈머 그룹)
+ * 고정 크기 워커 풀로 처리하며, 빈 워커 수만큼만 스트림에서 가져옴
+ *
+ * 스트림을 읽는 컨슈머 그룹은 하나이므로 처리한 메시지는 ACK 후 바로 삭제(XDEL)하고,
+ * 삭제에 실패한 메시지는 회수 주기마다 max-length 기준 근사 트리밍(XTRIM ~)으로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marketing-tip.async.enabled", havingValue = "true", matchIfMissing = true)
+public class MarketingTipEventConsumer {
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MarketingTipService marketingTipService;
+    private final MarketingTipRequestStore marketingTipRequestStore;
+    private final MarketingTipEventPublisher marketingTipEventPublisher;
+
+    @Value("${marketing-tip.async.stream-key:marketing-tip:requests}")
+    private String streamKey;
+
+    @Value("${marketing-tip.async.consumer-group:ai-recommend-service}")
+    private String consumerGroup;
+
+    @Value("${marketing-tip.async.consumer-name:ai-recommend}")
+    private String consumerName;
+
+    @Value("${marketing-tip.async.worker-count:4}")
+    private int workerCount;
+
+    @Value("${marketing-tip.async.poll-interval:500}")
+    private long pollInterval;
+
+    @Value("${marketing-tip.async.max-retries:2}")
+    private int maxRetries;
+
+    @Value("${marketing-tip.async.claim-idle:300000}")
+    private long claimIdle;
+
+    @Value("${marketing-tip.async.max-length:100000}")
+    private long maxLength;
+
+    private ExecutorService workers;
+    private Semaphore idleWorkers;
+    private Thread poller;
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        createConsumerGroup();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "marketing-tip-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        idleWorkers = new Semaphore(workerCount);
+        running = true;
+
+        poller = new Thread(this::pollLoop, "marketing-tip-stream-poller");
+        poller.setDaemon(true);
+        poller.start();
+
+        log.info("마케팅 팁 스트림 소비 시작: stream={}, group={}, consumer={}, workers={}",
+                streamKey, consumerGroup, consumerName, workerCount);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (workers != null) {
+            workers.shutdown();
+            try {
+                if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                    // 확인(ACK)되지 않은 메시지는 재시작 후 다시 처리됨
+                    workers.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                workers.shutdownNow();
+            }
+        }
+        log.info("마케팅 팁 스트림 소비 종료");
+    }
+
+    private void pollLoop() {
+        // 재시작 전에 확인하지 못한 자신의 메시지부터 처리
+        dispatchWhenIdle(ReadOffset.from("0"));
+        long lastReclaimAt = System.currentTimeMillis();
+
+        while (running) {
+            try {
+                int dispatched = dispatchWhenIdle(ReadOffset.lastConsumed());
+
+                if (System.currentTimeMillis() - lastReclaimAt >= claimIdle) {
+                    reclaimStaleMessages();
+                    trimStream();
+                    lastReclaimAt = System.currentTimeMillis();
+                }
+
+                if (dispatched == 0) {
+                    Thread.sleep(pollInterval);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("마케팅 팁 스트림 조회 중 오류", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    /**
+     * 유휴 워커 수만큼 메시지를 읽어 워커 풀에 분배
+     */
+    private int dispatchWhenIdle(ReadOffset readOffset) {
+        try {
+            idleWorkers.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        int available = 1 + idleWorkers.drainPermits();
+
+        List<MapRecord<String, String, String>> records = Collections.emptyList();
+        try {
+            records = read(readOffset, available);
+        } finally {
+            idleWorkers.release(available - records.size());
+        }
+
+        records.forEach(this::submit);
+        return records.size();
+    }
+
+    private void submit(MapRecord<String, String, String> record) {
+        workers.execute(() -> {
+            try {
+                handle(record);
+            } finally {
+                idleWorkers.release();
+            }
+        });
+    }
+
+    private List<MapRecord<String, String, String>> read(ReadOffset readOffset, int count) {
+        StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+        @SuppressWarnings("unchecked")
+        StreamOffset<String>[] offsets = new StreamOffset[]{StreamOffset.create(streamKey, readOffset)};
+        List<MapRecord<String, String, String>> records = streamOperations.read(
+                Consumer.from(consumerGroup, consumerName),
+                StreamReadOptions.empty().count(count),
+                offsets);
+        return records != null ? records : Collections.emptyList();
+    }
+
+    /**
+     * 스트림 길이 상한 유지 (ACK 후 삭제에 실패한 메시지 정리)
+     * 미처리 메시지가 상한을 넘을 만큼 쌓이면 가장 오래된 메시지부터 잘리므로 상한은 넉넉하게 설정
+     */
+    private void trimStream() {
+        try {
+            Long trimmed = stringRedisTemplate.opsForStream().trim(streamKey, maxLength, true);
+            if (trimmed != null && trimmed > 0) {
+                log.info("마케팅 팁 요청 스트림 정리: trimmed={}, maxLength={}", trimmed, maxLength);
+            }
+        } catch (Exception e) {
+            log.warn("마케팅 팁 요청 스트림 정리 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 종료된 인스턴스가 처리하지 못하고 남긴 메시지를 가져옴
+     */
+    private void reclaimStaleMessages() {
+        StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+        PendingMessages pendingMessages = streamOperations.pending(streamKey, consumerGroup, Range.unbounded(), 100);
+
+        RecordId[] staleIds = pendingMessages.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().toMillis() >= claimIdle)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (staleIds.length == 0) {
+            return;
+        }
+
+        List<MapRecord<String, String, String>> claimed = streamOperations.claim(
+                streamKey, consumerGroup, consumerName, Duration.ofMillis(claimIdle), staleIds);
+        log.warn("처리 지연된 마케팅 팁 요청 회수: count={}", claimed.size());
+
+        for (MapRecord<String, String, String> record : claimed) {
+            try {
+                idleWorkers.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            submit(record);
+        }
+    }
+
+    private void handle(MapRecord<String, String, String> record) {
+        MarketingTipRequestEvent event = null;
+        try {
+            event = objectMapper.readValue(record.getValue().get(MarketingTipEventPublisher.PAYLOAD_FIELD),
+                    MarketingTipRequestEvent.class);
+            log.info("마케팅 팁 요청 처리 시작: requestId={}, retryCount={}", event.getRequestId(), event.getRetryCount());
+
+            long startedAt = System.currentTimeMillis();
+            MarketingTip marketingTip = marketingTipService.generateMarketingTip(event.getUserId(), toStoreWithMenuData(event));
+            marketingTipRequestStore.markCompleted(event.getRequestId(), marketingTip.getId().getValue());
+
+            log.info("마케팅 팁 요청 처리 완료: requestId={}, tipId={}, 처리시간={}ms",
+                    event.getRequestId(), marketingTip.getId().getValue(), System.currentTimeMillis() - startedAt);
+
+        } catch (Exception e) {
+            handleProcessingError(record, event, e);
+        } finally {
+            acknowledge(record.getId());
+        }
+    }
+
+    private void handleProcessingError(MapRecord<String, String, String> record, MarketingTipRequestEvent event, Exception e) {
+        if (event == null) {
+            log.error("마케팅 팁 요청 메시지 해석 실패: recordId={}", record.getId(), e);
+            return;
+        }
+
+        int retryCount = event.getRetryCount() != null ? event.getRetryCount() : 0;
+        if (retryCount < maxRetries) {
+            log.warn("마케팅 팁 요청 처리 실패, 재시도 등록: requestId={}, retryCount={}, error={}",
+                    event.getRequestId(), retryCount + 1, e.getMessage());
+            event.setRetryCount(retryCount + 1);
+            marketingTipEventPublisher.publish(event);
+            return;
+        }
+
+        log.error("마케팅 팁 요청 처리 최종 실패: requestId={}", event.getRequestId(), e);
+        marketingTipRequestStore.markFailed(event.getRequestId(), e.getMessage());
+    }
+
+    private StoreWithMenuData toStoreWithMenuData(MarketingTipRequestEvent event) throws Exception {
+        List<MenuData> menuDataList = event.getMenuData() != null
+                ? objectMapper.readValue(event.getMenuData(), new TypeReference<List<MenuData>>() {})
+                : Collections.emptyList();
+
+        return StoreWithMenuData.builder()
+                .storeData(StoreData.builder()
+                        .storeId(event.getStoreId())
+                        .storeName(event.getStoreName())
+                        .businessType(event.getBusinessType())
+                        .location(event.getLocation())
+                        .seatCount(event.getSeatCount())
+                        .build())
+                .menuDataList(menuDataList)
+                .build();
+    }
+
+    /**
+     * 처리 완료 메시지 ACK 후 스트림에서 삭제
+     * 재시도는 새 메시지로 다시 발행하므로 처리한 메시지는 더 읽을 일이 없음
+     */
+    private void acknowledge(RecordId recordId) {
+        try {
+            StreamOperations<String, String, String> streamOperations = stringRedisTemplate.opsForStream();
+            streamOperations.acknowledge(streamKey, consumerGroup, recordId);
+            streamOperations.delete(streamKey, recordId);
+        } catch (Exception e) {
+            // 삭제되지 않은 메시지는 trimStream으로 정리됨
+            log.warn("마케팅 팁 요청 메시지 ACK/삭제 실패: recordId={}, error={}", recordId, e.getMessage());
+        }
+    }
+
+    private void createConsumerGroup() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> createGroup(connection));
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류가 발생하므로 무시
+            log.debug("마케팅 팁 컨슈머 그룹 생성 생략: {}", e.getMessage());
+        }
+    }
+
+    private String createGroup(RedisConnection connection) {
+        return connection.streamCommands().xGroupCreate(
+                streamKey.getBytes(StandardCharsets.UTF_8), consumerGroup, ReadOffset.from("0"), true);
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
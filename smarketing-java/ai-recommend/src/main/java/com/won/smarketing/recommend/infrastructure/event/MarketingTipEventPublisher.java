@@ -1,43 +1,112 @@
-//import com.azure.messaging.eventhubs.EventData;
-//import com.azure.messaging.eventhubs.EventHubProducerClient;
-//import com.fasterxml.jackson.core.JsonProcessingException;
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//import com.won.smarketing.recommend.domain.event.MarketingTipRequestEvent;
-//import lombok.RequiredArgsConstructor;
-//import lombok.extern.slf4j.Slf4j;
-//import org.springframework.stereotype.Service;
-//
-//import java.util.UUID;
-//
-///**
-// * 마케팅 팁 이벤트 발행자
-// */
-//@Slf4j
-//@Service
-//@RequiredArgsConstructor
-//public class MarketingTipEventPublisher {
-//
-//    private final EventHubProducerClient producerClient;
-//    private final ObjectMapper objectMapper;
-//
-//    public String publishMarketingTipRequest(MarketingTipRequestEvent event) {
-//        try {
-//            String requestId = UUID.randomUUID().toString();
-//            event.setRequestId(requestId);
-//
-//            String eventData = objectMapper.writeValueAsString(event);
-//
-//            producerClient.send(EventData.create(eventData));
-//
-//            log.info("마케팅 팁 요청 이벤트 발행 완료: requestId={}", requestId);
-//            return requestId;
-//
-//        } catch (JsonProcessingException e) {
-//            log.error("마케팅 팁 이벤트 직렬화 실패", e);
-//            throw new RuntimeException("이벤트 발행 실패", e);
-//        } catch (Exception e) {
-//            log.error("마케팅 팁 이벤트 발행 실패", e);
-//            throw new RuntimeException("이벤트 발행 실패", e);
-//        }
-//    }
-//}
\ No newline at end of file
+package com.won.smarketing.recommend.infrastructure.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.recommend.domain.event.MarketingTipRequestEvent;
+import com.won.smarketing.recommend.domain.model.MarketingTipRequest;
+import com.won.smarketing.recommend.domain.model.StoreData;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.service.AsyncMarketingTipGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 마케팅 팁 이벤트 발행자 (Redis Streams)
+ * 소비자(MarketingTipEventConsumer)가 처리 후 ACK와 함께 메시지를 삭제(XDEL)하므로 스트림에는 미처리 메시지만 남음
+ * 비동기 처리가 꺼져 있으면(marketing-tip.async.enabled=false) 소비자가 없으므로 새 요청을 거부
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketingTipEventPublisher implements AsyncMarketingTipGenerator {
+
+    static final String PAYLOAD_FIELD = "payload";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MarketingTipRequestStore marketingTipRequestStore;
+
+    @Value("${marketing-tip.async.stream-key:marketing-tip:requests}")
+    private String streamKey;
+
+    @Value("${marketing-tip.async.enabled:true}")
+    private boolean asyncEnabled;
+
+    @Override
+    public String requestMarketingTip(String userId, StoreWithMenuData storeWithMenuData) {
+        if (!asyncEnabled) {
+            // 처리할 소비자가 없어 보관 기간 동안 PROCESSING으로 남지 않도록 등록 전에 거부
+            log.warn("마케팅 팁 비동기 생성 비활성화 상태, 요청 거부: userId={}", userId);
+            throw new BusinessException(ErrorCode.MARKETING_TIP_ASYNC_DISABLED);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        StoreData storeData = storeWithMenuData.getStoreData();
+        LocalDateTime requestedAt = LocalDateTime.now();
+
+        MarketingTipRequestEvent event = MarketingTipRequestEvent.builder()
+                .requestId(requestId)
+                .userId(userId)
+                .storeId(storeData.getStoreId())
+                .storeName(storeData.getStoreName())
+                .businessType(storeData.getBusinessType())
+                .location(storeData.getLocation())
+                .seatCount(storeData.getSeatCount())
+                .menuData(toJson(storeWithMenuData.getMenuDataList()))
+                .requestedAt(requestedAt)
+                .retryCount(0)
+                .build();
+
+        // 상태를 먼저 등록해야 소비자가 바로 처리해도 상태 갱신이 유실되지 않음
+        marketingTipRequestStore.create(MarketingTipRequest.builder()
+                .requestId(requestId)
+                .userId(userId)
+                .storeId(storeData.getStoreId())
+                .storeName(storeData.getStoreName())
+                .businessType(storeData.getBusinessType())
+                .location(storeData.getLocation())
+                .requestedAt(requestedAt)
+                .build());
+
+        publish(event);
+        return requestId;
+    }
+
+    @Override
+    public Optional<MarketingTipRequest> getMarketingTipRequest(String requestId) {
+        return marketingTipRequestStore.find(requestId);
+    }
+
+    /**
+     * 이벤트를 스트림에 추가 (재시도 시에도 사용)
+     */
+    public void publish(MarketingTipRequestEvent event) {
+        RecordId recordId = stringRedisTemplate.opsForStream().add(StreamRecords.newRecord()
+                .in(streamKey)
+                .ofMap(Collections.singletonMap(PAYLOAD_FIELD, toJson(event))));
+
+        log.info("마케팅 팁 요청 이벤트 발행 완료: requestId={}, recordId={}, retryCount={}",
+                event.getRequestId(), recordId, event.getRetryCount());
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.error("마케팅 팁 이벤트 직렬화 실패", e);
+            throw new IllegalStateException("이벤트 발행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.won.smarketing.recommend.infrastructure.event;
+
+import com.won.smarketing.recommend.domain.model.MarketingTipRequest;
+import com.won.smarketing.recommend.domain.model.MarketingTipStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 비동기 마케팅 팁 생성 요청 상태 저장소 (Redis Hash)
+ * 결과는 설정된 보관 기간 이후 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketingTipRequestStore {
+
+    private static final String KEY_PREFIX = "marketing-tip:request:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${marketing-tip.async.result-ttl:86400000}")
+    private long resultTtl;
+
+    /**
+     * 요청 상태 최초 등록 (PROCESSING)
+     */
+    public void create(MarketingTipRequest request) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("requestId", request.getRequestId());
+        fields.put("userId", request.getUserId());
+        fields.put("status", MarketingTipStatus.PROCESSING.name());
+        fields.put("requestedAt", request.getRequestedAt().toString());
+        putIfNotNull(fields, "storeId", request.getStoreId());
+        putIfNotNull(fields, "storeName", request.getStoreName());
+        putIfNotNull(fields, "businessType", request.getBusinessType());
+        putIfNotNull(fields, "location", request.getLocation());
+
+        String key = key(request.getRequestId());
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        stringRedisTemplate.expire(key, Duration.ofMillis(resultTtl));
+    }
+
+    /**
+     * 완료 처리
+     */
+    public void markCompleted(String requestId, Long tipId) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", MarketingTipStatus.COMPLETED.name());
+        fields.put("tipId", String.valueOf(tipId));
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(requestId, fields);
+    }
+
+    /**
+     * 실패 처리
+     */
+    public void markFailed(String requestId, String errorMessage) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", MarketingTipStatus.FAILED.name());
+        fields.put("errorMessage", errorMessage != null ? errorMessage : "알 수 없는 오류");
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(requestId, fields);
+    }
+
+    /**
+     * 요청 상태 조회
+     */
+    public Optional<MarketingTipRequest> find(String requestId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(requestId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(MarketingTipRequest.builder()
+                .requestId(requestId)
+                .userId(asString(fields, "userId"))
+                .storeId(asLong(fields, "storeId"))
+                .storeName(asString(fields, "storeName"))
+                .businessType(asString(fields, "businessType"))
+                .location(asString(fields, "location"))
+                .status(MarketingTipStatus.valueOf(asString(fields, "status")))
+                .tipId(asLong(fields, "tipId"))
+                .errorMessage(asString(fields, "errorMessage"))
+                .requestedAt(asDateTime(fields, "requestedAt"))
+                .completedAt(asDateTime(fields, "completedAt"))
+                .build());
+    }
+
+    private void update(String requestId, Map<String, String> fields) {
+        String key = key(requestId);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            log.warn("만료되었거나 존재하지 않는 마케팅 팁 요청: requestId={}", requestId);
+            return;
+        }
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+    }
+
+    private String key(String requestId) {
+        return KEY_PREFIX + requestId;
+    }
+
+    private void putIfNotNull(Map<String, String> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, String.valueOf(value));
+        }
+    }
+
+    private String asString(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private Long asLong(Map<Object, Object> fields, String name) {
+        String value = asString(fields, name);
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private LocalDateTime asDateTime(Map<Object, Object> fields, String name) {
+        String value = asString(fields, name);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
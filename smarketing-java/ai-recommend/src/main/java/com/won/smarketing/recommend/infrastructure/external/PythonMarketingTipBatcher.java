@@ -0,0 +1,186 @@
+package com.won.smarketing.recommend.infrastructure.external;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.won.smarketing.common.resilience.AiCallGuard;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Python AI 마케팅 팁 요청 묶음 처리기
+ * 짧은 대기 시간(window) 동안 또는 최대 건수까지 모은 매장 요청을 한 번의 일괄 생성 API 호출로 전송하고,
+ * 응답의 request_id로 결과를 각 호출자에게 돌려줌
+ *
+ * 호출자가 대기 시간 초과 등으로 구독을 취소한 요청은 전송 직전에 묶음에서 제외하여,
+ * 과부하로 대기가 길어진 상황에서 버려진 요청에 AI 호출을 쓰지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PythonMarketingTipBatcher {
+
+    private static final String AI_ENDPOINT = "marketing-tip-batch";
+    private static final Duration EMIT_RETRY_DURATION = Duration.ofSeconds(1);
+
+    private final WebClient webClient;
+    private final AiCallGuard aiCallGuard;
+
+    private final Sinks.Many<PendingTip> pendingTips = Sinks.many().unicast().onBackpressureBuffer();
+    private Disposable dispatcher;
+
+    @Value("${external.python-ai-service.base-url}")
+    private String pythonAiServiceBaseUrl;
+
+    @Value("${external.python-ai-service.api-key}")
+    private String pythonAiServiceApiKey;
+
+    @Value("${external.python-ai-service.batch.max-size:8}")
+    private int maxBatchSize;
+
+    @Value("${external.python-ai-service.batch.window:50}")
+    private long batchWindow;
+
+    @Value("${external.python-ai-service.batch.max-in-flight:4}")
+    private int maxInFlightBatches;
+
+    @Value("${external.python-ai-service.batch.timeout:30000}")
+    private long batchTimeout;
+
+    @PostConstruct
+    public void start() {
+        dispatcher = pendingTips.asFlux()
+                // 동시 전송 묶음 수가 한도에 도달하면 새 요청은 다음 묶음으로 계속 쌓임
+                .bufferTimeout(maxBatchSize, Duration.ofMillis(batchWindow), true)
+                .flatMap(this::dispatch, maxInFlightBatches)
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        pendingTips.tryEmitComplete();
+        if (dispatcher != null) {
+            dispatcher.dispose();
+        }
+    }
+
+    /**
+     * 마케팅 팁 생성 요청 등록
+     *
+     * @param requestData 단건 생성 API와 같은 형식의 매장 요청 데이터
+     * @return 묶음 응답에서 분리된 해당 매장의 마케팅 팁
+     */
+    public Mono<String> submit(Map<String, Object> requestData) {
+        return Mono.defer(() -> {
+            PendingTip pendingTip = new PendingTip(UUID.randomUUID().toString(), requestData, Sinks.one(),
+                    new AtomicBoolean());
+            // 여러 요청 스레드가 동시에 등록하므로 직렬화 실패 시 잠시 재시도
+            pendingTips.emitNext(pendingTip, Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY_DURATION));
+            return pendingTip.result().asMono()
+                    .doOnCancel(() -> pendingTip.abandoned().set(true));
+        });
+    }
+
+    private Mono<Void> dispatch(List<PendingTip> pending) {
+        List<PendingTip> batch = pending.stream()
+                .filter(pendingTip -> !pendingTip.abandoned().get())
+                .collect(Collectors.toList());
+        if (batch.size() < pending.size()) {
+            log.debug("대기 취소된 마케팅 팁 요청 제외: skipped={}", pending.size() - batch.size());
+        }
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+
+        log.debug("마케팅 팁 일괄 생성 요청: batchSize={}", batch.size());
+
+        List<Map<String, Object>> requests = batch.stream()
+                .map(pendingTip -> {
+                    Map<String, Object> item = new HashMap<>(pendingTip.requestData());
+                    item.put("request_id", pendingTip.requestId());
+                    return item;
+                })
+                .collect(Collectors.toList());
+
+        Mono<BatchResponse> call = webClient
+                .post()
+                .uri(pythonAiServiceBaseUrl + "/api/v1/generate-marketing-tips/batch")
+                .header("Authorization", "Bearer " + pythonAiServiceApiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(Map.of("requests", requests))
+                .retrieve()
+                .bodyToMono(BatchResponse.class)
+                .timeout(Duration.ofMillis(batchTimeout));
+
+        return aiCallGuard.protect(AI_ENDPOINT, call, Mono::error)
+                .doOnNext(response -> demultiplex(batch, response))
+                .doOnError(e -> batch.forEach(pendingTip -> pendingTip.result().tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * 묶음 응답을 request_id 기준으로 각 호출자에게 전달
+     */
+    private void demultiplex(List<PendingTip> batch, BatchResponse response) {
+        Map<String, String> tipsByRequestId = response.getResults() == null ? Map.of() : response.getResults().stream()
+                .filter(result -> result.getRequestId() != null && result.getTip() != null
+                        && !result.getTip().trim().isEmpty())
+                .collect(Collectors.toMap(BatchResult::getRequestId, BatchResult::getTip,
+                        (first, second) -> first));
+
+        log.debug("마케팅 팁 일괄 생성 응답: batchSize={}, resultCount={}", batch.size(), tipsByRequestId.size());
+
+        for (PendingTip pendingTip : batch) {
+            String tip = tipsByRequestId.get(pendingTip.requestId());
+            if (tip != null) {
+                pendingTip.result().tryEmitValue(tip);
+            } else {
+                pendingTip.result().tryEmitError(
+                        new IllegalStateException("Python AI 일괄 응답에 팁이 없습니다: requestId=" + pendingTip.requestId()));
+            }
+        }
+    }
+
+    /**
+     * 묶음 대기 요청
+     *
+     * @param abandoned 호출자가 구독을 취소했는지 여부 (전송 전 제외 대상)
+     */
+    private record PendingTip(String requestId, Map<String, Object> requestData, Sinks.One<String> result,
+                              AtomicBoolean abandoned) {
+    }
+
+    @Getter
+    @Setter
+    private static class BatchResponse {
+        private List<BatchResult> results;
+        private String status;
+        private String message;
+    }
+
+    @Getter
+    @Setter
+    private static class BatchResult {
+        @JsonProperty("request_id")
+        private String requestId;
+        private String tip;
+        private String status;
+    }
+}
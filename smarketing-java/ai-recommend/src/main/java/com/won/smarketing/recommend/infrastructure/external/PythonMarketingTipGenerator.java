@@ -1,21 +1,31 @@
 package com.won.smarketing.recommend.infrastructure.external;
 
+import com.won.smarketing.common.resilience.AiCallGuard;
 import com.won.smarketing.recommend.domain.model.MenuData;
 import com.won.smarketing.recommend.domain.model.StoreData;
 import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
 import com.won.smarketing.recommend.domain.service.AiTipGenerator;
+import com.won.smarketing.recommend.infrastructure.fallback.FallbackTipComposer;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;  // 이 어노테이션이 누락되어 있었음
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +36,18 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PythonMarketingTipGenerator implements AiTipGenerator {
 
+    private static final String AI_ENDPOINT = "marketing-tip";
+    private static final String AI_STREAM_ENDPOINT = "marketing-tip-stream";
+    private static final String STREAM_CHUNK_EVENT = "chunk";
+    private static final String STREAM_COMPLETE_EVENT = "complete";
+    private static final String STREAM_ERROR_EVENT = "error";
+    private static final ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>> SSE_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final AiCallGuard aiCallGuard;
+    private final PythonMarketingTipBatcher pythonMarketingTipBatcher;
+    private final FallbackTipComposer fallbackTipComposer;
 
     @Value("${external.python-ai-service.base-url}")
     private String pythonAiServiceBaseUrl;
@@ -37,98 +58,172 @@ public class PythonMarketingTipGenerator implements AiTipGenerator {
     @Value("${external.python-ai-service.timeout}")
     private int timeout;
 
-    @Override
-    public String generateTip(StoreWithMenuData storeWithMenuData) {
-        try {
-            log.debug("Python AI 서비스 직접 호출: store={}", storeWithMenuData.getStoreData().getStoreName());
-            return callPythonAiService(storeWithMenuData);
+    @Value("${external.python-ai-service.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    /**
+     * 묶음 응답 대기 시간
+     * single-flight 팔로워 대기 시간과 리스 TTL보다 짧아야 리더가 기다리는 동안 리스가 만료되지 않음
+     */
+    @Value("${external.python-ai-service.batch.wait-timeout:40000}")
+    private long batchWaitTimeout;
+
+    /**
+     * 스트리밍 전체 생성 시간 제한
+     * 스트리밍하는 동안 매장의 생성 리스를 보유하므로, 리스 TTL보다 짧아야 다른 인스턴스가 중복 생성하지 않음
+     */
+    @Value("${external.python-ai-service.stream.total-timeout:40000}")
+    private long streamTotalTimeout;
+
+    @Value("${marketing-tip.single-flight.wait-timeout:45000}")
+    private long singleFlightWaitTimeout;
+
+    @Value("${marketing-tip.single-flight.lease-ttl:60000}")
+    private long leaseTtl;
 
-        } catch (Exception e) {
-            log.error("Python AI 서비스 호출 실패, Fallback 처리: {}", e.getMessage());
-            return createFallbackTip(storeWithMenuData);
+    @PostConstruct
+    public void validateWaitTimeouts() {
+        if (batchEnabled && batchWaitTimeout >= Math.min(singleFlightWaitTimeout, leaseTtl)) {
+            log.warn("묶음 응답 대기 시간이 single-flight 대기 시간/리스 TTL 이상이어서 중복 생성이 발생할 수 있습니다: "
+                    + "batchWaitTimeout={}, singleFlightWaitTimeout={}, leaseTtl={}",
+                    batchWaitTimeout, singleFlightWaitTimeout, leaseTtl);
+        }
+        if (streamTotalTimeout >= Math.min(singleFlightWaitTimeout, leaseTtl)) {
+            log.warn("스트리밍 전체 생성 시간 제한이 single-flight 대기 시간/리스 TTL 이상이어서 중복 생성이 발생할 수 있습니다: "
+                    + "streamTotalTimeout={}, singleFlightWaitTimeout={}, leaseTtl={}",
+                    streamTotalTimeout, singleFlightWaitTimeout, leaseTtl);
         }
     }
 
-    private String callPythonAiService(StoreWithMenuData storeWithMenuData) {
-
-        try {
-
-            StoreData storeData = storeWithMenuData.getStoreData();
-            List<MenuData> menuDataList = storeWithMenuData.getMenuDataList();
-
-            // 메뉴 데이터를 Map 형태로 변환
-            List<Map<String, Object>> menuList = menuDataList.stream()
-                    .map(menu -> {
-                        Map<String, Object> menuMap = new HashMap<>();
-                        menuMap.put("menu_id", menu.getMenuId());
-                        menuMap.put("menu_name", menu.getMenuName());
-                        menuMap.put("category", menu.getCategory());
-                        menuMap.put("price", menu.getPrice());
-                        menuMap.put("description", menu.getDescription());
-                        return menuMap;
-                    })
-                    .collect(Collectors.toList());
-
-            // Python AI 서비스로 전송할 데이터 (매장 정보 + 메뉴 정보)
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("store_name", storeData.getStoreName());
-            requestData.put("business_type", storeData.getBusinessType());
-            requestData.put("location", storeData.getLocation());
-            requestData.put("seat_count", storeData.getSeatCount());
-            requestData.put("menu_list", menuList);
+    @Override
+    public String generateTip(StoreWithMenuData storeWithMenuData) {
+        return generateTipAsync(storeWithMenuData).block();
+    }
+
+    @Override
+    public Mono<String> generateTipAsync(StoreWithMenuData storeWithMenuData) {
+        return Mono.defer(() -> {
+            log.debug("Python AI 서비스 직접 호출: store={}", storeWithMenuData.getStoreData().getStoreName());
 
+            Map<String, Object> requestData = buildRequestData(storeWithMenuData);
             log.debug("Python AI 서비스 요청 데이터: {}", requestData);
 
-            PythonAiResponse response = webClient
-                    .post()
-                    .uri(pythonAiServiceBaseUrl + "/api/v1/generate-marketing-tip")
-                    .header("Authorization", "Bearer " + pythonAiServiceApiKey)
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestData)
-                    .retrieve()
-                    .bodyToMono(PythonAiResponse.class)
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            if (response != null && response.getTip() != null && !response.getTip().trim().isEmpty()) {
-                log.debug("Python AI 서비스 응답 성공: tip length={}", response.getTip().length());
-                return response.getTip();
-            }
-        } catch (Exception e) {
-            log.error("Python AI 서비스 실제 호출 실패: {}", e.getMessage());
-        }
+            // 실패 시 모두 규칙 기반 팁으로 대체 (묶음 전송은 PythonMarketingTipBatcher에서 보호 계층 적용)
+            Mono<String> tip = batchEnabled
+                    ? pythonMarketingTipBatcher.submit(requestData).timeout(Duration.ofMillis(batchWaitTimeout))
+                    : aiCallGuard.protect(AI_ENDPOINT, callPythonAiService(requestData), Mono::error);
+
+            return tip.onErrorResume(e -> {
+                log.error("Python AI 서비스 호출 실패, Fallback 처리: {}", e.getMessage());
+                return Mono.fromSupplier(() -> createFallbackTip(storeWithMenuData));
+            });
+        });
+    }
+
+    @Override
+    public Flux<String> streamTip(StoreWithMenuData storeWithMenuData) {
+        log.debug("Python AI 스트리밍 호출: store={}", storeWithMenuData.getStoreData().getStoreName());
+
+        AtomicBoolean emitted = new AtomicBoolean(false);
+        Flux<String> chunks = webClient
+                .post()
+                .uri(pythonAiServiceBaseUrl + "/api/v1/generate-marketing-tip/stream")
+                .header("Authorization", "Bearer " + pythonAiServiceApiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(buildRequestData(storeWithMenuData))
+                .retrieve()
+                .bodyToFlux(SSE_EVENT_TYPE)
+                // 조각 사이의 대기 시간 기준
+                .timeout(Duration.ofMillis(timeout))
+                // 전체 생성 시간 제한 (리스 TTL 안에 끝나도록, 초과하면 잘린 팁을 저장하지 않도록 오류로 종료)
+                .takeUntilOther(Mono.delay(Duration.ofMillis(streamTotalTimeout))
+                        .then(Mono.error(() -> new TimeoutException("스트리밍 전체 생성 시간 초과: " + streamTotalTimeout + "ms"))))
+                .takeUntil(event -> STREAM_COMPLETE_EVENT.equals(event.event()))
+                .handle((event, sink) -> {
+                    if (STREAM_ERROR_EVENT.equals(event.event())) {
+                        sink.error(new IllegalStateException("Python AI 스트리밍 오류: " + streamField(event, "message")));
+                    } else if (STREAM_CHUNK_EVENT.equals(event.event())) {
+                        String text = streamField(event, "text");
+                        if (text != null && !text.isEmpty()) {
+                            sink.next(text);
+                        }
+                    }
+                });
+
+        // 첫 조각 전에 실패하면 규칙 기반 팁을 한 번에 전달하고, 도중 실패는 호출 측에 그대로 전달
+        return aiCallGuard.protectMany(AI_STREAM_ENDPOINT, chunks, Flux::error)
+                .doOnNext(text -> emitted.set(true))
+                .onErrorResume(e -> {
+                    if (emitted.get()) {
+                        return Flux.error(e);
+                    }
+                    log.error("Python AI 스트리밍 호출 실패, Fallback 처리: {}", e.getMessage());
+                    return Flux.just(createFallbackTip(storeWithMenuData));
+                });
+    }
+
+    @Override
+    public boolean isFallbackTip(StoreWithMenuData storeWithMenuData, String tip) {
+        // 규칙 기반 팁은 매장 정보만으로 결정되므로 같은 입력으로 다시 만들어 비교
+        return tip != null && tip.equals(createFallbackTip(storeWithMenuData));
+    }
 
-        return createFallbackTip(storeWithMenuData);
+    private String streamField(ServerSentEvent<Map<String, Object>> event, String field) {
+        Object value = event.data() != null ? event.data().get(field) : null;
+        return value != null ? value.toString() : null;
     }
 
     /**
-     * 규칙 기반 Fallback 팁 생성 (날씨 정보 없이 매장 정보만 활용)
+     * Python AI 서비스로 전송할 데이터 구성 (매장 정보 + 메뉴 정보)
      */
-    private String createFallbackTip(StoreWithMenuData storeWithMenuData) {
-        String businessType = storeWithMenuData.getStoreData().getBusinessType();
-        String storeName = storeWithMenuData.getStoreData().getStoreName();
-        String location = storeWithMenuData.getStoreData().getLocation();
-
-        // 업종별 기본 팁 생성
-        if (businessType.contains("카페")) {
-            return String.format("%s만의 시그니처 음료와 디저트로 고객들에게 특별한 경험을 선사해보세요!", storeName);
-        } else if (businessType.contains("음식점") || businessType.contains("식당")) {
-            return String.format("%s의 대표 메뉴를 활용한 특별한 이벤트로 고객들의 관심을 끌어보세요!", storeName);
-        } else if (businessType.contains("베이커리") || businessType.contains("빵집")) {
-            return String.format("%s의 갓 구운 빵과 함께하는 따뜻한 서비스로 고객들의 마음을 사로잡아보세요!", storeName);
-        } else if (businessType.contains("치킨") || businessType.contains("튀김")) {
-            return String.format("%s의 바삭하고 맛있는 메뉴로 고객들에게 만족스러운 식사를 제공해보세요!", storeName);
-        }
+    private Map<String, Object> buildRequestData(StoreWithMenuData storeWithMenuData) {
+        StoreData storeData = storeWithMenuData.getStoreData();
+        List<MenuData> menuDataList = storeWithMenuData.getMenuDataList();
+
+        // 메뉴 데이터를 Map 형태로 변환
+        List<Map<String, Object>> menuList = menuDataList.stream()
+                .map(menu -> {
+                    Map<String, Object> menuMap = new HashMap<>();
+                    menuMap.put("menu_id", menu.getMenuId());
+                    menuMap.put("menu_name", menu.getMenuName());
+                    menuMap.put("category", menu.getCategory());
+                    menuMap.put("price", menu.getPrice());
+                    menuMap.put("description", menu.getDescription());
+                    return menuMap;
+                })
+                .collect(Collectors.toList());
+
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("store_name", storeData.getStoreName());
+        requestData.put("business_type", storeData.getBusinessType());
+        requestData.put("location", storeData.getLocation());
+        requestData.put("seat_count", storeData.getSeatCount());
+        requestData.put("menu_list", menuList);
+        return requestData;
+    }
 
-        // 지역별 팁
-        if (location.contains("강남") || location.contains("서초")) {
-            return String.format("%s에서 트렌디하고 세련된 서비스로 젊은 고객층을 공략해보세요!", storeName);
-        } else if (location.contains("홍대") || location.contains("신촌")) {
-            return String.format("%s에서 활기차고 개성 있는 이벤트로 대학생들의 관심을 끌어보세요!", storeName);
-        }
+    private Mono<String> callPythonAiService(Map<String, Object> requestData) {
+        return webClient
+                .post()
+                .uri(pythonAiServiceBaseUrl + "/api/v1/generate-marketing-tip")
+                .header("Authorization", "Bearer " + pythonAiServiceApiKey)
+                .header("Content-Type", "application/json")
+                .bodyValue(requestData)
+                .retrieve()
+                .bodyToMono(PythonAiResponse.class)
+                .timeout(Duration.ofMillis(timeout))
+                .filter(response -> response.getTip() != null && !response.getTip().trim().isEmpty())
+                .map(PythonAiResponse::getTip)
+                .doOnNext(tip -> log.debug("Python AI 서비스 응답 성공: tip length={}", tip.length()))
+                .switchIfEmpty(Mono.error(new IllegalStateException("Python AI 서비스 응답에 팁이 없습니다.")));
+    }
 
-        // 기본 팁
-        return String.format("%s만의 특별함을 살린 고객 맞춤 서비스로 단골 고객을 늘려보세요!", storeName);
+    /**
+     * 규칙 기반 Fallback 팁 생성 (업종/상권 규칙과 매장 정보 활용)
+     */
+    private String createFallbackTip(StoreWithMenuData storeWithMenuData) {
+        return fallbackTipComposer.compose(storeWithMenuData);
     }
 
     @Getter
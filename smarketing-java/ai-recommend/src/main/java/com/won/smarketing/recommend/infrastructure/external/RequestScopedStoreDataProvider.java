@@ -0,0 +1,75 @@
+package com.won.smarketing.recommend.infrastructure.external;
+
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 단위 매장 데이터 스냅샷 제공자
+ * 한 HTTP 요청 안에서는 매장/메뉴 정보를 한 번만 조회하고 이후 호출은 스냅샷을 공유
+ * 요청 스레드에서는 요청 속성에, 리액티브 실행 모드에서는 Reactor 컨텍스트의 요청 단위 저장소(REQUEST_SNAPSHOTS_CONTEXT_KEY)에 보관
+ * 둘 다 없는 워커 스레드에서는 원본 제공자로 바로 위임
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class RequestScopedStoreDataProvider implements StoreDataProvider {
+
+    private static final String SNAPSHOT_ATTRIBUTE_PREFIX = RequestScopedStoreDataProvider.class.getName() + ".";
+
+    private final CachingStoreDataProvider cachingStoreDataProvider;
+
+    @Override
+    public StoreWithMenuData getStoreWithMenuData(String userId) {
+        return fetchStoreWithMenuData(userId, null).block();
+    }
+
+    @Override
+    public Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId, Long storeIdHint) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Mono.deferContextual(context -> {
+                Optional<Map<String, StoreWithMenuData>> snapshots = context.getOrEmpty(REQUEST_SNAPSHOTS_CONTEXT_KEY);
+                return snapshots
+                        .map(requestSnapshots -> fetchWithContextSnapshots(requestSnapshots, userId, storeIdHint))
+                        .orElseGet(() -> cachingStoreDataProvider.fetchStoreWithMenuData(userId, storeIdHint));
+            });
+        }
+
+        String attributeName = SNAPSHOT_ATTRIBUTE_PREFIX + userId;
+        Object snapshot = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (snapshot instanceof StoreWithMenuData storeWithMenuData) {
+            log.debug("요청 범위 매장 스냅샷 사용: userId={}", userId);
+            return Mono.just(storeWithMenuData);
+        }
+
+        // 요청 스레드에서 잡아 둔 RequestAttributes에 저장하므로 다른 스레드에서 완료되어도 안전
+        return cachingStoreDataProvider.fetchStoreWithMenuData(userId, storeIdHint)
+                .doOnNext(storeWithMenuData -> requestAttributes.setAttribute(
+                        attributeName, storeWithMenuData, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    /**
+     * Reactor 컨텍스트의 요청 단위 저장소 사용 (요청 처리가 끝나면 컨텍스트와 함께 사라짐)
+     */
+    private Mono<StoreWithMenuData> fetchWithContextSnapshots(Map<String, StoreWithMenuData> requestSnapshots,
+                                                              String userId, Long storeIdHint) {
+        StoreWithMenuData snapshot = requestSnapshots.get(userId);
+        if (snapshot != null) {
+            log.debug("요청 범위 매장 스냅샷 사용: userId={}", userId);
+            return Mono.just(snapshot);
+        }
+        return cachingStoreDataProvider.fetchStoreWithMenuData(userId, storeIdHint)
+                .doOnNext(storeWithMenuData -> requestSnapshots.put(userId, storeWithMenuData));
+    }
+}
@@ -1,7 +1,5 @@
 package com.won.smarketing.recommend.infrastructure.external;
 
-import com.won.smarketing.common.exception.BusinessException;
-import com.won.smarketing.common.exception.ErrorCode;
 import com.won.smarketing.recommend.domain.model.MenuData;
 import com.won.smarketing.recommend.domain.model.StoreData;
 import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
@@ -17,8 +15,8 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -45,92 +43,128 @@ public class StoreApiDataProvider implements StoreDataProvider {
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
 
+    @Override
     public StoreWithMenuData getStoreWithMenuData(String userId) {
-        log.info("매장 정보와 메뉴 정보 통합 조회 시작: userId={}", userId);
-
-        try {
-            // 매장 정보와 메뉴 정보를 병렬로 조회
-            StoreData storeData = getStoreDataByUserId(userId);
-            List<MenuData> menuDataList = getMenusByStoreId(storeData.getStoreId());
-
-            StoreWithMenuData result = StoreWithMenuData.builder()
-                    .storeData(storeData)
-                    .menuDataList(menuDataList)
-                    .build();
-
-            log.info("매장 정보와 메뉴 정보 통합 조회 완료: storeId={}, storeName={}, menuCount={}",
-                    storeData.getStoreId(), storeData.getStoreName(), menuDataList.size());
-
-            return result;
-
-        } catch (Exception e) {
-            log.error("매장 정보와 메뉴 정보 통합 조회 실패, Mock 데이터 반환: storeId={}", userId, e);
+        return fetchStoreWithMenuData(userId, null).block();
+    }
 
-            // 실패 시 Mock 데이터 반환
-            return StoreWithMenuData.builder()
-                    .storeData(createMockStoreData(userId))
-                    .menuDataList(createMockMenuData(6L))
-                    .build();
+    /**
+     * 매장 정보와 메뉴 정보 비동기 조회
+     * JWT 토큰은 Reactor 컨텍스트(AUTH_TOKEN_CONTEXT_KEY)에서 먼저 찾고, 없으면 호출한 요청 스레드에서 미리 추출
+     */
+    @Override
+    public Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId, Long storeIdHint) {
+        log.info("매장 정보와 메뉴 정보 통합 조회 시작: userId={}, storeIdHint={}", userId, storeIdHint);
+
+        String requestToken = RequestContextHolder.getRequestAttributes() != null ? getCurrentJwtToken() : null;
+        Mono<BranchResult<StoreData>> storeMono = Mono.deferContextual(context ->
+                fetchStoreData(userId, context.getOrDefault(AUTH_TOKEN_CONTEXT_KEY, requestToken)));
+
+        Mono<StoreWithMenuData> result;
+        if (storeIdHint != null) {
+            // 매장 ID를 알고 있으면 매장 정보와 메뉴 정보를 병렬로 조회
+            result = Mono.zip(storeMono, fetchMenus(storeIdHint))
+                    .flatMap(tuple -> {
+                        StoreData storeData = tuple.getT1().value();
+                        if (storeData.getStoreId() != null && !storeIdHint.equals(storeData.getStoreId())) {
+                            log.info("매장 ID 힌트 불일치, 메뉴 재조회: hint={}, storeId={}", storeIdHint, storeData.getStoreId());
+                            return fetchMenus(storeData.getStoreId()).map(menus -> combine(tuple.getT1(), menus));
+                        }
+                        return Mono.just(combine(tuple.getT1(), tuple.getT2()));
+                    });
+        } else {
+            result = storeMono.flatMap(store -> fetchMenus(store.value().getStoreId())
+                    .map(menus -> combine(store, menus)));
         }
+
+        return result.doOnNext(data -> log.info("매장 정보와 메뉴 정보 통합 조회 완료: storeId={}, storeName={}, menuCount={}, degraded={}",
+                data.getStoreData().getStoreId(), data.getStoreData().getStoreName(),
+                data.getMenuDataList().size(), data.isDegraded()));
     }
 
-    public StoreData getStoreDataByUserId(String userId) {
-        try {
-            log.debug("매장 정보 실시간 조회: userId={}", userId);
-            return callStoreServiceByUserId(userId);
+    /**
+     * 매장 정보 조회 (실패 시 Mock 데이터로 대체)
+     */
+    private Mono<BranchResult<StoreData>> fetchStoreData(String userId, String jwtToken) {
+        log.debug("매장 정보 실시간 조회: userId={}", userId);
 
-        } catch (Exception e) {
-            log.error("매장 정보 조회 실패, Mock 데이터 반환: userId={}, error={}", userId, e.getMessage());
-            return createMockStoreData(userId);
+        if (!StringUtils.hasText(jwtToken)) {
+            // 요청 컨텍스트를 잃은 호출이나 토큰을 넘기지 않은 백그라운드 작업 (사용자 토큰을 임의로 발급하지 않음)
+            log.error("매장 조회용 JWT 토큰 없음, Mock 데이터 반환: userId={}", userId);
+            return Mono.just(new BranchResult<>(createMockStoreData(userId), true));
         }
-    }
 
+        return webClient
+                .get()
+                .uri(storeServiceBaseUrl + "/api/store")
+                .header(AUTHORIZATION_HEADER, BEARER_PREFIX + jwtToken)  // JWT 토큰 추가
+                .retrieve()
+                .bodyToMono(StoreApiResponse.class)
+                .timeout(Duration.ofMillis(timeout))
+                .filter(response -> response.getData() != null)
+                .map(response -> {
+                    StoreApiResponse.StoreInfo storeInfo = response.getData();
+                    return new BranchResult<>(StoreData.builder()
+                            .storeId(storeInfo.getStoreId())
+                            .storeName(storeInfo.getStoreName())
+                            .businessType(storeInfo.getBusinessType())
+                            .location(storeInfo.getAddress())
+                            .description(storeInfo.getDescription())
+                            .seatCount(storeInfo.getSeatCount())
+                            .build(), false);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("매장 정보 응답이 비어 있음, Mock 데이터 반환: userId={}", userId);
+                    return new BranchResult<>(createMockStoreData(userId), true);
+                }))
+                .onErrorResume(e -> {
+                    log.error("매장 정보 조회 실패, Mock 데이터 반환: userId={}, error={}", userId, e.getMessage());
+                    return Mono.just(new BranchResult<>(createMockStoreData(userId), true));
+                });
+    }
 
-    public List<MenuData> getMenusByStoreId(Long storeId) {
+    /**
+     * 메뉴 정보 조회 (404는 빈 목록, 그 외 실패는 Mock 데이터로 대체)
+     */
+    private Mono<BranchResult<List<MenuData>>> fetchMenus(Long storeId) {
         log.info("매장 메뉴 조회 시작: storeId={}", storeId);
 
-        try {
-            return callMenuService(storeId);
-        } catch (Exception e) {
-            log.error("메뉴 조회 실패, Mock 데이터 반환: storeId={}", storeId, e);
-            return createMockMenuData(storeId);
-        }
+        return webClient
+                .get()
+                .uri(storeServiceBaseUrl + "/api/menu/store/" + storeId)
+                .retrieve()
+                .bodyToMono(MenuApiResponse.class)
+                .timeout(Duration.ofMillis(timeout))
+                .filter(response -> response.getData() != null && !response.getData().isEmpty())
+                .map(response -> {
+                    List<MenuData> menuDataList = response.getData().stream()
+                            .map(this::toMenuData)
+                            .collect(Collectors.toList());
+
+                    log.info("매장 메뉴 조회 성공: storeId={}, menuCount={}", storeId, menuDataList.size());
+                    return new BranchResult<>(menuDataList, false);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> new BranchResult<>(createMockMenuData(storeId), true)))
+                .onErrorResume(WebClientResponseException.class, e -> {
+                    if (e.getStatusCode().value() == 404) {
+                        log.warn("매장의 메뉴 정보가 없습니다: storeId={}", storeId);
+                        return Mono.just(new BranchResult<>(Collections.<MenuData>emptyList(), false));
+                    }
+                    log.error("메뉴 서비스 호출 실패: storeId={}, error={}", storeId, e.getMessage());
+                    return Mono.just(new BranchResult<>(createMockMenuData(storeId), true));
+                })
+                .onErrorResume(e -> {
+                    log.error("메뉴 서비스 연결 실패: storeId={}, error={}", storeId, e.getMessage());
+                    return Mono.just(new BranchResult<>(createMockMenuData(storeId), true));
+                });
     }
 
-    private StoreData callStoreServiceByUserId(String userId) {
-
-        try {
-            StoreApiResponse response = webClient
-                    .get()
-                    .uri(storeServiceBaseUrl + "/api/store")
-                    .header("Authorization", "Bearer " + getCurrentJwtToken())  // JWT 토큰 추가
-                    .retrieve()
-                    .bodyToMono(StoreApiResponse.class)
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            log.info("response : {}", response.getData().getStoreName());
-            log.info("response : {}", response.getData().getStoreId());
-
-            if (response != null && response.getData() != null) {
-                StoreApiResponse.StoreInfo storeInfo = response.getData();
-                return StoreData.builder()
-                        .storeId(storeInfo.getStoreId())
-                        .storeName(storeInfo.getStoreName())
-                        .businessType(storeInfo.getBusinessType())
-                        .location(storeInfo.getAddress())
-                        .description(storeInfo.getDescription())
-                        .seatCount(storeInfo.getSeatCount())
-                        .build();
-            }
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode().value() == 404) {
-                throw new BusinessException(ErrorCode.STORE_NOT_FOUND);
-            }
-            log.error("매장 서비스 호출 실패: {}", e.getMessage());
-        }
-
-        return createMockStoreData(userId);
+    private StoreWithMenuData combine(BranchResult<StoreData> store, BranchResult<List<MenuData>> menus) {
+        return StoreWithMenuData.builder()
+                .storeData(store.value())
+                .menuDataList(menus.value())
+                .degraded(store.fallback() || menus.fallback())
+                .build();
     }
 
     private String getCurrentJwtToken() {
@@ -160,37 +194,6 @@ public class StoreApiDataProvider implements StoreDataProvider {
         }
     }
 
-    private List<MenuData> callMenuService(Long storeId) {
-        try {
-            MenuApiResponse response = webClient
-                    .get()
-                    .uri(storeServiceBaseUrl + "/api/menu/store/" + storeId)
-                    .retrieve()
-                    .bodyToMono(MenuApiResponse.class)
-                    .timeout(Duration.ofMillis(timeout))
-                    .block();
-
-            if (response != null && response.getData() != null && !response.getData().isEmpty()) {
-                List<MenuData> menuDataList = response.getData().stream()
-                        .map(this::toMenuData)
-                        .collect(Collectors.toList());
-
-                log.info("매장 메뉴 조회 성공: storeId={}, menuCount={}", storeId, menuDataList.size());
-                return menuDataList;
-            }
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode().value() == 404) {
-                log.warn("매장의 메뉴 정보가 없습니다: storeId={}", storeId);
-                return Collections.emptyList();
-            }
-            log.error("메뉴 서비스 호출 실패: storeId={}, error={}", storeId, e.getMessage());
-        } catch (WebClientException e) {
-            log.error("메뉴 서비스 연결 실패: storeId={}, error={}", storeId, e.getMessage());
-        }
-
-        return createMockMenuData(storeId);
-    }
-
     /**
      * MenuResponse를 MenuData로 변환
      */
@@ -241,6 +244,12 @@ public class StoreApiDataProvider implements StoreDataProvider {
         );
     }
 
+    /**
+     * 조회 분기별 결과 (Mock 대체 여부 포함)
+     */
+    private record BranchResult<T>(T value, boolean fallback) {
+    }
+
     @Getter
     private static class StoreApiResponse {
         private int status;
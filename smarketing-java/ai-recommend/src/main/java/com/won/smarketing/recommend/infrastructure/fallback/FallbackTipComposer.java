@@ -0,0 +1,193 @@
+package com.won.smarketing.recommend.infrastructure.fallback;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.recommend.domain.model.MenuData;
+import com.won.smarketing.recommend.domain.model.StoreData;
+import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 규칙 기반 대체 팁 생성기
+ * AI 서비스 장애 시 사용하는 팁을 업종/상권 키워드 규칙과 미리 파싱한 템플릿으로 생성
+ * 규칙 파일(marketing-tip.fallback.rules-location)은 주기적으로 다시 읽어 내용이 바뀌면 재배포 없이 적용
+ *
+ * 같은 매장 정보에는 항상 같은 팁을 생성 (AiTipGenerator.isFallbackTip에서 다시 생성해 비교)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FallbackTipComposer {
+
+    private static final String BUNDLED_RULES_LOCATION = "classpath:fallback-tip-rules.json";
+    private static final String DEFAULT_STORE_NAME = "우리 매장";
+    private static final String DEFAULT_BUSINESS_TYPE = "매장";
+    private static final String DEFAULT_LOCATION = "우리 동네";
+    private static final String DEFAULT_SIGNATURE_MENU = "대표 메뉴";
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${marketing-tip.fallback.rules-location:" + BUNDLED_RULES_LOCATION + "}")
+    private String rulesLocation;
+
+    private volatile CompiledRules compiledRules;
+    private byte[] loadedContent;
+
+    @PostConstruct
+    void loadRules() {
+        if (reload(rulesLocation) || (!BUNDLED_RULES_LOCATION.equals(rulesLocation) && reload(BUNDLED_RULES_LOCATION))) {
+            return;
+        }
+        throw new IllegalStateException("대체 팁 규칙을 불러올 수 없습니다: " + rulesLocation);
+    }
+
+    /**
+     * 규칙 파일 변경 확인 (내용이 같으면 다시 컴파일하지 않고, 잘못된 규칙이면 기존 규칙 유지)
+     */
+    @Scheduled(fixedDelayString = "${marketing-tip.fallback.reload-interval:30000}",
+            initialDelayString = "${marketing-tip.fallback.reload-interval:30000}")
+    public void reloadRules() {
+        reload(rulesLocation);
+    }
+
+    /**
+     * 매장 정보로 대체 팁 생성
+     *
+     * @param storeWithMenuData 매장 및 메뉴 정보
+     * @return 대체 팁
+     */
+    public String compose(StoreWithMenuData storeWithMenuData) {
+        CompiledRules rules = compiledRules;
+        StoreData storeData = storeWithMenuData.getStoreData();
+
+        KeywordMatcher.Match businessTypeMatch = rules.businessTypeMatcher().findBest(storeData.getBusinessType());
+        KeywordMatcher.Match locationMatch = rules.locationMatcher().findBest(storeData.getLocation());
+
+        // 업종/상권 중 먼저 선언된 규칙 사용
+        KeywordMatcher.Match selected = businessTypeMatch;
+        if (locationMatch != null && (selected == null || locationMatch.priority() < selected.priority())) {
+            selected = locationMatch;
+        }
+
+        TipTemplate[] candidates = selected != null ? rules.ruleTemplates()[selected.priority()] : rules.defaultTemplates();
+        TipTemplate template = candidates[Math.floorMod(selectionKey(storeData), candidates.length)];
+
+        String location = orDefault(storeData.getLocation(), DEFAULT_LOCATION);
+        return template.render(placeholder -> switch (placeholder) {
+            case STORE_NAME -> orDefault(storeData.getStoreName(), DEFAULT_STORE_NAME);
+            case BUSINESS_TYPE -> orDefault(storeData.getBusinessType(), DEFAULT_BUSINESS_TYPE);
+            case LOCATION -> location;
+            case NEIGHBORHOOD -> locationMatch != null ? locationMatch.keyword() : location;
+            case SIGNATURE_MENU -> signatureMenu(storeWithMenuData.getMenuDataList());
+        });
+    }
+
+    private synchronized boolean reload(String location) {
+        byte[] content;
+        try {
+            Resource resource = resourceLoader.getResource(location);
+            try (InputStream inputStream = resource.getInputStream()) {
+                content = inputStream.readAllBytes();
+            }
+        } catch (IOException e) {
+            log.warn("대체 팁 규칙 파일 읽기 실패, 기존 규칙 유지: location={}, error={}", location, e.getMessage());
+            return false;
+        }
+
+        if (compiledRules != null && Arrays.equals(content, loadedContent)) {
+            return true;
+        }
+
+        try {
+            FallbackTipRules rules = objectMapper.readValue(content, FallbackTipRules.class);
+            compiledRules = compile(rules);
+            loadedContent = content;
+            log.info("대체 팁 규칙 적용: location={}, rules={}", location, rules.getRules().size());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("대체 팁 규칙이 올바르지 않음, 기존 규칙 유지: location={}, error={}", location, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 규칙을 매처와 템플릿으로 컴파일 (규칙 순번이 곧 우선순위)
+     */
+    private static CompiledRules compile(FallbackTipRules rules) {
+        List<FallbackTipRules.Rule> ruleList = rules.getRules();
+        KeywordMatcher.Builder businessTypeMatcher = KeywordMatcher.builder();
+        KeywordMatcher.Builder locationMatcher = KeywordMatcher.builder();
+        TipTemplate[][] ruleTemplates = new TipTemplate[ruleList.size()][];
+
+        for (int priority = 0; priority < ruleList.size(); priority++) {
+            FallbackTipRules.Rule rule = ruleList.get(priority);
+            if (rule.getField() == null || rule.getKeywords().isEmpty() || rule.getTemplates().isEmpty()) {
+                throw new IllegalArgumentException("규칙에 field, keywords, templates가 모두 필요합니다: " + rule.getName());
+            }
+
+            KeywordMatcher.Builder matcher = rule.getField() == FallbackTipRules.Field.BUSINESS_TYPE
+                    ? businessTypeMatcher : locationMatcher;
+            for (String keyword : rule.getKeywords()) {
+                matcher.add(keyword, priority);
+            }
+            ruleTemplates[priority] = compileTemplates(rule.getTemplates());
+        }
+
+        if (rules.getDefaultTemplates().isEmpty()) {
+            throw new IllegalArgumentException("defaultTemplates가 비어 있습니다.");
+        }
+
+        return new CompiledRules(businessTypeMatcher.build(), locationMatcher.build(), ruleTemplates,
+                compileTemplates(rules.getDefaultTemplates()));
+    }
+
+    private static TipTemplate[] compileTemplates(List<String> templates) {
+        return templates.stream()
+                .map(TipTemplate::compile)
+                .toArray(TipTemplate[]::new);
+    }
+
+    /**
+     * 템플릿 선택 기준 (매장 ID, 없으면 매장명)
+     */
+    private static int selectionKey(StoreData storeData) {
+        return storeData.getStoreId() != null
+                ? Long.hashCode(storeData.getStoreId())
+                : Objects.hashCode(storeData.getStoreName());
+    }
+
+    private static String signatureMenu(List<MenuData> menuDataList) {
+        if (menuDataList == null) {
+            return DEFAULT_SIGNATURE_MENU;
+        }
+        for (MenuData menu : menuDataList) {
+            if (menu.getMenuName() != null && !menu.getMenuName().isBlank()) {
+                return menu.getMenuName();
+            }
+        }
+        return DEFAULT_SIGNATURE_MENU;
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+
+    private record CompiledRules(KeywordMatcher businessTypeMatcher,
+                                 KeywordMatcher locationMatcher,
+                                 TipTemplate[][] ruleTemplates,
+                                 TipTemplate[] defaultTemplates) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.won.smarketing.recommend.infrastructure.fallback;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대체 팁 규칙 설정 (JSON)
+ * 규칙은 선언 순서가 우선순위이며, 업종 규칙과 상권 규칙이 함께 매칭되면 앞에 선언된 규칙을 사용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class FallbackTipRules {
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 어떤 규칙도 매칭되지 않을 때 사용하는 템플릿
+     */
+    private List<String> defaultTemplates = new ArrayList<>();
+
+    /**
+     * 매칭 대상 필드
+     */
+    public enum Field {
+        BUSINESS_TYPE,
+        LOCATION
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Rule {
+        private String name;
+        private Field field;
+        private List<String> keywords = new ArrayList<>();
+        /**
+         * 매장별로 하나를 고정 선택 (같은 매장에는 항상 같은 팁)
+         */
+        private List<String> templates = new ArrayList<>();
+    }
+}
@@ -0,0 +1,165 @@
+package com.won.smarketing.recommend.infrastructure.fallback;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 여러 키워드를 한 번의 스캔으로 찾는 Aho-Corasick 매처
+ * 키워드마다 우선순위(작을수록 우선)를 지정하고, 본문에 등장한 키워드 중 우선순위가 가장 높은 것을 반환
+ * 대소문자는 구분하지 않으며, 생성 후에는 읽기 전용이라 여러 스레드에서 공유 가능
+ */
+final class KeywordMatcher {
+
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<Integer> failure = new ArrayList<>();
+    /**
+     * 상태에서 끝나는 키워드(실패 링크로 이어진 키워드 포함) 중 가장 높은 우선순위
+     */
+    private final List<Integer> bestPriority = new ArrayList<>();
+    private final List<String> bestKeyword = new ArrayList<>();
+
+    private KeywordMatcher() {
+        addState();
+    }
+
+    /**
+     * 매칭 결과
+     *
+     * @param priority 키워드 우선순위 (규칙 순번)
+     * @param keyword 본문에서 찾은 키워드
+     */
+    record Match(int priority, String keyword) {
+    }
+
+    /**
+     * 매처 생성용 빌더
+     */
+    static final class Builder {
+
+        private final KeywordMatcher matcher = new KeywordMatcher();
+        private boolean built;
+
+        /**
+         * 키워드 등록 (같은 키워드가 여러 번 등록되면 높은 우선순위 유지)
+         */
+        Builder add(String keyword, int priority) {
+            if (built) {
+                throw new IllegalStateException("이미 생성된 매처에는 키워드를 추가할 수 없습니다.");
+            }
+            if (keyword == null || keyword.isBlank()) {
+                throw new IllegalArgumentException("빈 키워드는 등록할 수 없습니다.");
+            }
+
+            String normalized = normalize(keyword.trim());
+            int state = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                Integer next = matcher.transitions.get(state).get(c);
+                if (next == null) {
+                    next = matcher.addState();
+                    matcher.transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            if (priority < matcher.bestPriority.get(state)) {
+                matcher.bestPriority.set(state, priority);
+                matcher.bestKeyword.set(state, keyword.trim());
+            }
+            return this;
+        }
+
+        KeywordMatcher build() {
+            built = true;
+            matcher.linkFailures();
+            return matcher;
+        }
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 본문에서 우선순위가 가장 높은 키워드 찾기
+     *
+     * @param text 검색할 본문 (null 허용)
+     * @return 매칭 결과 (없으면 null)
+     */
+    Match findBest(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+
+        int state = 0;
+        int priority = NO_MATCH;
+        String keyword = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != 0) {
+                state = failure.get(state);
+                next = transitions.get(state).get(c);
+            }
+            state = next != null ? next : 0;
+
+            if (bestPriority.get(state) < priority) {
+                priority = bestPriority.get(state);
+                keyword = bestKeyword.get(state);
+            }
+        }
+        return keyword != null ? new Match(priority, keyword) : null;
+    }
+
+    private int addState() {
+        transitions.add(new HashMap<>(4));
+        failure.add(0);
+        bestPriority.add(NO_MATCH);
+        bestKeyword.add(null);
+        return transitions.size() - 1;
+    }
+
+    /**
+     * 너비 우선으로 실패 링크를 연결하고, 실패 링크 쪽 키워드의 우선순위를 상태에 반영
+     */
+    private void linkFailures() {
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(0).values()) {
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure.get(state);
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                while (target == null && fallback != 0) {
+                    fallback = failure.get(fallback);
+                    target = transitions.get(fallback).get(edge.getKey());
+                }
+                int childFailure = target != null && target != child ? target : 0;
+                failure.set(child, childFailure);
+
+                if (bestPriority.get(childFailure) < bestPriority.get(child)) {
+                    bestPriority.set(child, bestPriority.get(childFailure));
+                    bestKeyword.set(child, bestKeyword.get(childFailure));
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private static String normalize(String keyword) {
+        StringBuilder normalized = new StringBuilder(keyword.length());
+        for (int i = 0; i < keyword.length(); i++) {
+            normalized.append(Character.toLowerCase(keyword.charAt(i)));
+        }
+        return normalized.toString();
+    }
+}
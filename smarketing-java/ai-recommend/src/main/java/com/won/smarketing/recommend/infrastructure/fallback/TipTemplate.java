@@ -0,0 +1,109 @@
+package com.won.smarketing.recommend.infrastructure.fallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 미리 파싱한 대체 팁 템플릿
+ * "{storeName}" 형식의 자리표시자를 등록 시점에 분해해 두고, 생성 시에는 조각을 이어 붙이기만 함
+ *
+ * 자리표시자
+ * - {storeName}: 매장명
+ * - {businessType}: 업종
+ * - {location}: 매장 주소
+ * - {neighborhood}: 주소에서 찾은 상권 키워드 (없으면 주소)
+ * - {signatureMenu}: 첫 번째 메뉴명 (메뉴가 없으면 "대표 메뉴")
+ */
+final class TipTemplate {
+
+    /**
+     * 자리표시자 종류
+     */
+    enum Placeholder {
+        STORE_NAME("storeName"),
+        BUSINESS_TYPE("businessType"),
+        LOCATION("location"),
+        NEIGHBORHOOD("neighborhood"),
+        SIGNATURE_MENU("signatureMenu");
+
+        private final String key;
+
+        Placeholder(String key) {
+            this.key = key;
+        }
+
+        private static Placeholder of(String key) {
+            for (Placeholder placeholder : values()) {
+                if (placeholder.key.equals(key)) {
+                    return placeholder;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 템플릿 자리표시자: {" + key + "}");
+        }
+    }
+
+    /**
+     * 템플릿에 채울 값
+     */
+    interface Values {
+        String get(Placeholder placeholder);
+    }
+
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+    private final int literalLength;
+
+    private TipTemplate(List<String> literals, List<Placeholder> placeholders) {
+        this.literals = literals.toArray(String[]::new);
+        this.placeholders = placeholders.toArray(Placeholder[]::new);
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * 템플릿 문자열 파싱
+     *
+     * @param source 템플릿 문자열
+     * @return 파싱된 템플릿
+     * @throws IllegalArgumentException 닫히지 않았거나 알 수 없는 자리표시자가 있는 경우
+     */
+    static TipTemplate compile(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("빈 템플릿은 등록할 수 없습니다.");
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int start = 0;
+        int open = source.indexOf('{');
+        while (open != -1) {
+            int close = source.indexOf('}', open + 1);
+            if (close == -1) {
+                throw new IllegalArgumentException("닫히지 않은 템플릿 자리표시자: " + source.substring(open));
+            }
+            literals.add(source.substring(start, open));
+            placeholders.add(Placeholder.of(source.substring(open + 1, close).trim()));
+            start = close + 1;
+            open = source.indexOf('{', start);
+        }
+        literals.add(source.substring(start));
+        return new TipTemplate(literals, placeholders);
+    }
+
+    /**
+     * 값을 채워 대체 팁 생성
+     */
+    String render(Values values) {
+        String[] resolved = new String[placeholders.length];
+        int length = literalLength;
+        for (int i = 0; i < placeholders.length; i++) {
+            resolved[i] = values.get(placeholders[i]);
+            length += resolved[i].length();
+        }
+
+        StringBuilder tip = new StringBuilder(length);
+        for (int i = 0; i < placeholders.length; i++) {
+            tip.append(literals[i]).append(resolved[i]);
+        }
+        return tip.append(literals[literals.length - 1]).toString();
+    }
+}
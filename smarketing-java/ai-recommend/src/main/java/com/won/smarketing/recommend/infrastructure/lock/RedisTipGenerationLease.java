@@ -0,0 +1,81 @@
+package com.won.smarketing.recommend.infrastructure.lock;
+
+import com.won.smarketing.recommend.domain.service.TipGenerationLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 마케팅 팁 생성 리스 구현체
+ * SET NX PX로 리스를 획득하고, 토큰이 일치할 때만 삭제하여 해제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisTipGenerationLease implements TipGenerationLease {
+
+    private static final String LEASE_KEY_PREFIX = "marketing-tip:lease:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${marketing-tip.single-flight.lease-ttl:60000}")
+    private long leaseTtl;
+
+    @Override
+    public Optional<String> tryAcquire(Long storeId) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(storeId), token, Duration.ofMillis(leaseTtl));
+
+            if (Boolean.TRUE.equals(acquired)) {
+                log.debug("마케팅 팁 생성 리스 획득: storeId={}", storeId);
+                return Optional.of(token);
+            }
+            return Optional.empty();
+
+        } catch (Exception e) {
+            // Redis 장애 시 인스턴스 내 합치기만으로 동작
+            log.warn("마케팅 팁 생성 리스 획득 실패, 로컬 처리로 진행: storeId={}, error={}", storeId, e.getMessage());
+            return Optional.of(token);
+        }
+    }
+
+    @Override
+    public boolean isHeld(Long storeId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(leaseKey(storeId)));
+        } catch (Exception e) {
+            log.warn("마케팅 팁 생성 리스 조회 실패: storeId={}, error={}", storeId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void release(Long storeId, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, Collections.singletonList(leaseKey(storeId)), token);
+            log.debug("마케팅 팁 생성 리스 해제: storeId={}", storeId);
+        } catch (Exception e) {
+            // 해제 실패 시 TTL 만료로 정리됨
+            log.warn("마케팅 팁 생성 리스 해제 실패: storeId={}, error={}", storeId, e.getMessage());
+        }
+    }
+
+    private String leaseKey(Long storeId) {
+        return LEASE_KEY_PREFIX + storeId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.won.smarketing.recommend.infrastructure.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 마케팅 팁 본문 JPA 엔티티
+ * 본문 SHA-256 해시를 키로 동일한 본문(대체 팁, 반복 생성된 AI 응답)을 한 번만 저장
+ */
+@Entity
+@Table(name = "marketing_tip_contents")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarketingTipContentEntity {
+
+    public static final int HASH_LENGTH = 64;
+
+    @Id
+    @Column(name = "content_hash", nullable = false, length = HASH_LENGTH)
+    private String contentHash;
+
+    @Column(name = "tip_content", nullable = false, columnDefinition = "TEXT")
+    private String tipContent;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 본문 해시 계산 (SHA-256, 소문자 16진수)
+     *
+     * @param tipContent 마케팅 팁 본문
+     * @return 본문 해시
+     */
+    public static String hashOf(String tipContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tipContent.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
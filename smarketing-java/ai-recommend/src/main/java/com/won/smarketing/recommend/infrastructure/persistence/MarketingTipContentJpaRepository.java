@@ -0,0 +1,40 @@
+package com.won.smarketing.recommend.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 마케팅 팁 본문 JPA 레포지토리
+ */
+@Repository
+public interface MarketingTipContentJpaRepository extends JpaRepository<MarketingTipContentEntity, String> {
+
+    /**
+     * 같은 해시의 본문이 없을 때만 저장 (이미 있으면 본문을 다시 쓰지 않음)
+     *
+     * @return 새로 저장된 행 수 (이미 있으면 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO marketing_tip_contents (content_hash, tip_content, created_at) " +
+            "VALUES (:contentHash, :tipContent, :createdAt) " +
+            "ON CONFLICT (content_hash) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("contentHash") String contentHash,
+                       @Param("tipContent") String tipContent,
+                       @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 이미 있는 본문 행을 공유 잠금 (FOR KEY SHARE, 행을 다시 쓰지 않음)
+     * 트랜잭션이 끝날 때까지 고아 본문 정리(purgeOrphanContents)가 재사용 중인 본문을 삭제하지 못함
+     *
+     * @return 잠근 본문 해시 (그 사이 삭제되었으면 empty)
+     */
+    @Query(value = "SELECT content_hash FROM marketing_tip_contents " +
+            "WHERE content_hash = :contentHash FOR KEY SHARE", nativeQuery = true)
+    Optional<String> lockExisting(@Param("contentHash") String contentHash);
+}
@@ -1,7 +1,6 @@
 package com.won.smarketing.recommend.infrastructure.persistence;
 
 import com.won.smarketing.recommend.domain.model.MarketingTip;
-import com.won.smarketing.recommend.domain.model.StoreData;
 import com.won.smarketing.recommend.domain.model.TipId;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,7 +17,10 @@ import java.time.LocalDateTime;
  * 마케팅 팁 JPA 엔티티
  */
 @Entity
-@Table(name = "marketing_tips")
+@Table(name = "marketing_tips", indexes = {
+        @Index(name = "idx_marketing_tips_user_history", columnList = "user_id, created_at DESC, tip_id DESC"),
+        @Index(name = "idx_marketing_tips_store_fingerprint", columnList = "store_id, input_fingerprint, created_at DESC")
+})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @Builder
@@ -40,9 +42,18 @@ public class MarketingTipEntity {
     @Column(name = "tip_summary")
     private String tipSummary;
 
-    @Lob
-    @Column(name = "tip_content", nullable = false, columnDefinition = "TEXT")
-    private String tipContent;
+    @Column(name = "content_hash", nullable = false, length = MarketingTipContentEntity.HASH_LENGTH)
+    private String contentHash;
+
+    /**
+     * 본문은 중복 제거 테이블에서 조회 (저장은 content_hash 컬럼으로만 수행)
+     */
+    @ManyToOne(fetch = FetchType.EAGER)
+    @JoinColumn(name = "content_hash", insertable = false, updatable = false)
+    private MarketingTipContentEntity content;
+
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint;
 
     @Column(name = "ai_model")
     private String aiModel;
@@ -51,30 +62,51 @@ public class MarketingTipEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 본문 생성 시각 (재사용 이력은 원본 팁의 생성 시각을 복사, 컬럼 추가 전 이력은 null)
+     * 입력 지문 재사용 기간은 제공 시각이 아닌 이 시각 기준으로 계산
+     */
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
     @LastModifiedDate
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
-    public static MarketingTipEntity fromDomain(MarketingTip marketingTip, String userId) {
+    public static MarketingTipEntity fromDomain(MarketingTip marketingTip, String userId, String contentHash) {
         return MarketingTipEntity.builder()
                 .id(marketingTip.getId() != null ? marketingTip.getId().getValue() : null)
                 .userId(userId)
                 .storeId(marketingTip.getStoreId())
-                .tipContent(marketingTip.getTipContent())
+                .contentHash(contentHash)
+                .inputFingerprint(marketingTip.getInputFingerprint())
                 .tipSummary(marketingTip.getTipSummary())
                 .createdAt(marketingTip.getCreatedAt())
+                .generatedAt(marketingTip.getGeneratedAt() != null ? marketingTip.getGeneratedAt() : marketingTip.getCreatedAt())
                 .updatedAt(marketingTip.getUpdatedAt())
                 .build();
     }
 
 
-    public MarketingTip toDomain(StoreData storeData) {
+    /**
+     * 도메인 모델로 변환 (매장 정보는 저장된 storeId만 사용하므로 외부 조회 불필요)
+     */
+    public MarketingTip toDomain() {
+        return toDomain(this.content != null ? this.content.getTipContent() : null);
+    }
+
+    /**
+     * 본문을 이미 알고 있는 경우 본문 조회 없이 도메인 모델로 변환 (저장 직후)
+     */
+    public MarketingTip toDomain(String tipContent) {
         return MarketingTip.builder()
                 .id(this.id != null ? TipId.of(this.id) : null)
                 .storeId(this.storeId)
                 .tipSummary(this.tipSummary)
-                .tipContent(this.tipContent)
+                .tipContent(tipContent)
+                .inputFingerprint(this.inputFingerprint)
                 .createdAt(this.createdAt)
+                .generatedAt(this.generatedAt != null ? this.generatedAt : this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
     }
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,21 +20,81 @@ public interface MarketingTipJpaRepository extends JpaRepository<MarketingTipEnt
     /**
      * 매장별 마케팅 팁 조회 (기존 - storeId 기반)
      */
-    @Query("SELECT m FROM MarketingTipEntity m WHERE m.storeId = :storeId ORDER BY m.createdAt DESC")
+    @Query(value = "SELECT m FROM MarketingTipEntity m LEFT JOIN FETCH m.content WHERE m.storeId = :storeId ORDER BY m.createdAt DESC",
+            countQuery = "SELECT COUNT(m) FROM MarketingTipEntity m WHERE m.storeId = :storeId")
     Page<MarketingTipEntity> findByStoreIdOrderByCreatedAtDesc(@Param("storeId") Long storeId, Pageable pageable);
 
+    /**
+     * 매장의 기준 시각 이후 가장 최근 마케팅 팁 조회 (created_at 조건으로 최근 파티션만 조회)
+     */
+    @Query("SELECT m FROM MarketingTipEntity m LEFT JOIN FETCH m.content " +
+            "WHERE m.storeId = :storeId AND m.createdAt >= :since ORDER BY m.createdAt DESC")
+    List<MarketingTipEntity> findLatestByStoreIdSince(@Param("storeId") Long storeId,
+                                                      @Param("since") LocalDateTime since,
+                                                      Pageable pageable);
+
     /**
      * 사용자별 마케팅 팁 조회 (새로 추가 - userId 기반)
      */
-    @Query("SELECT m FROM MarketingTipEntity m WHERE m.userId = :userId ORDER BY m.createdAt DESC")
+    @Query(value = "SELECT m FROM MarketingTipEntity m LEFT JOIN FETCH m.content WHERE m.userId = :userId ORDER BY m.createdAt DESC",
+            countQuery = "SELECT COUNT(m) FROM MarketingTipEntity m WHERE m.userId = :userId")
     Page<MarketingTipEntity> findByUserIdOrderByCreatedAtDesc(@Param("userId") String userId, Pageable pageable);
 
     /**
      * 사용자의 가장 최근 마케팅 팁 조회
      */
-    @Query("SELECT m FROM MarketingTipEntity m WHERE m.userId = :userId ORDER BY m.createdAt DESC LIMIT 1")
+    @Query("SELECT m FROM MarketingTipEntity m LEFT JOIN FETCH m.content WHERE m.userId = :userId ORDER BY m.createdAt DESC LIMIT 1")
     Optional<MarketingTipEntity> findTopByUserIdOrderByCreatedAtDesc(@Param("userId") String userId);
 
+    /**
+     * 사용자의 기준 시각 이후 가장 최근 마케팅 팁의 매장 ID 조회
+     */
+    @Query("SELECT m.storeId FROM MarketingTipEntity m WHERE m.userId = :userId AND m.createdAt >= :since " +
+            "ORDER BY m.createdAt DESC LIMIT 1")
+    Optional<Long> findLatestStoreIdByUserIdSince(@Param("userId") String userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 기준 시각 이후 마케팅 팁을 생성한 사용자 ID 조회
+     */
+    @Query("SELECT DISTINCT m.userId FROM MarketingTipEntity m WHERE m.createdAt >= :since AND m.userId IS NOT NULL")
+    List<String> findDistinctUserIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 사용자별 마케팅 팁 이력 첫 페이지 조회 (요약/메타데이터만)
+     */
+    @Query("SELECT new com.won.smarketing.recommend.infrastructure.persistence.MarketingTipSummaryRow(" +
+            "m.id, m.storeId, m.tipSummary, m.createdAt) FROM MarketingTipEntity m " +
+            "WHERE m.userId = :userId ORDER BY m.createdAt DESC, m.id DESC")
+    List<MarketingTipSummaryRow> findHistoryByUserId(@Param("userId") String userId, Pageable pageable);
+
+    /**
+     * 커서 이후 사용자별 마케팅 팁 이력 조회 (요약/메타데이터만)
+     * createdAt <= :createdAt 조건으로 (user_id, created_at, tip_id) 인덱스 탐색 시작 위치를 지정
+     */
+    @Query("SELECT new com.won.smarketing.recommend.infrastructure.persistence.MarketingTipSummaryRow(" +
+            "m.id, m.storeId, m.tipSummary, m.createdAt) FROM MarketingTipEntity m " +
+            "WHERE m.userId = :userId AND m.createdAt <= :createdAt " +
+            "AND (m.createdAt < :createdAt OR m.id < :tipId) " +
+            "ORDER BY m.createdAt DESC, m.id DESC")
+    List<MarketingTipSummaryRow> findHistoryByUserIdAfter(@Param("userId") String userId,
+                                                          @Param("createdAt") LocalDateTime createdAt,
+                                                          @Param("tipId") Long tipId,
+                                                          Pageable pageable);
+
+    /**
+     * 매장의 같은 입력 지문으로 기준 시각 이후 생성된 마케팅 팁 조회 (제공 최신순)
+     * 재사용 이력도 원본 생성 시각(generatedAt)으로 거르므로, 재사용해도 기간이 다시 늘어나지 않음
+     * (제공 시각은 생성 시각 이후이므로 createdAt 조건은 결과를 바꾸지 않고 파티션/인덱스 범위만 좁힘)
+     */
+    @Query("SELECT m FROM MarketingTipEntity m LEFT JOIN FETCH m.content " +
+            "WHERE m.storeId = :storeId AND m.inputFingerprint = :inputFingerprint AND m.createdAt >= :since " +
+            "AND COALESCE(m.generatedAt, m.createdAt) >= :since " +
+            "ORDER BY m.createdAt DESC")
+    List<MarketingTipEntity> findByStoreIdAndInputFingerprintSince(@Param("storeId") Long storeId,
+                                                                   @Param("inputFingerprint") String inputFingerprint,
+                                                                   @Param("since") LocalDateTime since,
+                                                                   Pageable pageable);
+
     /**
      * 특정 팁이 해당 사용자의 것인지 확인
      */
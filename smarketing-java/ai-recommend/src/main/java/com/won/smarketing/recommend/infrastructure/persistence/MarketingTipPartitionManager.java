@@ -0,0 +1,178 @@
+package com.won.smarketing.recommend.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * marketing_tips 월별 파티션 관리 (PostgreSQL)
+ * 다가올 달의 파티션을 미리 만들고, 보관 기간이 지난 파티션은 삭제(drop)하거나 분리(detach)하여 보관
+ * 파티션 구성은 db/marketing_tips_partitioning.sql로 적용하며, 파티션 테이블이 아니면(로컬 create-drop 등) 아무 작업도 하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketingTipPartitionManager {
+
+    private static final String TABLE_NAME = "marketing_tips";
+    private static final String CONTENT_TABLE_NAME = "marketing_tip_contents";
+    private static final String PARTITION_PREFIX = TABLE_NAME + "_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${marketing-tip.retention.premake-months:2}")
+    private int premakeMonths;
+
+    /**
+     * 보관 기간이 지난 파티션 처리 방식
+     */
+    public enum RetentionMode {
+        /** 파티션 테이블 삭제 */
+        DROP,
+        /** 파티션을 분리하여 독립 테이블로 보관 (백업 후 직접 삭제) */
+        DETACH
+    }
+
+    /**
+     * 이번 달부터 premake-months 이후까지의 파티션 생성
+     *
+     * @return 새로 만든 파티션 수
+     */
+    public int ensurePartitions() {
+        if (!isPartitioned()) {
+            log.debug("marketing_tips가 파티션 테이블이 아니므로 파티션 생성 생략");
+            return 0;
+        }
+
+        List<String> existing = listPartitions();
+        YearMonth current = YearMonth.now();
+        int created = 0;
+        for (int offset = 0; offset <= premakeMonths; offset++) {
+            YearMonth month = current.plusMonths(offset);
+            String partition = partitionName(month);
+            if (existing.contains(partition)) {
+                continue;
+            }
+
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE_NAME +
+                    " FOR VALUES FROM ('" + bound(month) + "') TO ('" + bound(month.plusMonths(1)) + "')");
+            log.info("마케팅 팁 파티션 생성: partition={}", partition);
+            created++;
+        }
+        return created;
+    }
+
+    /**
+     * 보관 기간이 지난 월별 파티션 정리
+     *
+     * @param retentionMonths 보관 개월 수 (이번 달 포함)
+     * @param mode 정리 방식
+     * @return 정리한 파티션 이름
+     */
+    public List<String> purgeExpiredPartitions(int retentionMonths, RetentionMode mode) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("보관 기간은 1개월 이상이어야 합니다: " + retentionMonths);
+        }
+        if (!isPartitioned()) {
+            log.info("marketing_tips가 파티션 테이블이 아니므로 보관 기간 정리 생략");
+            return List.of();
+        }
+
+        // 이 달 이전에 끝나는 파티션이 정리 대상
+        YearMonth oldestRetained = YearMonth.now().minusMonths(retentionMonths - 1L);
+        List<String> purged = listPartitions().stream()
+                .filter(partition -> partitionMonth(partition).filter(month -> month.isBefore(oldestRetained)).isPresent())
+                .sorted()
+                .toList();
+
+        for (String partition : purged) {
+            if (mode == RetentionMode.DETACH) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE_NAME + " DETACH PARTITION " + partition);
+                log.info("보관 기간이 지난 마케팅 팁 파티션 분리: partition={}", partition);
+            } else {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+                log.info("보관 기간이 지난 마케팅 팁 파티션 삭제: partition={}", partition);
+            }
+        }
+        return purged;
+    }
+
+    /**
+     * 어떤 팁도 참조하지 않는 오래된 본문 삭제 (파티션 정리 후 남은 본문)
+     * 기준 시각 이전에 저장된 본문 중, 본문을 외래 키로 참조하는 모든 테이블
+     * (marketing_tips, 마이그레이션 후 남긴 marketing_tips_legacy, 분리한 파티션 등)에서 참조하지 않는 본문만 대상
+     * 같은 본문을 재사용하는 저장은 lockExisting으로 행을 공유 잠금하므로, 잠긴 본문은 건너뜀 (SKIP LOCKED)
+     *
+     * @return 삭제한 본문 수
+     */
+    public int purgeOrphanContents(LocalDateTime createdBefore) {
+        StringBuilder sql = new StringBuilder("DELETE FROM " + CONTENT_TABLE_NAME + " WHERE content_hash IN (" +
+                "SELECT c.content_hash FROM " + CONTENT_TABLE_NAME + " c WHERE c.created_at < ?");
+        for (String[] reference : listContentReferences()) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM ").append(reference[0])
+                    .append(" r WHERE r.").append(reference[1]).append(" = c.content_hash)");
+        }
+        sql.append(" FOR UPDATE SKIP LOCKED)");
+        return jdbcTemplate.update(sql.toString(), createdBefore);
+    }
+
+    /**
+     * 본문 테이블을 외래 키로 참조하는 [테이블, 컬럼] 목록
+     * 파티션은 부모 테이블의 제약만 사용하고(conparentid = 0), 분리된 파티션은 독립 제약이 되므로 따로 포함됨
+     */
+    private List<String[]> listContentReferences() {
+        return jdbcTemplate.query("SELECT con.conrelid::regclass::text AS table_name, quote_ident(a.attname) AS column_name " +
+                        "FROM pg_constraint con " +
+                        "JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = con.conkey[1] " +
+                        "WHERE con.contype = 'f' AND con.confrelid = ?::regclass AND con.conparentid = 0",
+                (rs, rowNum) -> new String[]{rs.getString("table_name"), rs.getString("column_name")},
+                CONTENT_TABLE_NAME);
+    }
+
+    private boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p " +
+                "JOIN pg_class c ON c.oid = p.partrelid WHERE c.relname = ? AND pg_table_is_visible(c.oid))",
+                Boolean.class, TABLE_NAME);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("SELECT child.relname FROM pg_inherits i " +
+                "JOIN pg_class parent ON parent.oid = i.inhparent " +
+                "JOIN pg_class child ON child.oid = i.inhrelid " +
+                "WHERE parent.relname = ? AND pg_table_is_visible(parent.oid)", String.class, TABLE_NAME);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    /**
+     * 월별 파티션 이름에서 월 추출 (기본 파티션 등 규칙에 맞지 않는 이름은 empty)
+     */
+    private static Optional<YearMonth> partitionMonth(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String bound(YearMonth month) {
+        return month.atDay(1).atStartOfDay().format(BOUND_FORMAT);
+    }
+}
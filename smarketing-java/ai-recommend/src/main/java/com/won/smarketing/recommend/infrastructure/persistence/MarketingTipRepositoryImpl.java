@@ -1,16 +1,23 @@
 package com.won.smarketing.recommend.infrastructure.persistence;
 
 import com.won.smarketing.recommend.domain.model.MarketingTip;
-import com.won.smarketing.recommend.domain.model.StoreWithMenuData;
+import com.won.smarketing.recommend.domain.model.MarketingTipCursor;
+import com.won.smarketing.recommend.domain.model.MarketingTipSummary;
 import com.won.smarketing.recommend.domain.repository.MarketingTipRepository;
-import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import com.won.smarketing.recommend.infrastructure.cache.MarketingTipCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -19,27 +26,30 @@ import java.util.Optional;
 public class MarketingTipRepositoryImpl implements MarketingTipRepository {
 
     private final MarketingTipJpaRepository jpaRepository;
-    private final StoreDataProvider storeDataProvider;
+    private final MarketingTipContentJpaRepository contentJpaRepository;
+    private final MarketingTipCache marketingTipCache;
 
     @Override
+    @Transactional
     public MarketingTip save(MarketingTip marketingTip) {
-        String userId = getCurrentUserId();
-        MarketingTipEntity entity = MarketingTipEntity.fromDomain(marketingTip, userId);
-        MarketingTipEntity savedEntity = jpaRepository.save(entity);
+        return save(marketingTip, getCurrentUserId());
+    }
 
-        // Store 정보는 다시 조회해서 Domain에 설정
-        StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(userId);
-        return savedEntity.toDomain(storeWithMenuData.getStoreData());
+    @Override
+    @Transactional
+    public MarketingTip save(MarketingTip marketingTip, String userId) {
+        String contentHash = saveContent(marketingTip.getTipContent());
+        MarketingTipEntity entity = MarketingTipEntity.fromDomain(marketingTip, userId, contentHash);
+        MarketingTip savedTip = jpaRepository.save(entity).toDomain(marketingTip.getTipContent());
+
+        cacheAfterCommit(savedTip);
+        return savedTip;
     }
 
     @Override
     public Optional<MarketingTip> findById(Long tipId) {
         return jpaRepository.findById(tipId)
-                .map(entity -> {
-                    // Store 정보를 API로 조회
-                    StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(entity.getUserId());
-                    return entity.toDomain(storeWithMenuData.getStoreData());
-                });
+                .map(MarketingTipEntity::toDomain);
     }
 
     @Override
@@ -49,16 +59,67 @@ public class MarketingTipRepositoryImpl implements MarketingTipRepository {
         return findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    @Override
+    public Optional<MarketingTip> findRecentByStoreId(Long storeId) {
+        if (storeId == null) {
+            return Optional.empty();
+        }
+
+        Optional<MarketingTip> cachedTip = marketingTipCache.get(storeId);
+        if (cachedTip.isPresent()) {
+            return cachedTip;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Optional<MarketingTip> recentTip = jpaRepository.findLatestByStoreIdSince(storeId, now.minus(MarketingTip.RECENT_WINDOW),
+                        PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .map(MarketingTipEntity::toDomain)
+                .filter(tip -> tip.isRecentAt(now));
+
+        recentTip.ifPresent(marketingTipCache::put);
+        return recentTip;
+    }
+
+    @Override
+    public Optional<Long> findLatestStoreIdByUserId(String userId) {
+        return jpaRepository.findLatestStoreIdByUserIdSince(userId,
+                LocalDateTime.now().minus(MarketingTip.STORE_ID_HINT_WINDOW));
+    }
+
+    @Override
+    public List<String> findActiveUserIdsSince(LocalDateTime since) {
+        return jpaRepository.findDistinctUserIdsCreatedSince(since);
+    }
+
+    @Override
+    public List<MarketingTip> findByInputFingerprintSince(Long storeId, String inputFingerprint,
+                                                          LocalDateTime since, int limit) {
+        return jpaRepository.findByStoreIdAndInputFingerprintSince(storeId, inputFingerprint, since, PageRequest.of(0, limit))
+                .stream()
+                .map(MarketingTipEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<MarketingTipSummary> findHistoryByUserId(String userId, MarketingTipCursor cursor, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<MarketingTipSummaryRow> rows = cursor == null
+                ? jpaRepository.findHistoryByUserId(userId, firstRows)
+                : jpaRepository.findHistoryByUserIdAfter(userId, cursor.getCreatedAt(), cursor.getTipId(), firstRows);
+
+        return rows.stream()
+                .map(MarketingTipSummaryRow::toDomain)
+                .toList();
+    }
+
     /**
      * 사용자별 마케팅 팁 조회 (새로 추가)
      */
     public Page<MarketingTip> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable) {
-        Page<MarketingTipEntity> entities = jpaRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
-
-        // Store 정보는 한 번만 조회 (같은 userId이므로)
-        StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(userId);
-
-        return entities.map(entity -> entity.toDomain(storeWithMenuData.getStoreData()));
+        return jpaRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+                .map(MarketingTipEntity::toDomain);
     }
 
     /**
@@ -66,10 +127,7 @@ public class MarketingTipRepositoryImpl implements MarketingTipRepository {
      */
     public Optional<MarketingTip> findMostRecentByUserId(String userId) {
         return jpaRepository.findTopByUserIdOrderByCreatedAtDesc(userId)
-                .map(entity -> {
-                    StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(userId);
-                    return entity.toDomain(storeWithMenuData.getStoreData());
-                });
+                .map(MarketingTipEntity::toDomain);
     }
 
     /**
@@ -79,6 +137,41 @@ public class MarketingTipRepositoryImpl implements MarketingTipRepository {
         return jpaRepository.existsByIdAndUserId(tipId, userId);
     }
 
+    /**
+     * 본문을 해시 기준으로 한 번만 저장 (같은 본문이 이미 있으면 본문 쓰기를 생략하고 행만 공유 잠금)
+     *
+     * @return 본문 해시
+     */
+    private String saveContent(String tipContent) {
+        String contentHash = MarketingTipContentEntity.hashOf(tipContent);
+        int inserted = contentJpaRepository.insertIfAbsent(contentHash, tipContent, LocalDateTime.now());
+        if (inserted == 0) {
+            if (contentJpaRepository.lockExisting(contentHash).isPresent()) {
+                log.debug("동일한 마케팅 팁 본문 재사용: contentHash={}", contentHash);
+            } else {
+                // 확인과 잠금 사이에 고아 본문 정리로 삭제되었으면 다시 저장 (새 행은 정리 기준 시각 이후라 대상이 아님)
+                contentJpaRepository.insertIfAbsent(contentHash, tipContent, LocalDateTime.now());
+            }
+        }
+        return contentHash;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 캐시 저장 (롤백된 팁이 캐시에 남지 않도록)
+     */
+    private void cacheAfterCommit(MarketingTip marketingTip) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    marketingTipCache.put(marketingTip);
+                }
+            });
+            return;
+        }
+        marketingTipCache.put(marketingTip);
+    }
+
     /**
      * 현재 로그인된 사용자 ID 조회
      */
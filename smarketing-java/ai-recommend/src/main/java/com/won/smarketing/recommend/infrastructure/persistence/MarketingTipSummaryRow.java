@@ -0,0 +1,21 @@
+package com.won.smarketing.recommend.infrastructure.persistence;
+
+import com.won.smarketing.recommend.domain.model.MarketingTipSummary;
+import com.won.smarketing.recommend.domain.model.TipId;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마케팅 팁 이력 조회 프로젝션 (본문 컬럼은 읽지 않음)
+ */
+public record MarketingTipSummaryRow(Long id, Long storeId, String tipSummary, LocalDateTime createdAt) {
+
+    public MarketingTipSummary toDomain() {
+        return MarketingTipSummary.builder()
+                .id(TipId.of(id))
+                .storeId(storeId)
+                .tipSummary(tipSummary)
+                .createdAt(createdAt)
+                .build();
+    }
+}
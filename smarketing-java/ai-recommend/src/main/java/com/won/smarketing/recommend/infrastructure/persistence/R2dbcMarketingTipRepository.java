@@ -0,0 +1,169 @@
+package com.won.smarketing.recommend.infrastructure.persistence;
+
+import com.won.smarketing.recommend.domain.model.MarketingTip;
+import com.won.smarketing.recommend.domain.model.TipId;
+import com.won.smarketing.recommend.domain.repository.ReactiveMarketingTipRepository;
+import com.won.smarketing.recommend.infrastructure.cache.MarketingTipCache;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마케팅 팁 R2DBC 레포지토리 구현체 (리액티브 실행 모드 전용)
+ * JPA 엔티티와 같은 marketing_tips / marketing_tip_contents 테이블을 SQL로 직접 조회/저장
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marketing-tip.reactive.enabled", havingValue = "true")
+public class R2dbcMarketingTipRepository implements ReactiveMarketingTipRepository {
+
+    private static final String SELECT_TIP = "SELECT m.tip_id, m.store_id, m.tip_summary, c.tip_content, " +
+            "m.input_fingerprint, m.created_at, m.generated_at, m.updated_at " +
+            "FROM marketing_tips m LEFT JOIN marketing_tip_contents c ON c.content_hash = m.content_hash ";
+
+    private final DatabaseClient marketingTipDatabaseClient;
+    private final TransactionalOperator marketingTipTransactionalOperator;
+    private final MarketingTipCache marketingTipCache;
+
+    @Override
+    public Mono<MarketingTip> save(MarketingTip marketingTip, String userId) {
+        String contentHash = MarketingTipContentEntity.hashOf(marketingTip.getTipContent());
+        LocalDateTime createdAt = marketingTip.getCreatedAt() != null ? marketingTip.getCreatedAt() : LocalDateTime.now();
+        LocalDateTime generatedAt = marketingTip.getGeneratedAt() != null ? marketingTip.getGeneratedAt() : createdAt;
+
+        Mono<Long> insertContent = marketingTipDatabaseClient.sql("INSERT INTO marketing_tip_contents (content_hash, tip_content, created_at) " +
+                        "VALUES (:contentHash, :tipContent, :createdAt) ON CONFLICT (content_hash) DO NOTHING")
+                .bind("contentHash", contentHash)
+                .bind("tipContent", marketingTip.getTipContent())
+                .bind("createdAt", createdAt)
+                .fetch()
+                .rowsUpdated();
+
+        // 기존 본문을 재사용하면 행을 공유 잠금 (FOR KEY SHARE, 고아 본문 정리와 경합 방지)
+        // 확인과 잠금 사이에 정리로 삭제되었으면 다시 저장 (새 행은 정리 기준 시각 이후라 대상이 아님)
+        Mono<Long> insert = insertContent
+                .flatMap(inserted -> inserted > 0 ? Mono.just(inserted) : marketingTipDatabaseClient.sql(
+                                "SELECT content_hash FROM marketing_tip_contents WHERE content_hash = :contentHash FOR KEY SHARE")
+                        .bind("contentHash", contentHash)
+                        .fetch()
+                        .one()
+                        .doOnNext(row -> log.debug("동일한 마케팅 팁 본문 재사용: contentHash={}", contentHash))
+                        .map(row -> 0L)
+                        .switchIfEmpty(insertContent))
+                .then(bindNullable(marketingTipDatabaseClient.sql("INSERT INTO marketing_tips " +
+                                        "(user_id, store_id, tip_summary, content_hash, input_fingerprint, created_at, generated_at, updated_at) " +
+                                        "VALUES (:userId, :storeId, :tipSummary, :contentHash, :inputFingerprint, :createdAt, :generatedAt, :createdAt) " +
+                                        "RETURNING tip_id")
+                                .bind("userId", userId)
+                                .bind("storeId", marketingTip.getStoreId())
+                                .bind("contentHash", contentHash)
+                                .bind("createdAt", createdAt)
+                                .bind("generatedAt", generatedAt),
+                        marketingTip)
+                        .map(row -> row.get("tip_id", Long.class))
+                        .one());
+
+        // 본문과 팁을 한 트랜잭션으로 저장하고, 커밋 후 캐시 저장 (Redis 호출은 블로킹 스레드에서)
+        return marketingTipTransactionalOperator.transactional(insert)
+                .map(tipId -> MarketingTip.builder()
+                        .id(TipId.of(tipId))
+                        .storeId(marketingTip.getStoreId())
+                        .tipSummary(marketingTip.getTipSummary())
+                        .tipContent(marketingTip.getTipContent())
+                        .inputFingerprint(marketingTip.getInputFingerprint())
+                        .storeWithMenuData(marketingTip.getStoreWithMenuData())
+                        .createdAt(createdAt)
+                        .generatedAt(generatedAt)
+                        .updatedAt(createdAt)
+                        .build())
+                .flatMap(savedTip -> Mono.fromRunnable(() -> marketingTipCache.put(savedTip))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(savedTip));
+    }
+
+    @Override
+    public Mono<MarketingTip> findRecentByStoreId(Long storeId) {
+        if (storeId == null) {
+            return Mono.empty();
+        }
+
+        Mono<MarketingTip> fromDatabase = marketingTipDatabaseClient.sql(SELECT_TIP +
+                        "WHERE m.store_id = :storeId AND m.created_at >= :since ORDER BY m.created_at DESC LIMIT 1")
+                .bind("storeId", storeId)
+                .bind("since", LocalDateTime.now().minus(MarketingTip.RECENT_WINDOW))
+                .map(R2dbcMarketingTipRepository::toDomain)
+                .one()
+                .filter(tip -> tip.isRecentAt(LocalDateTime.now()))
+                .flatMap(tip -> Mono.fromRunnable(() -> marketingTipCache.put(tip))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .thenReturn(tip));
+
+        // 캐시(L1 → L2) 먼저 확인
+        return Mono.fromCallable(() -> marketingTipCache.get(storeId).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(fromDatabase);
+    }
+
+    @Override
+    public Mono<Long> findLatestStoreIdByUserId(String userId) {
+        return marketingTipDatabaseClient.sql("SELECT store_id FROM marketing_tips WHERE user_id = :userId " +
+                        "AND created_at >= :since ORDER BY created_at DESC LIMIT 1")
+                .bind("userId", userId)
+                .bind("since", LocalDateTime.now().minus(MarketingTip.STORE_ID_HINT_WINDOW))
+                .map(row -> row.get("store_id", Long.class))
+                .one();
+    }
+
+    @Override
+    public Flux<MarketingTip> findByInputFingerprintSince(Long storeId, String inputFingerprint,
+                                                          LocalDateTime since, int limit) {
+        return marketingTipDatabaseClient.sql(SELECT_TIP +
+                        "WHERE m.store_id = :storeId AND m.input_fingerprint = :inputFingerprint AND m.created_at >= :since " +
+                        "AND COALESCE(m.generated_at, m.created_at) >= :since " +
+                        "ORDER BY m.created_at DESC LIMIT :limit")
+                .bind("storeId", storeId)
+                .bind("inputFingerprint", inputFingerprint)
+                .bind("since", since)
+                .bind("limit", limit)
+                .map(R2dbcMarketingTipRepository::toDomain)
+                .all();
+    }
+
+    /**
+     * 값이 없을 수 있는 컬럼 바인딩 (요약, 입력 지문)
+     */
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, MarketingTip marketingTip) {
+        spec = marketingTip.getTipSummary() != null
+                ? spec.bind("tipSummary", marketingTip.getTipSummary())
+                : spec.bindNull("tipSummary", String.class);
+        return marketingTip.getInputFingerprint() != null
+                ? spec.bind("inputFingerprint", marketingTip.getInputFingerprint())
+                : spec.bindNull("inputFingerprint", String.class);
+    }
+
+    private static MarketingTip toDomain(Readable row) {
+        Long tipId = row.get("tip_id", Long.class);
+        LocalDateTime createdAt = row.get("created_at", LocalDateTime.class);
+        LocalDateTime generatedAt = row.get("generated_at", LocalDateTime.class);
+        return MarketingTip.builder()
+                .id(tipId != null ? TipId.of(tipId) : null)
+                .storeId(row.get("store_id", Long.class))
+                .tipSummary(row.get("tip_summary", String.class))
+                .tipContent(row.get("tip_content", String.class))
+                .inputFingerprint(row.get("input_fingerprint", String.class))
+                .createdAt(createdAt)
+                .generatedAt(generatedAt != null ? generatedAt : createdAt)
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
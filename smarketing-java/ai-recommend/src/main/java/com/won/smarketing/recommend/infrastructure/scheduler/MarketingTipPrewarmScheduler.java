@@ -0,0 +1,63 @@
+package com.won.smarketing.recommend.infrastructure.scheduler;
+
+import com.won.smarketing.recommend.application.service.MarketingTipPrewarmService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 마케팅 팁 사전 생성 스케줄러
+ * 사용자 접속이 몰리기 전에 실행하며, 여러 인스턴스 중 Redis 실행 락을 획득한 한 곳에서만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marketing-tip.prewarm.enabled", havingValue = "true", matchIfMissing = true)
+public class MarketingTipPrewarmScheduler {
+
+    private static final String RUN_LOCK_KEY = "marketing-tip:prewarm:lock";
+
+    private final MarketingTipPrewarmService marketingTipPrewarmService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${marketing-tip.prewarm.lock-ttl:600000}")
+    private long lockTtl;
+
+    @Value("${marketing-tip.async.consumer-name:ai-recommend}")
+    private String instanceName;
+
+    @Scheduled(cron = "${marketing-tip.prewarm.cron:0 40 7,10 * * *}", zone = "${marketing-tip.prewarm.zone:Asia/Seoul}")
+    public void prewarmMarketingTips() {
+        if (!acquireRunLock()) {
+            log.info("다른 인스턴스에서 마케팅 팁 사전 생성 실행 중, 건너뜀");
+            return;
+        }
+
+        try {
+            marketingTipPrewarmService.prewarmActiveStores();
+        } catch (Exception e) {
+            log.error("마케팅 팁 사전 생성 중 오류", e);
+        }
+    }
+
+    /**
+     * 실행 락 획득
+     * 락은 TTL 만료로만 해제하여 시각이 조금 어긋난 다른 인스턴스가 같은 회차를 다시 실행하지 않도록 함
+     */
+    private boolean acquireRunLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(RUN_LOCK_KEY, instanceName, Duration.ofMillis(lockTtl)));
+        } catch (Exception e) {
+            // Redis 장애 시 모든 인스턴스가 동시에 AI를 호출하지 않도록 실행하지 않음
+            log.warn("마케팅 팁 사전 생성 실행 락 획득 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.won.smarketing.recommend.infrastructure.scheduler;
+
+import com.won.smarketing.recommend.infrastructure.persistence.MarketingTipPartitionManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 마케팅 팁 보관 기간 정리 스케줄러
+ * 다음 달 파티션을 미리 만들고 보관 기간이 지난 월별 파티션을 삭제(drop) 또는 분리(detach)
+ * 여러 인스턴스 중 Redis 실행 락을 획득한 한 곳에서만 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "marketing-tip.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class MarketingTipRetentionScheduler {
+
+    private static final String RUN_LOCK_KEY = "marketing-tip:retention:lock";
+
+    private final MarketingTipPartitionManager marketingTipPartitionManager;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${marketing-tip.retention.months:12}")
+    private int retentionMonths;
+
+    @Value("${marketing-tip.retention.mode:drop}")
+    private String mode;
+
+    @Value("${marketing-tip.retention.lock-ttl:600000}")
+    private long lockTtl;
+
+    @Value("${marketing-tip.async.consumer-name:ai-recommend}")
+    private String instanceName;
+
+    /**
+     * 기동 시 파티션 확인 (월초 배포 직후 파티션이 없어 기본 파티션에 쌓이지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        try {
+            marketingTipPartitionManager.ensurePartitions();
+        } catch (Exception e) {
+            log.warn("마케팅 팁 파티션 확인 실패: error={}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${marketing-tip.retention.cron:0 30 3 * * *}", zone = "${marketing-tip.retention.zone:Asia/Seoul}")
+    public void purgeExpiredMarketingTips() {
+        if (!acquireRunLock()) {
+            log.info("다른 인스턴스에서 마케팅 팁 보관 기간 정리 실행 중, 건너뜀");
+            return;
+        }
+
+        try {
+            marketingTipPartitionManager.ensurePartitions();
+
+            MarketingTipPartitionManager.RetentionMode retentionMode =
+                    MarketingTipPartitionManager.RetentionMode.valueOf(mode.toUpperCase());
+            List<String> purged = marketingTipPartitionManager.purgeExpiredPartitions(retentionMonths, retentionMode);
+            if (purged.isEmpty()) {
+                return;
+            }
+            if (retentionMode == MarketingTipPartitionManager.RetentionMode.DETACH) {
+                // 분리한 파티션은 외래 키로 본문을 계속 참조하므로 본문은 남겨 둠
+                log.info("마케팅 팁 보관 기간 정리 완료: detached={}", purged);
+                return;
+            }
+
+            // 삭제한 파티션의 팁만 참조하던 본문 삭제
+            int orphanContents = marketingTipPartitionManager.purgeOrphanContents(
+                    LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths - 1L).atStartOfDay());
+            log.info("마케팅 팁 보관 기간 정리 완료: partitions={}, orphanContents={}", purged, orphanContents);
+        } catch (Exception e) {
+            log.error("마케팅 팁 보관 기간 정리 중 오류", e);
+        }
+    }
+
+    /**
+     * 실행 락 획득 (TTL 만료로만 해제)
+     */
+    private boolean acquireRunLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(RUN_LOCK_KEY, instanceName, Duration.ofMillis(lockTtl)));
+        } catch (Exception e) {
+            log.warn("마케팅 팁 보관 기간 정리 실행 락 획득 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -2,15 +2,29 @@ package com.won.smarketing.recommend.presentation.controller;
 
 import com.won.smarketing.common.dto.ApiResponse;
 import com.won.smarketing.recommend.application.usecase.MarketingTipUseCase;
+import com.won.smarketing.recommend.application.usecase.ReactiveMarketingTipUseCase;
+import com.won.smarketing.recommend.domain.service.StoreDataProvider;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipHistoryResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipRequestResponse;
 import com.won.smarketing.recommend.presentation.dto.MarketingTipResponse;
+import com.won.smarketing.recommend.presentation.dto.MarketingTipStreamEvent;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * AI 마케팅 추천 컨트롤러 (단일 API)
@@ -22,20 +36,101 @@ import jakarta.validation.Valid;
 @RequiredArgsConstructor
 public class RecommendationController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final MarketingTipUseCase marketingTipUseCase;
+    private final ObjectProvider<ReactiveMarketingTipUseCase> reactiveMarketingTipUseCase;
 
     @Operation(
             summary = "마케팅 팁 조회/생성",
             description = "마케팅 팁 전체 내용 조회. 1시간 이내 생성된 팁이 있으면 기존 것 사용, 없으면 새로 생성"
     )
     @PostMapping("/marketing-tips")
-    public ResponseEntity<ApiResponse<MarketingTipResponse>> provideMarketingTip() {
+    public Object provideMarketingTip(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
 
         log.info("마케팅 팁 제공 요청");
 
-        MarketingTipResponse response = marketingTipUseCase.provideMarketingTip();
+        // 반환 형식은 실행 모드에 따라 다름: 기본 모드는 ResponseEntity, 리액티브 실행 모드는 Mono<ResponseEntity>
+        // 기본 모드는 요청 스레드에서 바로 처리하여 응답 (비동기 디스패치 없음)
+        ReactiveMarketingTipUseCase reactiveUseCase = reactiveMarketingTipUseCase.getIfAvailable();
+        if (reactiveUseCase == null) {
+            MarketingTipResponse response = marketingTipUseCase.provideMarketingTip();
+            log.info("마케팅 팁 제공 완료: tipId={}", response.getTipId());
+            return ResponseEntity.ok(ApiResponse.success(response));
+        }
+
+        // 리액티브 실행 모드면 요청 스레드의 인증 정보와 사용자 토큰을 Reactor 컨텍스트로 옮겨 논블로킹으로 처리
+        return reactiveUseCase.provideMarketingTip()
+                .contextWrite(StoreDataProvider.forRequest(bearerToken(authorization)))
+                .contextWrite(ReactiveSecurityContextHolder.withSecurityContext(
+                        Mono.just(SecurityContextHolder.getContext())))
+                .doOnNext(tip -> log.info("마케팅 팁 제공 완료: tipId={}", tip.getTipId()))
+                .map(tip -> ResponseEntity.ok(ApiResponse.success(tip)));
+    }
+
+    @Operation(
+            summary = "마케팅 팁 스트리밍 조회/생성",
+            description = "Server-Sent Events로 생성 중인 팁 조각(chunk)을 전달하고, 저장이 끝나면 마케팅 팁(complete)을 전달. " +
+                    "1시간 이내 생성된 팁이 있으면 complete 이벤트만 전달"
+    )
+    @PostMapping(value = "/marketing-tips/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<MarketingTipStreamEvent>> streamMarketingTip() {
+
+        log.info("마케팅 팁 스트리밍 요청");
+
+        return marketingTipUseCase.streamMarketingTip()
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType())
+                        .build());
+    }
+
+    @Operation(
+            summary = "마케팅 팁 비동기 생성 요청",
+            description = "마케팅 팁 생성을 작업 큐에 등록하고 요청 ID를 즉시 반환. 결과는 요청 상태 조회 API로 확인"
+    )
+    @PostMapping("/marketing-tips/requests")
+    public ResponseEntity<ApiResponse<MarketingTipRequestResponse>> requestMarketingTip() {
+
+        log.info("마케팅 팁 비동기 생성 요청");
+
+        MarketingTipRequestResponse response = marketingTipUseCase.requestMarketingTip();
 
-        log.info("마케팅 팁 제공 완료: tipId={}", response.getTipId());
+        log.info("마케팅 팁 비동기 생성 요청 등록: requestId={}", response.getRequestId());
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "마케팅 팁 생성 요청이 등록되었습니다."));
+    }
+
+    @Operation(
+            summary = "마케팅 팁 생성 요청 상태 조회",
+            description = "비동기 생성 요청의 상태(PROCESSING, COMPLETED, FAILED)와 완료된 마케팅 팁 조회"
+    )
+    @GetMapping("/marketing-tips/requests/{requestId}")
+    public ResponseEntity<ApiResponse<MarketingTipRequestResponse>> getMarketingTipRequest(@PathVariable String requestId) {
+
+        MarketingTipRequestResponse response = marketingTipUseCase.getMarketingTipRequest(requestId);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @Operation(
+            summary = "마케팅 팁 이력 조회",
+            description = "최신순 마케팅 팁 요약 목록 조회 (본문 제외). 응답의 nextCursor를 cursor로 전달하면 다음 페이지 조회"
+    )
+    @GetMapping("/marketing-tips/history")
+    public ResponseEntity<ApiResponse<MarketingTipHistoryResponse>> getMarketingTipHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        MarketingTipHistoryResponse response = marketingTipUseCase.getMarketingTipHistory(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Authorization 헤더에서 JWT 토큰 추출 (Bearer 접두사 제거, 없으면 null)
+     */
+    private static String bearerToken(String authorization) {
+        if (StringUtils.hasText(authorization) && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return null;
+    }
 }
@@ -0,0 +1,50 @@
+package com.won.smarketing.recommend.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 마케팅 팁 이력 응답 DTO (본문 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "마케팅 팁 이력 응답")
+public class MarketingTipHistoryResponse {
+
+    @Schema(description = "마케팅 팁 목록 (최신순)")
+    private List<Item> tips;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wNi0xM1QxNDozMDowMHw0Mg")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "마케팅 팁 이력 항목")
+    public static class Item {
+
+        @Schema(description = "팁 ID", example = "42")
+        private Long tipId;
+
+        @Schema(description = "매장 ID", example = "1")
+        private Long storeId;
+
+        @Schema(description = "팁 요약", example = "비 오는 날 따뜻한 음료 1+1 이벤트를 인스타그램 스토리로 알려 보세요.")
+        private String tipSummary;
+
+        @Schema(description = "생성 시간", example = "2025-06-13T14:30:00")
+        private LocalDateTime createdAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.won.smarketing.recommend.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마케팅 팁 비동기 생성 요청 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "마케팅 팁 비동기 생성 요청 응답")
+public class MarketingTipRequestResponse {
+
+    @Schema(description = "요청 ID", example = "3f1c2a9e-5b7d-4e8a-9c1f-2d3e4f5a6b7c")
+    private String requestId;
+
+    @Schema(description = "처리 상태 (PROCESSING, COMPLETED, FAILED)", example = "PROCESSING")
+    private String status;
+
+    @Schema(description = "실패 사유", example = "AI 서비스 응답 시간 초과")
+    private String errorMessage;
+
+    @Schema(description = "요청 시간", example = "2025-06-13T14:30:00")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "처리 완료 시간", example = "2025-06-13T14:30:20")
+    private LocalDateTime completedAt;
+
+    @Schema(description = "생성된 마케팅 팁 (COMPLETED 상태일 때만 포함)")
+    private MarketingTipResponse marketingTip;
+}
@@ -0,0 +1,49 @@
+package com.won.smarketing.recommend.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 마케팅 팁 스트리밍 이벤트 DTO
+ * chunk: 생성 중인 팁 조각, complete: 저장된 마케팅 팁, error: 생성 실패
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "마케팅 팁 스트리밍 이벤트")
+public class MarketingTipStreamEvent {
+
+    public static final String CHUNK = "chunk";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    @Schema(description = "이벤트 종류 (chunk, complete, error)", example = "chunk")
+    private String type;
+
+    @Schema(description = "생성 중인 팁 조각 (chunk)", example = "<h3>✨ 핵심 마케팅 팁</h3>")
+    private String text;
+
+    @Schema(description = "저장된 마케팅 팁 (complete)")
+    private MarketingTipResponse marketingTip;
+
+    @Schema(description = "실패 사유 (error)", example = "마케팅 팁 생성 중 오류가 발생했습니다.")
+    private String message;
+
+    public static MarketingTipStreamEvent chunk(String text) {
+        return MarketingTipStreamEvent.builder().type(CHUNK).text(text).build();
+    }
+
+    public static MarketingTipStreamEvent completed(MarketingTipResponse marketingTip) {
+        return MarketingTipStreamEvent.builder().type(COMPLETE).marketingTip(marketingTip).build();
+    }
+
+    public static MarketingTipStreamEvent error(String message) {
+        return MarketingTipStreamEvent.builder().type(ERROR).message(message).build();
+    }
+}
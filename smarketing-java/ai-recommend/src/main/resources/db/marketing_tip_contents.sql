@@ -0,0 +1,31 @@
+-- 마케팅 팁 본문 중복 제거 마이그레이션 (PostgreSQL 11 이상)
+-- 기존 marketing_tips.tip_content 데이터를 marketing_tip_contents로 옮기고 content_hash로 참조하도록 변경
+-- JPA_DDL_AUTO가 create/create-drop이 아닌 운영 DB에서 애플리케이션 배포 전에 한 번 실행
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS marketing_tip_contents (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    tip_content  TEXT        NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL
+);
+
+ALTER TABLE marketing_tips ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+UPDATE marketing_tips
+SET content_hash = encode(sha256(convert_to(tip_content, 'UTF8')), 'hex')
+WHERE content_hash IS NULL;
+
+INSERT INTO marketing_tip_contents (content_hash, tip_content, created_at)
+SELECT DISTINCT ON (content_hash) content_hash, tip_content, created_at
+FROM marketing_tips
+ORDER BY content_hash, created_at
+ON CONFLICT (content_hash) DO NOTHING;
+
+ALTER TABLE marketing_tips ALTER COLUMN content_hash SET NOT NULL;
+ALTER TABLE marketing_tips
+    ADD CONSTRAINT fk_marketing_tips_content_hash
+    FOREIGN KEY (content_hash) REFERENCES marketing_tip_contents (content_hash);
+ALTER TABLE marketing_tips DROP COLUMN tip_content;
+
+COMMIT;
@@ -0,0 +1,9 @@
+-- 마케팅 팁 입력 지문 컬럼/인덱스 (PostgreSQL)
+-- JPA_DDL_AUTO가 create/create-drop이 아닌 운영 DB에서 한 번 실행 (인덱스는 트랜잭션 밖에서 생성)
+
+ALTER TABLE marketing_tips ADD COLUMN IF NOT EXISTS input_fingerprint VARCHAR(64);
+-- 본문 생성 시각 (재사용 이력은 원본 팁 값을 복사, 기존 행은 NULL이며 created_at으로 대체)
+ALTER TABLE marketing_tips ADD COLUMN IF NOT EXISTS generated_at TIMESTAMP(6);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_marketing_tips_store_fingerprint
+    ON marketing_tips (store_id, input_fingerprint, created_at DESC);
@@ -0,0 +1,5 @@
+-- 마케팅 팁 이력 커서 페이지네이션용 인덱스 (PostgreSQL)
+-- JPA_DDL_AUTO가 create/create-drop이 아닌 운영 DB에서 한 번 실행 (트랜잭션 밖에서 실행해야 함)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_marketing_tips_user_history
+    ON marketing_tips (user_id, created_at DESC, tip_id DESC);
@@ -0,0 +1,67 @@
+-- 마케팅 팁 월별 파티션 전환 마이그레이션 (PostgreSQL 12 이상)
+-- marketing_tips를 created_at 기준 월별 RANGE 파티션 테이블로 다시 만들고 기존 데이터를 옮김
+-- JPA_DDL_AUTO가 create/create-drop이 아닌 운영 DB에서 애플리케이션을 멈춘 상태로 한 번 실행
+-- 이후 파티션 생성과 보관 기간 정리는 MarketingTipRetentionScheduler가 수행
+-- 기존 테이블은 marketing_tips_legacy로 남겨 두므로 검증 후 직접 삭제
+
+BEGIN;
+
+ALTER TABLE marketing_tips RENAME TO marketing_tips_legacy;
+ALTER INDEX IF EXISTS idx_marketing_tips_user_history RENAME TO idx_marketing_tips_legacy_user_history;
+ALTER INDEX IF EXISTS idx_marketing_tips_store_fingerprint RENAME TO idx_marketing_tips_legacy_store_fingerprint;
+ALTER TABLE marketing_tips_legacy RENAME CONSTRAINT fk_marketing_tips_content_hash TO fk_marketing_tips_legacy_content_hash;
+
+-- 파티션 테이블은 IDENTITY 컬럼을 쓸 수 없으므로(PostgreSQL 17 미만) 시퀀스 기본값 사용
+CREATE SEQUENCE marketing_tip_id_seq;
+
+-- 파티션 키(created_at)가 기본 키에 포함되어야 함
+CREATE TABLE marketing_tips (
+    tip_id            BIGINT       NOT NULL DEFAULT nextval('marketing_tip_id_seq'),
+    user_id           VARCHAR(50)  NOT NULL,
+    store_id          BIGINT       NOT NULL,
+    tip_summary       VARCHAR(255),
+    content_hash      VARCHAR(64)  NOT NULL,
+    input_fingerprint VARCHAR(64),
+    ai_model          VARCHAR(255),
+    created_at        TIMESTAMP(6) NOT NULL,
+    generated_at      TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    PRIMARY KEY (tip_id, created_at),
+    CONSTRAINT fk_marketing_tips_content_hash
+        FOREIGN KEY (content_hash) REFERENCES marketing_tip_contents (content_hash)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE marketing_tip_id_seq OWNED BY marketing_tips.tip_id;
+
+-- 월별 파티션 범위를 벗어난 행(파티션 생성 전 시각 등) 보관용
+CREATE TABLE marketing_tips_default PARTITION OF marketing_tips DEFAULT;
+
+-- 기존 데이터의 가장 오래된 달부터 다음 달까지 월별 파티션 생성 (이름: marketing_tips_pYYYYMM)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT min(created_at) FROM marketing_tips_legacy), now()));
+    last_month  DATE := date_trunc('month', now() + INTERVAL '1 month');
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF marketing_tips FOR VALUES FROM (%L) TO (%L)',
+                       'marketing_tips_p' || to_char(month_start, 'YYYYMM'),
+                       month_start, month_start + INTERVAL '1 month');
+        month_start := month_start + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO marketing_tips (tip_id, user_id, store_id, tip_summary, content_hash, input_fingerprint,
+                            ai_model, created_at, generated_at, updated_at)
+SELECT tip_id, user_id, store_id, tip_summary, content_hash, input_fingerprint,
+       ai_model, created_at, generated_at, updated_at
+FROM marketing_tips_legacy;
+
+SELECT setval('marketing_tip_id_seq', COALESCE((SELECT max(tip_id) FROM marketing_tips), 0) + 1, false);
+
+-- 부모 테이블 인덱스는 각 파티션에 자동으로 만들어짐
+CREATE INDEX idx_marketing_tips_user_history
+    ON marketing_tips (user_id, created_at DESC, tip_id DESC);
+CREATE INDEX idx_marketing_tips_store_fingerprint
+    ON marketing_tips (store_id, input_fingerprint, created_at DESC);
+
+COMMIT;
@@ -0,0 +1,69 @@
+package com.won.smarketing.common.activity;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 최근 로그인 사용자 기록
+ * Redis Sorted Set에 사용자 ID를 마지막 로그인 시각(epoch millis) 점수로 저장
+ * 회원 서비스가 기록하고, 다른 서비스는 최근 활동 사용자 조회에 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveUserRegistry {
+
+    public static final String ACTIVE_USERS_KEY = "smarketing:active-users";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 로그인 시각 기록 (실패해도 로그인 흐름에는 영향 없음)
+     *
+     * @param userId 사용자 ID
+     */
+    public void recordLogin(String userId) {
+        try {
+            redisTemplate.opsForZSet().add(ACTIVE_USERS_KEY, userId, System.currentTimeMillis());
+        } catch (Exception e) {
+            log.warn("로그인 활동 기록 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 지정 시각 이후 로그인한 사용자 조회 (최근 로그인 순)
+     *
+     * @param since 기준 시각
+     * @param limit 최대 조회 수 (최근 로그인 사용자부터)
+     * @return 사용자 ID 목록
+     */
+    public Set<String> findActiveSince(Instant since, int limit) {
+        try {
+            Set<String> userIds = redisTemplate.opsForZSet()
+                    .reverseRangeByScore(ACTIVE_USERS_KEY, since.toEpochMilli(), Double.POSITIVE_INFINITY, 0, limit);
+            return userIds != null ? userIds : Collections.emptySet();
+        } catch (Exception e) {
+            log.warn("최근 로그인 사용자 조회 실패: error={}", e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 지정 시각 이전 기록 정리
+     *
+     * @param before 기준 시각
+     */
+    public void removeInactiveBefore(Instant before) {
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(ACTIVE_USERS_KEY, 0, before.toEpochMilli() - 1);
+        } catch (Exception e) {
+            log.warn("오래된 로그인 활동 정리 실패: error={}", e.getMessage());
+        }
+    }
+}
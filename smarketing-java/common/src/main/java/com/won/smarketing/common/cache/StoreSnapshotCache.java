@@ -0,0 +1,132 @@
+package com.won.smarketing.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 매장/메뉴 정보 로컬 스냅샷 캐시
+ * store 서비스의 변경 이벤트(StoreChangedEventSubscriber)로 무효화되며, TTL은 이벤트 유실에 대비한 안전장치
+ *
+ * 스냅샷 형식은 서비스마다 다르므로 빈으로 자동 등록하지 않고, 사용하는 서비스가 매장 ID 추출/저장 제외 조건을 넘겨 생성
+ *
+ * @param <T> 서비스별 매장/메뉴 정보 모델
+ */
+@Slf4j
+public class StoreSnapshotCache<T> {
+
+    private static final String CACHE_NAME = "storeSnapshot";
+
+    private final Cache<String, T> snapshotsByUserId;
+    private final ConcurrentMap<Long, String> userIdByStoreId = new ConcurrentHashMap<>();
+    private final Function<T, Long> storeIdOf;
+    private final Predicate<T> excluded;
+
+    /**
+     * 무효화 세대 번호
+     * 조회 시작 후 무효화가 발생했다면 조회 결과(변경 전 데이터일 수 있음)를 캐시에 넣지 않음
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param maxSize 최대 항목 수
+     * @param ttl 항목 보관 시간 (ms)
+     * @param storeIdOf 스냅샷의 매장 ID (무효화 색인용, 없으면 저장하지 않음)
+     * @param excluded 저장하지 않을 스냅샷 (Mock 데이터가 섞인 결과 등)
+     */
+    public StoreSnapshotCache(MeterRegistry meterRegistry, long maxSize, long ttl,
+                              Function<T, Long> storeIdOf, Predicate<T> excluded) {
+        this.storeIdOf = storeIdOf;
+        this.excluded = excluded;
+        Cache<String, T> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .removalListener((String userId, T snapshot, RemovalCause cause) -> {
+                    // 교체/명시적 무효화는 put/invalidate에서 색인을 관리하므로 만료·용량 초과만 정리
+                    Long storeId = snapshot != null ? storeIdOf.apply(snapshot) : null;
+                    if (cause.wasEvicted() && storeId != null) {
+                        userIdByStoreId.remove(storeId, userId);
+                    }
+                })
+                .recordStats()
+                .build();
+        this.snapshotsByUserId = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<T> get(String userId) {
+        return Optional.ofNullable(snapshotsByUserId.getIfPresent(userId));
+    }
+
+    /**
+     * 캐시에 있으면 스냅샷을, 없으면 loader로 조회한 뒤 저장
+     *
+     * @param userId 사용자 ID
+     * @param loader store 서비스 조회
+     */
+    public Mono<T> getOrFetch(String userId, Supplier<Mono<T>> loader) {
+        Optional<T> snapshot = get(userId);
+        if (snapshot.isPresent()) {
+            log.debug("매장 스냅샷 캐시 사용: userId={}", userId);
+            return Mono.just(snapshot.get());
+        }
+
+        long startedGeneration = currentGeneration();
+        return loader.get().doOnNext(loaded -> put(userId, loaded, startedGeneration));
+    }
+
+    /**
+     * 조회 시작 시점의 세대 번호 (put 호출 시 함께 전달)
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 스냅샷 저장
+     * 저장 제외 대상이거나 조회 중 무효화가 일어난 결과는 저장하지 않음
+     */
+    public void put(String userId, T snapshot, long startedGeneration) {
+        Long storeId = storeIdOf.apply(snapshot);
+        if (excluded.test(snapshot) || storeId == null) {
+            return;
+        }
+        if (generation.get() != startedGeneration) {
+            log.debug("조회 중 매장 정보가 변경되어 스냅샷 저장 생략: userId={}, storeId={}", userId, storeId);
+            return;
+        }
+
+        userIdByStoreId.put(storeId, userId);
+        snapshotsByUserId.put(userId, snapshot);
+    }
+
+    /**
+     * 매장 변경 이벤트에 따른 무효화
+     */
+    public void invalidate(String userId, Long storeId) {
+        generation.incrementAndGet();
+
+        if (userId != null) {
+            snapshotsByUserId.invalidate(userId);
+        }
+        if (storeId != null) {
+            String indexedUserId = userIdByStoreId.remove(storeId);
+            if (indexedUserId != null) {
+                snapshotsByUserId.invalidate(indexedUserId);
+            }
+        }
+        log.debug("매장 스냅샷 무효화: userId={}, storeId={}", userId, storeId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.won.smarketing.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장/메뉴 변경 이벤트
+ * store 서비스가 Redis Pub/Sub으로 발행하고, 매장 정보를 캐시하는 서비스가 구독하여 무효화
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreChangedEvent {
+
+    /**
+     * Redis Pub/Sub 채널명
+     */
+    public static final String CHANNEL = "smarketing:store-changed";
+
+    private ChangeType changeType;
+    private Long storeId;
+    private String userId;              // 메뉴 변경 등 사용자 ID를 모르는 경우 null
+    private LocalDateTime occurredAt;
+
+    public static StoreChangedEvent of(ChangeType changeType, Long storeId, String userId) {
+        return StoreChangedEvent.builder()
+                .changeType(changeType)
+                .storeId(storeId)
+                .userId(userId)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public enum ChangeType {
+        STORE_CREATED,
+        STORE_UPDATED,
+        STORE_IMAGE_UPDATED,
+        MENU_CREATED,
+        MENU_UPDATED,
+        MENU_DELETED,
+        MENU_IMAGE_UPDATED
+    }
+}
@@ -0,0 +1,50 @@
+package com.won.smarketing.common.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.common.cache.StoreSnapshotCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 매장 변경 이벤트 구독자 (Redis Pub/Sub)
+ * 이벤트를 받으면 매장 스냅샷 캐시를 무효화하며, 스냅샷 캐시를 쓰는 서비스에서만 빈으로 등록
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StoreChangedEventSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final StoreSnapshotCache<?> storeSnapshotCache;
+
+    /**
+     * 매장 변경 채널 구독 컨테이너 생성
+     */
+    public RedisMessageListenerContainer listenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(this, new ChannelTopic(StoreChangedEvent.CHANNEL));
+        return container;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            StoreChangedEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), StoreChangedEvent.class);
+
+            log.info("매장 변경 이벤트 수신: type={}, storeId={}, userId={}",
+                    event.getChangeType(), event.getStoreId(), event.getUserId());
+            storeSnapshotCache.invalidate(event.getUserId(), event.getStoreId());
+
+        } catch (Exception e) {
+            log.error("매장 변경 이벤트 처리 실패: {}", e.getMessage());
+        }
+    }
+}
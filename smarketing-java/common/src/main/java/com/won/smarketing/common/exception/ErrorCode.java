@@ -30,10 +30,16 @@ public enum ErrorCode {
     CONTENT_NOT_FOUND(HttpStatus.NOT_FOUND, "C001", "콘텐츠를 찾을 수 없습니다."),
     CONTENT_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "C002", "콘텐츠 생성에 실패했습니다."),
     AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "C003", "AI 서비스를 사용할 수 없습니다."),
+    SNS_CONTENT_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "C004", "SNS 콘텐츠 생성 작업을 찾을 수 없습니다."),
+    SNS_CONTENT_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "C005", "SNS 콘텐츠 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    POSTER_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "C006", "포스터 생성 작업을 찾을 수 없습니다."),
+    POSTER_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "C007", "포스터 생성 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
 
     // AI 추천 관련 오류
     RECOMMENDATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "R001", "추천 생성에 실패했습니다."),
     EXTERNAL_API_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "R002", "외부 API 호출에 실패했습니다."),
+    MARKETING_TIP_REQUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "R003", "마케팅 팁 생성 요청을 찾을 수 없습니다."),
+    MARKETING_TIP_ASYNC_DISABLED(HttpStatus.SERVICE_UNAVAILABLE, "R004", "마케팅 팁 비동기 생성을 사용할 수 없습니다."),
 
     FILE_NOT_FOUND(HttpStatus.NOT_FOUND, "F001", "파일을 찾을 수 없습니다."),
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F002", "파일 업로드에 실패했습니다."),
@@ -43,6 +49,8 @@ public enum ErrorCode {
     INVALID_FILE_NAME(HttpStatus.NOT_FOUND, "F006", "잘못된 파일명입니다."),
     INVALID_FILE_URL(HttpStatus.NOT_FOUND, "F007", "잘못된 파일 URL입니다."),
     STORAGE_CONTAINER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "F008", "스토리지 컨테이너 오류가 발생했습니다."),
+    IMAGE_DECODE_FAILED(HttpStatus.BAD_REQUEST, "F009", "이미지를 읽을 수 없습니다."),
+    IMAGE_DIMENSION_EXCEEDED(HttpStatus.BAD_REQUEST, "F010", "이미지 해상도가 제한을 초과했습니다."),
 
     // 공통 오류
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "G001", "서버 내부 오류가 발생했습니다."),
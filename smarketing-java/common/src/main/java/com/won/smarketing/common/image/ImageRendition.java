@@ -0,0 +1,28 @@
+package com.won.smarketing.common.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 변환본 종류
+ * 원본(최대 10MB) 대신 용도에 맞는 크기의 변환본을 내려주기 위한 고정된 변환 목록
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageRendition {
+
+    /** 목록/미리보기용 */
+    THUMBNAIL("thumb", 320),
+
+    /** 상세 화면 표시용 */
+    DISPLAY("display", 1280),
+
+    /** Python AI 입력용 */
+    AI_INPUT("ai", 1024);
+
+    /** 파일명 접미사 */
+    private final String suffix;
+
+    /** 기본 긴 변 최대 크기 (px, image.rendition.{종류}-max-edge로 재정의) */
+    private final int defaultMaxEdge;
+}
@@ -0,0 +1,306 @@
+package com.won.smarketing.common.image;
+
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 이미지 변환본 생성기
+ * 원본을 한 번만 디코딩한 뒤 변환본(ImageRendition)별 축소/인코딩은 CPU 작업 풀에서, 업로드는 별도 업로드 풀에서 동시에 수행
+ * 블로킹 업로드가 인코딩 풀 스레드를 점유하지 않도록 두 풀을 나눔
+ *
+ * - 원본보다 큰 크기로 확대하지 않으며, 긴 변 기준으로 비율을 유지하여 축소
+ * - 출력 형식은 image.rendition.format(기본 webp)이며, WebP 인코더를 쓸 수 없으면 JPEG로 저장
+ * - 풀 대기열이 가득 차면 요청 스레드에서 직접 처리하여 디코딩된 이미지가 메모리에 쌓이지 않도록 함
+ * - 디코딩 전에 헤더의 해상도를 확인하여 image.rendition.max-pixels를 넘으면 거부하고,
+ *   가장 큰 변환본의 두 배보다 크면 서브샘플링하여 읽음 (작게 압축된 초고해상도 이미지로 메모리를 소진하지 않도록)
+ *
+ * 스레드 풀은 빈으로 노출하지 않음 (Executor 빈이 있으면 기본 applicationTaskExecutor가 만들어지지 않음)
+ * 공통 모듈은 모든 서비스가 스캔하므로 image.rendition.enabled=true인 서비스(매장 서비스)에서만 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "image.rendition.enabled", havingValue = "true")
+public class ImageRenditionProcessor {
+
+    private static final String WEBP = "image/webp";
+    private static final String JPEG = "image/jpeg";
+
+    private final Environment environment;
+
+    @Value("${image.rendition.pool-size:0}")
+    private int poolSize;
+
+    @Value("${image.rendition.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${image.rendition.upload-pool-size:6}")
+    private int uploadPoolSize;
+
+    @Value("${image.rendition.format:webp}")
+    private String format;
+
+    @Value("${image.rendition.quality:0.8}")
+    private float quality;
+
+    @Value("${image.rendition.max-pixels:50000000}") // 5천만 화소
+    private long maxPixels;
+
+    private final Map<ImageRendition, Integer> maxEdges = new EnumMap<>(ImageRendition.class);
+    private int decodeMaxEdge;
+    private ThreadPoolTaskExecutor executor;
+    private ThreadPoolTaskExecutor uploadExecutor;
+    private String contentType;
+
+    /**
+     * 변환본 업로드 (변환본별로 업로드 풀 스레드에서 호출)
+     */
+    @FunctionalInterface
+    public interface RenditionUploader {
+
+        /**
+         * @return 업로드된 변환본 URL
+         */
+        String upload(RenditionImage image);
+    }
+
+    @PostConstruct
+    void start() {
+        for (ImageRendition rendition : ImageRendition.values()) {
+            String key = "image.rendition." + rendition.name().toLowerCase().replace('_', '-') + "-max-edge";
+            maxEdges.put(rendition, environment.getProperty(key, Integer.class, rendition.getDefaultMaxEdge()));
+        }
+        // 절반씩 줄이는 축소 품질을 유지할 수 있도록 가장 큰 변환본의 두 배까지는 원본 해상도로 디코딩
+        decodeMaxEdge = 2 * Collections.max(maxEdges.values());
+
+        boolean webpAvailable = ImageIO.getImageWritersByMIMEType(WEBP).hasNext();
+        contentType = "webp".equalsIgnoreCase(format) && webpAvailable ? WEBP : JPEG;
+        if ("webp".equalsIgnoreCase(format) && !webpAvailable) {
+            log.warn("WebP 인코더를 찾을 수 없어 이미지 변환본을 JPEG로 저장합니다.");
+        }
+
+        // 디코딩/인코딩 메모리 사용과 CPU 점유를 제한하기 위해 고정 크기 풀 사용 (스레드는 첫 작업 시 생성)
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        // 업로드는 네트워크 대기가 대부분이므로 CPU 수와 무관한 별도 풀 사용
+        uploadExecutor = new ThreadPoolTaskExecutor();
+        uploadExecutor.setCorePoolSize(uploadPoolSize);
+        uploadExecutor.setMaxPoolSize(uploadPoolSize);
+        uploadExecutor.setQueueCapacity(queueCapacity);
+        uploadExecutor.setThreadNamePrefix("image-rendition-upload-");
+        uploadExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        uploadExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        uploadExecutor.setAwaitTerminationSeconds(30);
+        uploadExecutor.initialize();
+
+        // 디코딩 중 임시 파일 캐시를 쓰지 않음
+        ImageIO.setUseCache(false);
+        log.info("이미지 변환본 생성기 시작: poolSize={}, uploadPoolSize={}, contentType={}, maxEdges={}, maxPixels={}",
+                size, uploadPoolSize, contentType, maxEdges, maxPixels);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdown();
+        uploadExecutor.shutdown();
+    }
+
+    /**
+     * 변환본 생성 및 업로드
+     *
+     * @param source 원본 이미지 스트림 (호출 측에서 닫음)
+     * @param uploader 변환본 업로드
+     * @return 변환본별 업로드 URL
+     * @throws BusinessException 이미지를 디코딩할 수 없는 경우 (IMAGE_DECODE_FAILED),
+     *                           해상도가 제한을 넘는 경우 (IMAGE_DIMENSION_EXCEEDED), 변환/업로드 실패 (FILE_UPLOAD_FAILED)
+     */
+    public Map<ImageRendition, String> process(InputStream source, RenditionUploader uploader) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<BufferedImage> decoded = CompletableFuture.supplyAsync(() -> decode(source), executor);
+
+        Map<ImageRendition, CompletableFuture<String>> uploads = new EnumMap<>(ImageRendition.class);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            uploads.put(rendition, decoded
+                    .thenApplyAsync(image -> encode(image, rendition), executor)
+                    .thenApplyAsync(uploader::upload, uploadExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.values().toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("이미지 변환본 생성 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+
+        Map<ImageRendition, String> urls = new EnumMap<>(ImageRendition.class);
+        uploads.forEach((rendition, upload) -> urls.put(rendition, upload.join()));
+        log.debug("이미지 변환본 생성 완료: elapsed={}ms", (System.nanoTime() - startedAt) / 1_000_000);
+        return urls;
+    }
+
+    /**
+     * 변환본 파일 확장자 (webp 또는 jpg)
+     */
+    public String extension() {
+        return WEBP.equals(contentType) ? "webp" : "jpg";
+    }
+
+    /**
+     * 원본 디코딩
+     * 래스터를 할당하기 전에 헤더의 해상도를 확인하고, 필요하면 서브샘플링하여 읽음
+     */
+    private BufferedImage decode(InputStream source) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new BusinessException(ErrorCode.IMAGE_DECODE_FAILED);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    log.warn("이미지 해상도 제한 초과: size={}x{}, maxPixels={}", width, height, maxPixels);
+                    throw new BusinessException(ErrorCode.IMAGE_DIMENSION_EXCEEDED);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / decodeMaxEdge);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("이미지 디코딩 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.IMAGE_DECODE_FAILED);
+        }
+    }
+
+    private RenditionImage encode(BufferedImage source, ImageRendition rendition) {
+        boolean keepAlpha = WEBP.equals(contentType) && source.getColorModel().hasAlpha();
+        BufferedImage resized = resize(source, maxEdges.get(rendition), keepAlpha);
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByMIMEType(contentType);
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(resized, null, null), writeParam(writer));
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 인코딩 실패: " + rendition, e);
+        } finally {
+            writer.dispose();
+        }
+
+        return RenditionImage.builder()
+                .rendition(rendition)
+                .data(out.toByteArray())
+                .contentType(contentType)
+                .extension(extension())
+                .width(resized.getWidth())
+                .height(resized.getHeight())
+                .build();
+    }
+
+    private ImageWriteParam writeParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            String[] types = param.getCompressionTypes();
+            if (types != null && types.length > 0) {
+                param.setCompressionType(Arrays.asList(types).contains("Lossy") ? "Lossy" : types[0]);
+            }
+            param.setCompressionQuality(quality);
+        }
+        return param;
+    }
+
+    /**
+     * 긴 변이 maxEdge 이하가 되도록 축소
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 목표 크기로 맞춤
+     */
+    static BufferedImage resize(BufferedImage source, int maxEdge, boolean keepAlpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = draw(current, width, height, type, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+        return draw(current, targetWidth, targetHeight, type, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, int type, Object interpolation) {
+        BufferedImage target = new BufferedImage(width, height, type);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (type == BufferedImage.TYPE_INT_RGB) {
+                // 투명 영역은 흰 배경으로 채움 (JPEG는 알파 채널 미지원)
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,19 @@
+package com.won.smarketing.common.image;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인코딩된 이미지 변환본
+ */
+@Getter
+@Builder
+public class RenditionImage {
+
+    private final ImageRendition rendition;
+    private final byte[] data;
+    private final String contentType;
+    private final String extension;
+    private final int width;
+    private final int height;
+}
@@ -0,0 +1,163 @@
+package com.won.smarketing.common.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * AI 서비스 호출 보호 계층
+ * 엔드포인트별 서킷 브레이커와 동시 호출 제한(bulkhead)을 적용하고 결과별 응답 시간을 기록
+ * AI 서버가 느려져도 요청 스레드가 오래 묶이지 않도록 차단/포화 시 즉시 fallback으로 전환
+ *
+ * 설정: ai-resilience.defaults.* 를 기본값으로, ai-resilience.endpoints.{endpoint}.* 로 엔드포인트별 재정의
+ */
+@Slf4j
+@Component
+public class AiCallGuard {
+
+    private static final String TIMER_NAME = "ai.client.calls";
+    private static final String PROPERTY_PREFIX = "ai-resilience.";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    public AiCallGuard(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    /**
+     * AI 호출 보호 실행
+     *
+     * @param endpoint 엔드포인트 이름 (서킷 브레이커/bulkhead/지표 구분 키)
+     * @param call 실제 AI 호출 (타임아웃은 호출 측에서 지정)
+     * @param fallback 실패, 차단, 포화 시 대체 결과
+     * @return 보호된 호출 결과
+     */
+    public <T> Mono<T> protect(String endpoint, Mono<T> call, Function<Throwable, Mono<T>> fallback) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint, () -> circuitBreakerConfig(endpoint));
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint, () -> bulkheadConfig(endpoint));
+
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .doOnSuccess(result -> sample.stop(timer(endpoint, "success")))
+                    .onErrorResume(e -> {
+                        String outcome = outcomeOf(e);
+                        sample.stop(timer(endpoint, outcome));
+                        log.warn("AI 서비스 호출 실패, fallback 처리: endpoint={}, outcome={}, error={}",
+                                endpoint, outcome, e.getMessage());
+                        return fallback.apply(e);
+                    });
+        });
+    }
+
+    /**
+     * 스트리밍 AI 호출 보호 실행
+     * 동시 호출 제한은 스트림이 끝날 때까지 유지되며, 응답 시간은 스트림 전체 기준으로 기록
+     *
+     * @param endpoint 엔드포인트 이름 (서킷 브레이커/bulkhead/지표 구분 키)
+     * @param call 실제 AI 스트리밍 호출
+     * @param fallback 실패, 차단, 포화 시 대체 스트림
+     * @return 보호된 스트림
+     */
+    public <T> Flux<T> protectMany(String endpoint, Flux<T> call, Function<Throwable, Flux<T>> fallback) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(endpoint, () -> circuitBreakerConfig(endpoint));
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(endpoint, () -> bulkheadConfig(endpoint));
+
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                    .doOnComplete(() -> sample.stop(timer(endpoint, "success")))
+                    .onErrorResume(e -> {
+                        String outcome = outcomeOf(e);
+                        sample.stop(timer(endpoint, outcome));
+                        log.warn("AI 서비스 스트리밍 호출 실패, fallback 처리: endpoint={}, outcome={}, error={}",
+                                endpoint, outcome, e.getMessage());
+                        return fallback.apply(e);
+                    });
+        });
+    }
+
+    private CircuitBreakerConfig circuitBreakerConfig(String endpoint) {
+        return CircuitBreakerConfig.custom()
+                .failureRateThreshold(property(endpoint, "failure-rate-threshold", Float.class, 50f))
+                .slowCallRateThreshold(property(endpoint, "slow-call-rate-threshold", Float.class, 80f))
+                .slowCallDurationThreshold(Duration.ofMillis(
+                        property(endpoint, "slow-call-duration-threshold", Long.class, 30000L)))
+                .slidingWindowSize(property(endpoint, "sliding-window-size", Integer.class, 20))
+                .minimumNumberOfCalls(property(endpoint, "minimum-number-of-calls", Integer.class, 10))
+                .waitDurationInOpenState(Duration.ofMillis(
+                        property(endpoint, "wait-duration-in-open-state", Long.class, 30000L)))
+                .permittedNumberOfCallsInHalfOpenState(
+                        property(endpoint, "permitted-calls-in-half-open-state", Integer.class, 3))
+                // 포화로 거절된 호출은 AI 서버 장애가 아니므로 실패율에 포함하지 않음
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    private BulkheadConfig bulkheadConfig(String endpoint) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(property(endpoint, "max-concurrent-calls", Integer.class, 10))
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+    }
+
+    private <V> V property(String endpoint, String name, Class<V> type, V defaultValue) {
+        V endpointValue = environment.getProperty(PROPERTY_PREFIX + "endpoints." + endpoint + "." + name, type);
+        if (endpointValue != null) {
+            return endpointValue;
+        }
+        return environment.getProperty(PROPERTY_PREFIX + "defaults." + name, type, defaultValue);
+    }
+
+    private Timer timer(String endpoint, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("AI 서비스 호출 응답 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String outcomeOf(Throwable e) {
+        if (e instanceof CallNotPermittedException) {
+            return "short_circuited";
+        }
+        if (e instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,56 @@
+package com.won.smarketing.common.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 내용 기반 파일 존재 색인 (Redis)
+ * 컨테이너/파일명 → URL을 기록하여 같은 파일을 다시 올릴 때 스토리지 조회 없이 기존 URL 반환
+ *
+ * 색인은 캐시로만 사용하며 (만료/유실 시 스토리지 존재 확인으로 대체), Redis 오류는 업로드를 막지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlobDigestIndex {
+
+    private static final String KEY_PREFIX = "blob-digest:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${blob-digest.index.ttl:P30D}")
+    private Duration ttl;
+
+    /**
+     * 기록된 파일 URL 조회
+     */
+    public Optional<String> find(String containerName, String fileName) {
+        try {
+            return Optional.ofNullable(stringRedisTemplate.opsForValue().get(key(containerName, fileName)));
+        } catch (Exception e) {
+            log.warn("파일 색인 조회 실패: container={}, fileName={}, error={}", containerName, fileName, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 저장된 파일 URL 기록
+     */
+    public void record(String containerName, String fileName, String fileUrl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(containerName, fileName), fileUrl, ttl);
+        } catch (Exception e) {
+            log.warn("파일 색인 기록 실패: container={}, fileName={}, error={}", containerName, fileName, e.getMessage());
+        }
+    }
+
+    private String key(String containerName, String fileName) {
+        return KEY_PREFIX + containerName + ":" + fileName;
+    }
+}
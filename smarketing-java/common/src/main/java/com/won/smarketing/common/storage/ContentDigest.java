@@ -0,0 +1,70 @@
+package com.won.smarketing.common.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 기반 파일명 (SHA-256)
+ * 같은 사진은 몇 번을 올려도 같은 이름이 되므로, 이미 저장된 파일이면 다시 전송하지 않음
+ */
+public final class ContentDigest {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern CONTENT_ADDRESSED_NAME = Pattern.compile("^[0-9a-f]{64}(_[a-z]+)?\\.[0-9a-z]+$");
+
+    private ContentDigest() {
+    }
+
+    /**
+     * 스트림을 끝까지 읽으며 SHA-256 계산 (파일 전체를 메모리에 올리지 않음)
+     *
+     * @param inputStream 원본 스트림 (호출 측에서 닫음)
+     * @return 16진수 다이제스트
+     */
+    public static String sha256(InputStream inputStream) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 내용 기반 파일명 (예: 3a7bd3e2...c9.jpg)
+     *
+     * @param digest 16진수 다이제스트
+     * @param extension 확장자 (소문자로 저장, jpeg는 jpg로 통일)
+     */
+    public static String fileName(String digest, String extension) {
+        String normalized = extension.toLowerCase();
+        return digest + "." + ("jpeg".equals(normalized) ? "jpg" : normalized);
+    }
+
+    /**
+     * 내용 기반 파일(또는 그 변환본)인지 여부
+     * 여러 메뉴/매장/콘텐츠가 같은 파일을 가리킬 수 있으므로 이미지 교체 시 삭제하지 않음
+     *
+     * @param fileUrl 파일 URL 또는 파일명
+     */
+    public static boolean isContentAddressed(String fileUrl) {
+        if (fileUrl == null) {
+            return false;
+        }
+        String fileName = fileUrl.substring(fileUrl.lastIndexOf('/') + 1);
+        return CONTENT_ADDRESSED_NAME.matcher(fileName).matches();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+}
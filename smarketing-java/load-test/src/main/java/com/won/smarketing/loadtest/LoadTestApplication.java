@@ -0,0 +1,141 @@
+package com.won.smarketing.loadtest;
+
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+import com.won.smarketing.loadtest.runner.LoadReport;
+import com.won.smarketing.loadtest.runner.LoadRunner;
+import com.won.smarketing.loadtest.runner.ScenarioResult;
+import com.won.smarketing.loadtest.scenario.Scenario;
+import com.won.smarketing.loadtest.scenario.ServiceScenarios;
+import com.won.smarketing.loadtest.scenario.Session;
+import com.won.smarketing.loadtest.scenario.SessionSetup;
+import com.won.smarketing.loadtest.standin.PythonAiStandIn;
+import com.won.smarketing.loadtest.standin.StoreServiceStandIn;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+/**
+ * 오프라인 부하 테스트 실행
+ *
+ * 실행 순서
+ * 1. 매장 서비스/Python AI 대역 서버 시작 (stand-ins.enabled)
+ * 2. 측정 대상 서비스를 대역 서버 주소로 실행 (예: STORE_SERVICE_URL=http://localhost:18082,
+ *    PYTHON_AI_SERVICE_URL=http://localhost:15001, AI_SERVICE_BASE_URL=http://localhost:15001)
+ * 3. 계정 준비 후 시나리오를 차례로 실행하고 결과 표/JSON 보고서 출력
+ *
+ * 인자
+ * - --config=경로: 설정 파일 (없으면 load-test.yml 기본 설정)
+ * - --mode=run|stand-ins: stand-ins는 대역 서버만 띄우고 종료 시까지 대기
+ * - --scenarios=이름,이름: 지정한 시나리오만 실행
+ *
+ * 종료 코드: 0 정상, 1 기준값 위반 또는 이전 보고서 대비 저하, 2 실행 실패
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        Map<String, String> options = parseOptions(args);
+        try {
+            LoadTestProperties properties = LoadTestProperties.load(
+                    options.containsKey("config") ? Path.of(options.get("config")) : null);
+            System.exit(run(properties, options));
+        } catch (Exception e) {
+            log.error("부하 테스트 실행 실패", e);
+            System.exit(2);
+        }
+    }
+
+    private static int run(LoadTestProperties properties, Map<String, String> options) throws Exception {
+        LoadTestProperties.StandIns standIns = properties.getStandIns();
+        boolean standInsOnly = "stand-ins".equals(options.getOrDefault("mode", "run"));
+
+        StoreServiceStandIn storeService = null;
+        PythonAiStandIn pythonAi = null;
+        try {
+            if (standIns.isEnabled() || standInsOnly) {
+                storeService = new StoreServiceStandIn(standIns.getStoreService());
+                pythonAi = new PythonAiStandIn(standIns.getPythonAi());
+                storeService.start();
+                pythonAi.start();
+            }
+
+            if (standInsOnly) {
+                log.info("대역 서버만 실행 중 (종료: Ctrl+C)");
+                new CountDownLatch(1).await();
+                return 0;
+            }
+
+            return runScenarios(properties, options.get("scenarios"));
+        } finally {
+            if (storeService != null) {
+                storeService.close();
+            }
+            if (pythonAi != null) {
+                pythonAi.close();
+            }
+        }
+    }
+
+    private static int runScenarios(LoadTestProperties properties, String selected) throws Exception {
+        LoadTestProperties.Run run = properties.getRun();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(run.getRequestTimeout()))
+                .build();
+
+        Session session = new SessionSetup(httpClient, properties).prepare();
+        log.info("부하 테스트 세션 준비 완료: userId={}, storeId={}", session.userId(), session.storeId());
+
+        Set<String> selectedNames = selected != null
+                ? Arrays.stream(selected.split(",")).map(String::trim).collect(Collectors.toSet())
+                : null;
+
+        LoadRunner runner = new LoadRunner(httpClient, properties);
+        List<ScenarioResult> results = new ArrayList<>();
+        for (Scenario scenario : ServiceScenarios.all(properties)) {
+            boolean enabled = selectedNames != null
+                    ? selectedNames.contains(scenario.name())
+                    : properties.scenario(scenario.name()).isEnabled();
+            if (enabled) {
+                results.add(runner.run(scenario, session));
+            }
+        }
+
+        LoadReport report = new LoadReport(LocalDateTime.now(), results);
+        System.out.println(report.toTable());
+        log.info("부하 테스트 보고서 저장: {}", report.write(Path.of(run.getReportDir())));
+
+        List<String> failures = new ArrayList<>(report.thresholdViolations(properties));
+        if (run.getBaselineReport() != null && !run.getBaselineReport().isBlank()) {
+            LoadReport baseline = LoadReport.read(Path.of(run.getBaselineReport()));
+            failures.addAll(report.regressionsAgainst(baseline, run.getRegressionTolerance()));
+        }
+
+        if (failures.isEmpty()) {
+            return 0;
+        }
+        failures.forEach(failure -> log.warn("성능 기준 미달: {}", failure));
+        return 1;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
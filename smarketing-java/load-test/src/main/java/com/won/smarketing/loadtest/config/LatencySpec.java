@@ -0,0 +1,60 @@
+package com.won.smarketing.loadtest.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Random;
+
+/**
+ * 대역 서버 응답 지연 분포
+ *
+ * - fixed: value
+ * - uniform: min ~ max
+ * - normal: mean, stddev (0 미만은 0)
+ * - lognormal: median, sigma (AI 응답처럼 꼬리가 긴 분포)
+ *
+ * 모든 분포는 max가 0보다 크면 max로 잘라냄
+ */
+@Getter
+@Setter
+public class LatencySpec {
+
+    public enum Type {
+        FIXED, UNIFORM, NORMAL, LOGNORMAL
+    }
+
+    private Type type = Type.FIXED;
+    private double value;
+    private double min;
+    private double max;
+    private double mean;
+    private double stddev;
+    private double median;
+    private double sigma;
+
+    public static LatencySpec lognormal(double median, double sigma) {
+        LatencySpec spec = new LatencySpec();
+        spec.setType(Type.LOGNORMAL);
+        spec.setMedian(median);
+        spec.setSigma(sigma);
+        return spec;
+    }
+
+    /**
+     * 지연 시간 추출
+     *
+     * @return 지연 시간 (밀리초)
+     */
+    public long sample(Random random) {
+        double millis = switch (type) {
+            case FIXED -> value;
+            case UNIFORM -> min + random.nextDouble() * (max - min);
+            case NORMAL -> mean + random.nextGaussian() * stddev;
+            case LOGNORMAL -> median * Math.exp(random.nextGaussian() * sigma);
+        };
+        if (type != Type.UNIFORM && max > 0) {
+            millis = Math.min(millis, max);
+        }
+        return Math.max(0L, Math.round(millis));
+    }
+}
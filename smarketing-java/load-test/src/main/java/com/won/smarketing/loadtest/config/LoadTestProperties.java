@@ -0,0 +1,166 @@
+package com.won.smarketing.loadtest.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.dataformat.yaml.YAMLMapper;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (load-test.yml)
+ * 시간 값은 모두 밀리초
+ */
+@Getter
+@Setter
+public class LoadTestProperties {
+
+    private static final String BUNDLED_CONFIG = "load-test.yml";
+
+    private StandIns standIns = new StandIns();
+    private Targets targets = new Targets();
+    private Account account = new Account();
+    private Run run = new Run();
+    private Map<String, ScenarioSettings> scenarios = new LinkedHashMap<>();
+
+    /**
+     * 설정 파일 로드 (경로가 없으면 모듈에 포함된 기본 설정)
+     *
+     * @param path 설정 파일 경로 (null 가능)
+     * @return 부하 테스트 설정
+     */
+    public static LoadTestProperties load(Path path) throws IOException {
+        ObjectMapper yamlMapper = YAMLMapper.builder()
+                .propertyNamingStrategy(PropertyNamingStrategies.KEBAB_CASE)
+                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+                .enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+
+        if (path != null) {
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                return yamlMapper.readValue(inputStream, LoadTestProperties.class);
+            }
+        }
+        try (InputStream inputStream = LoadTestProperties.class.getClassLoader().getResourceAsStream(BUNDLED_CONFIG)) {
+            if (inputStream == null) {
+                throw new IOException("기본 설정 파일이 없습니다: " + BUNDLED_CONFIG);
+            }
+            return yamlMapper.readValue(inputStream, LoadTestProperties.class);
+        }
+    }
+
+    /**
+     * 시나리오 설정 조회 (없으면 기본값)
+     */
+    public ScenarioSettings scenario(String name) {
+        return scenarios.getOrDefault(name, new ScenarioSettings());
+    }
+
+    /**
+     * 대역 서버 설정
+     */
+    @Getter
+    @Setter
+    public static class StandIns {
+        private boolean enabled = true;
+        private StoreService storeService = new StoreService();
+        private PythonAi pythonAi = new PythonAi();
+    }
+
+    /**
+     * 매장 서비스 대역 (ai-recommend, marketing-content가 호출하는 매장/메뉴 조회 API)
+     */
+    @Getter
+    @Setter
+    public static class StoreService {
+        private int port = 18082;
+        /** JWT 사용자별로 배정하는 매장 수 (캐시 적중률에 영향) */
+        private int storeCount = 200;
+        private int menuCount = 5;
+        private LatencySpec latency = LatencySpec.lognormal(15, 0.5);
+        private double errorRate = 0.0;
+    }
+
+    /**
+     * Python AI 서비스 대역 (마케팅 팁, SNS 콘텐츠, 포스터)
+     */
+    @Getter
+    @Setter
+    public static class PythonAi {
+        private int port = 15001;
+        private LatencySpec tipLatency = LatencySpec.lognormal(1500, 0.4);
+        private LatencySpec snsLatency = LatencySpec.lognormal(3000, 0.4);
+        private LatencySpec posterLatency = LatencySpec.lognormal(5000, 0.3);
+        /** 스트리밍 응답 조각 수 (생성 지연을 조각 사이에 나누어 전송) */
+        private int streamChunks = 8;
+        private double errorRate = 0.0;
+    }
+
+    /**
+     * 측정 대상 서비스 주소
+     */
+    @Getter
+    @Setter
+    public static class Targets {
+        private String member = "http://localhost:8081";
+        private String store = "http://localhost:8082";
+        private String marketingContent = "http://localhost:8083";
+        private String aiRecommend = "http://localhost:8084";
+    }
+
+    /**
+     * 부하 테스트 계정 (없으면 가입 후 매장까지 등록)
+     */
+    @Getter
+    @Setter
+    public static class Account {
+        private String userId = "loadtest01";
+        private String password = "LoadTest1!";
+        private String name = "부하테스트";
+        private String businessNumber = "1234567890";
+        private String email = "loadtest01@example.com";
+        private String storeName = "부하테스트 카페";
+        private String businessType = "카페";
+        private String address = "서울시 강남구 테헤란로 1";
+    }
+
+    /**
+     * 실행 설정
+     */
+    @Getter
+    @Setter
+    public static class Run {
+        private long warmup = 10000;
+        private long duration = 60000;
+        private int concurrency = 16;
+        private long requestTimeout = 30000;
+        private String reportDir = "build/load-test";
+        /** 비교 기준 보고서 (이전 실행 결과 JSON, 없으면 비교하지 않음) */
+        private String baselineReport;
+        /** 기준 대비 허용 저하 비율 (p99 증가, 처리량 감소) */
+        private double regressionTolerance = 0.2;
+    }
+
+    /**
+     * 시나리오별 설정 (지정하지 않은 값은 run 설정 사용)
+     */
+    @Getter
+    @Setter
+    public static class ScenarioSettings {
+        private boolean enabled = true;
+        private Integer concurrency;
+        /** 사용자당 요청 사이 대기 시간 */
+        private long thinkTime = 0;
+        private Long maxP99;
+        private Double minThroughput;
+        private Double maxErrorRate;
+    }
+}
@@ -0,0 +1,110 @@
+package com.won.smarketing.loadtest.runner;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 보고서
+ * 결과 표를 출력하고 JSON으로 저장하며, 시나리오별 기준값과 이전 보고서(baseline) 대비 저하를 검사
+ *
+ * @param executedAt 실행 시각
+ * @param results 시나리오별 결과
+ */
+public record LoadReport(LocalDateTime executedAt, List<ScenarioResult> results) {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    private static final DateTimeFormatter FILE_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * 결과 표 (응답 시간은 밀리초)
+     */
+    public String toTable() {
+        StringBuilder table = new StringBuilder(String.format("%n%-32s %-18s %5s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "scenario", "service", "users", "requests", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max", "ttfb-p99"));
+        for (ScenarioResult result : results) {
+            table.append(String.format("%-32s %-18s %5d %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f %9s%n",
+                    result.name(), result.service(), result.concurrency(), result.requests(), result.errors(),
+                    result.throughput(), result.p50(), result.p90(), result.p99(), result.p999(), result.max(),
+                    result.firstByteP99() != null ? String.format("%.1f", result.firstByteP99()) : "-"));
+        }
+        return table.toString();
+    }
+
+    /**
+     * 보고서 저장
+     *
+     * @return 저장한 파일 경로
+     */
+    public Path write(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("load-test-" + executedAt.format(FILE_SUFFIX) + ".json");
+        OBJECT_MAPPER.writeValue(file.toFile(), this);
+        return file;
+    }
+
+    public static LoadReport read(Path file) throws IOException {
+        return OBJECT_MAPPER.readValue(file.toFile(), LoadReport.class);
+    }
+
+    /**
+     * 시나리오별 기준값(max-p99, min-throughput, max-error-rate) 위반 항목
+     */
+    public List<String> thresholdViolations(LoadTestProperties properties) {
+        List<String> violations = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            LoadTestProperties.ScenarioSettings settings = properties.scenario(result.name());
+            if (settings.getMaxP99() != null && result.p99() > settings.getMaxP99()) {
+                violations.add(String.format("%s: p99 %.1fms > 기준 %dms", result.name(), result.p99(), settings.getMaxP99()));
+            }
+            if (settings.getMinThroughput() != null && result.throughput() < settings.getMinThroughput()) {
+                violations.add(String.format("%s: 처리량 %.1f/s < 기준 %.1f/s",
+                        result.name(), result.throughput(), settings.getMinThroughput()));
+            }
+            if (settings.getMaxErrorRate() != null && result.errorRate() > settings.getMaxErrorRate()) {
+                violations.add(String.format("%s: 오류율 %.3f > 기준 %.3f",
+                        result.name(), result.errorRate(), settings.getMaxErrorRate()));
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * 이전 보고서 대비 저하 항목 (p99 증가 또는 처리량 감소가 허용 비율 초과)
+     */
+    public List<String> regressionsAgainst(LoadReport baseline, double tolerance) {
+        Map<String, ScenarioResult> baselineResults = baseline.results().stream()
+                .collect(Collectors.toMap(ScenarioResult::name, Function.identity(), (first, second) -> first));
+
+        List<String> regressions = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            ScenarioResult previous = baselineResults.get(result.name());
+            if (previous == null || previous.requests() == 0) {
+                continue;
+            }
+            if (result.p99() > previous.p99() * (1 + tolerance)) {
+                regressions.add(String.format("%s: p99 %.1fms → %.1fms", result.name(), previous.p99(), result.p99()));
+            }
+            if (result.throughput() < previous.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s: 처리량 %.1f/s → %.1f/s",
+                        result.name(), previous.throughput(), result.throughput()));
+            }
+        }
+        return regressions;
+    }
+}
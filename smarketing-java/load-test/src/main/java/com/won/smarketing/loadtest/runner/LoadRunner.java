@@ -0,0 +1,153 @@
+package com.won.smarketing.loadtest.runner;
+
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+import com.won.smarketing.loadtest.scenario.Scenario;
+import com.won.smarketing.loadtest.scenario.Session;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 폐쇄형(closed model) 부하 실행기
+ * 동시 사용자 수만큼의 스레드가 응답을 받은 뒤(think-time 대기 후) 다음 요청을 보내며,
+ * 워밍업 구간이 지난 요청만 응답 시간 히스토그램에 기록
+ *
+ * 요청은 응답을 기다린 뒤 보내므로 서버가 느려지면 요청 수가 줄어드는 점(coordinated omission)에 유의하여
+ * 처리량과 분위수를 함께 비교
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadRunner {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final HttpClient httpClient;
+    private final LoadTestProperties properties;
+
+    public ScenarioResult run(Scenario scenario, Session session) throws InterruptedException {
+        LoadTestProperties.Run run = properties.getRun();
+        LoadTestProperties.ScenarioSettings settings = properties.scenario(scenario.name());
+        int concurrency = settings.getConcurrency() != null ? settings.getConcurrency() : run.getConcurrency();
+
+        long start = System.nanoTime();
+        long measureFrom = start + run.getWarmup() * 1_000_000L;
+        long end = measureFrom + run.getDuration() * 1_000_000L;
+
+        log.info("시나리오 시작: name={}, concurrency={}, warmup={}ms, duration={}ms",
+                scenario.name(), concurrency, run.getWarmup(), run.getDuration());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Worker>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(scenario, session, settings.getThinkTime(), measureFrom, end);
+                futures.add(executor.submit(worker, worker));
+            }
+
+            Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+            Histogram firstByte = scenario.streaming() ? new Histogram(SIGNIFICANT_DIGITS) : null;
+            long errors = 0;
+            for (Future<Worker> future : futures) {
+                Worker worker = future.get();
+                latency.add(worker.latency);
+                if (firstByte != null) {
+                    firstByte.add(worker.firstByte);
+                }
+                errors += worker.errors;
+            }
+
+            ScenarioResult result = ScenarioResult.of(scenario.name(), scenario.service(), concurrency, errors,
+                    end - measureFrom, latency, firstByte);
+            log.info("시나리오 완료: name={}, requests={}, errors={}, throughput={}/s",
+                    scenario.name(), result.requests(), result.errors(), String.format("%.1f", result.throughput()));
+            return result;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("시나리오 실행 오류: " + scenario.name(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 가상 사용자 (스레드별 히스토그램에 기록 후 종료 시 합산)
+     */
+    private class Worker implements Runnable {
+
+        private final Scenario scenario;
+        private final Session session;
+        private final long thinkTime;
+        private final long measureFrom;
+        private final long end;
+        private final Histogram latency = new Histogram(SIGNIFICANT_DIGITS);
+        private final Histogram firstByte = new Histogram(SIGNIFICANT_DIGITS);
+        private long errors;
+
+        Worker(Scenario scenario, Session session, long thinkTime, long measureFrom, long end) {
+            this.scenario = scenario;
+            this.session = session;
+            this.thinkTime = thinkTime;
+            this.measureFrom = measureFrom;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                HttpRequest request = scenario.request().apply(session);
+                long sent = System.nanoTime();
+                long firstByteAt = 0;
+                boolean receivedFirstByte = false;
+                boolean failed;
+                try {
+                    HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+                    try (InputStream body = response.body()) {
+                        if (body.read() >= 0) {
+                            firstByteAt = System.nanoTime();
+                            receivedFirstByte = true;
+                        }
+                        body.transferTo(OutputStream.nullOutputStream());
+                    }
+                    failed = response.statusCode() >= 400;
+                } catch (IOException e) {
+                    failed = true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long completed = System.nanoTime();
+
+                if (sent >= measureFrom && completed <= end) {
+                    latency.recordValue(completed - sent);
+                    if (receivedFirstByte) {
+                        firstByte.recordValue(firstByteAt - sent);
+                    }
+                    if (failed) {
+                        errors++;
+                    }
+                }
+
+                if (thinkTime > 0) {
+                    try {
+                        Thread.sleep(thinkTime);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+}
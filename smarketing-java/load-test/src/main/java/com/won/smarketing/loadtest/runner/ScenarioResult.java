@@ -0,0 +1,45 @@
+package com.won.smarketing.loadtest.runner;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오 측정 결과 (응답 시간은 밀리초)
+ *
+ * @param name 시나리오 이름
+ * @param service 대상 서비스
+ * @param concurrency 동시 사용자 수
+ * @param requests 측정 구간 요청 수
+ * @param errors 측정 구간 오류 수 (4xx/5xx, 연결 실패, 타임아웃)
+ * @param throughput 초당 처리 요청 수
+ * @param p50 중앙값
+ * @param p90 90 분위
+ * @param p99 99 분위
+ * @param p999 99.9 분위
+ * @param max 최대
+ * @param firstByteP99 첫 바이트까지의 99 분위 (스트리밍 시나리오만, 그 외 null)
+ */
+public record ScenarioResult(String name, String service, int concurrency, long requests, long errors,
+                             double throughput, double p50, double p90, double p99, double p999, double max,
+                             Double firstByteP99) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    static ScenarioResult of(String name, String service, int concurrency, long errors, long elapsedNanos,
+                             Histogram latency, Histogram firstByte) {
+        long requests = latency.getTotalCount();
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        return new ScenarioResult(name, service, concurrency, requests, errors,
+                seconds > 0 ? requests / seconds : 0,
+                millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                latency.getMaxValue() / NANOS_PER_MILLI,
+                firstByte != null ? millis(firstByte, 99) : null);
+    }
+
+    public double errorRate() {
+        return requests > 0 ? (double) errors / requests : 0;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
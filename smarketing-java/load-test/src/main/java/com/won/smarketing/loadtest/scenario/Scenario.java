@@ -0,0 +1,15 @@
+package com.won.smarketing.loadtest.scenario;
+
+import java.net.http.HttpRequest;
+import java.util.function.Function;
+
+/**
+ * 부하 시나리오 (서비스 API 하나에 대한 반복 요청)
+ *
+ * @param name 시나리오 이름 (설정의 scenarios 키, 보고서 이름)
+ * @param service 대상 서비스
+ * @param streaming SSE 응답 여부 (첫 바이트까지의 시간도 기록)
+ * @param request 요청 생성 (요청마다 호출)
+ */
+public record Scenario(String name, String service, boolean streaming, Function<Session, HttpRequest> request) {
+}
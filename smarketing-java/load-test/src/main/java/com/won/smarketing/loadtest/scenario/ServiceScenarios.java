@@ -0,0 +1,124 @@
+package com.won.smarketing.loadtest.scenario;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 네 서비스의 주요 API 부하 시나리오
+ *
+ * - member: 아이디 중복 확인, 로그인
+ * - store: 매장 조회, 메뉴 목록, 매출 조회
+ * - marketing-content: 콘텐츠 목록, SNS 게시물 생성 (Python AI 대역 호출)
+ * - ai-recommend: 마케팅 팁 조회/생성, 스트리밍, 이력 조회 (매장 서비스/Python AI 대역 호출)
+ */
+public final class ServiceScenarios {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String MULTIPART_BOUNDARY = "smarketing-load-test-boundary";
+
+    private ServiceScenarios() {
+    }
+
+    public static List<Scenario> all(LoadTestProperties properties) {
+        LoadTestProperties.Targets targets = properties.getTargets();
+        LoadTestProperties.Account account = properties.getAccount();
+        Duration timeout = Duration.ofMillis(properties.getRun().getRequestTimeout());
+
+        return List.of(
+                new Scenario("member.check-duplicate", "member", false, session ->
+                        get(targets.getMember() + "/api/member/check-duplicate/user-id?userId=lt"
+                                + ThreadLocalRandom.current().nextInt(1_000_000), null, timeout)),
+                new Scenario("member.login", "member", false, session ->
+                        postJson(targets.getMember() + "/api/auth/login",
+                                Map.of("userId", account.getUserId(), "password", account.getPassword()), null, timeout)),
+
+                new Scenario("store.get-store", "store", false, session ->
+                        get(targets.getStore() + "/api/store", session, timeout)),
+                new Scenario("store.get-menus", "store", false, session ->
+                        get(targets.getStore() + "/api/menu?storeId=" + session.storeId(), session, timeout)),
+                new Scenario("store.get-sales", "store", false, session ->
+                        get(targets.getStore() + "/api/sales/" + session.storeId(), session, timeout)),
+
+                new Scenario("content.list", "marketing-content", false, session ->
+                        get(targets.getMarketingContent() + "/api/content?storeId=" + session.storeId(), session, timeout)),
+                new Scenario("content.sns-generate", "marketing-content", false, session ->
+                        snsGenerate(targets.getMarketingContent(), account, session, timeout)),
+
+                new Scenario("recommend.marketing-tip", "ai-recommend", false, session ->
+                        postJson(targets.getAiRecommend() + "/api/recommend/marketing-tips", null, session, timeout)),
+                new Scenario("recommend.marketing-tip-stream", "ai-recommend", true, session ->
+                        postJson(targets.getAiRecommend() + "/api/recommend/marketing-tips/stream", null, session, timeout)),
+                new Scenario("recommend.history", "ai-recommend", false, session ->
+                        get(targets.getAiRecommend() + "/api/recommend/marketing-tips/history?size=20", session, timeout))
+        );
+    }
+
+    static HttpRequest get(String url, Session session, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET();
+        if (session != null) {
+            builder.header("Authorization", session.authorization());
+        }
+        return builder.build();
+    }
+
+    static HttpRequest postJson(String url, Object body, Session session, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(body != null ? HttpRequest.BodyPublishers.ofString(toJson(body)) : HttpRequest.BodyPublishers.noBody());
+        if (session != null) {
+            builder.header("Authorization", session.authorization());
+        }
+        return builder.build();
+    }
+
+    /**
+     * SNS 게시물 생성 요청 (multipart의 request 파트에 JSON, 이미지 없음)
+     */
+    private static HttpRequest snsGenerate(String baseUrl, LoadTestProperties.Account account, Session session,
+                                           Duration timeout) {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("storeId", session.storeId());
+        request.put("storeName", account.getStoreName());
+        request.put("storeType", account.getBusinessType());
+        request.put("platform", "INSTAGRAM");
+        request.put("title", "부하 테스트 이벤트 " + UUID.randomUUID().toString().substring(0, 8));
+        request.put("category", "이벤트");
+        request.put("contentType", "SNS");
+        request.put("startDate", LocalDate.now().toString());
+        request.put("endDate", LocalDate.now().plusDays(7).toString());
+
+        String body = "--" + MULTIPART_BOUNDARY + "\r\n" +
+                "Content-Disposition: form-data; name=\"request\"\r\n" +
+                "Content-Type: application/json\r\n\r\n" +
+                toJson(request) + "\r\n" +
+                "--" + MULTIPART_BOUNDARY + "--\r\n";
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/content/sns/generate"))
+                .timeout(timeout)
+                .header("Authorization", session.authorization())
+                .header("Content-Type", "multipart/form-data; boundary=" + MULTIPART_BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static String toJson(Object body) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문 변환 실패", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.won.smarketing.loadtest.scenario;
+
+/**
+ * 부하 테스트 계정의 인증 정보와 매장
+ *
+ * @param userId 사용자 ID
+ * @param accessToken 회원 서비스에서 발급한 액세스 토큰 (모든 서비스가 같은 JWT 비밀키 사용)
+ * @param storeId 매장 서비스에 등록된 매장 ID
+ */
+public record Session(String userId, String accessToken, Long storeId) {
+
+    public String authorization() {
+        return "Bearer " + accessToken;
+    }
+}
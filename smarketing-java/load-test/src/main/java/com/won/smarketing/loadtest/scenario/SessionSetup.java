@@ -0,0 +1,88 @@
+package com.won.smarketing.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 계정 준비
+ * 회원 가입(이미 있으면 무시) → 로그인 → 매장 조회(없으면 등록) 순서로 세션 구성
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SessionSetup {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final LoadTestProperties properties;
+
+    public Session prepare() throws IOException, InterruptedException {
+        LoadTestProperties.Targets targets = properties.getTargets();
+        LoadTestProperties.Account account = properties.getAccount();
+        Duration timeout = Duration.ofMillis(properties.getRun().getRequestTimeout());
+
+        Map<String, Object> register = new LinkedHashMap<>();
+        register.put("userId", account.getUserId());
+        register.put("password", account.getPassword());
+        register.put("name", account.getName());
+        register.put("businessNumber", account.getBusinessNumber());
+        register.put("email", account.getEmail());
+        HttpResponse<String> registered = send(ServiceScenarios.postJson(
+                targets.getMember() + "/api/member/register", register, null, timeout));
+        log.info("부하 테스트 계정 가입: userId={}, status={}", account.getUserId(), registered.statusCode());
+
+        HttpResponse<String> login = send(ServiceScenarios.postJson(targets.getMember() + "/api/auth/login",
+                Map.of("userId", account.getUserId(), "password", account.getPassword()), null, timeout));
+        String accessToken = data(login).path("accessToken").asText(null);
+        if (accessToken == null) {
+            throw new IllegalStateException("부하 테스트 계정 로그인 실패: status=" + login.statusCode() + ", body=" + login.body());
+        }
+        Session session = new Session(account.getUserId(), accessToken, null);
+
+        HttpResponse<String> store = send(ServiceScenarios.get(targets.getStore() + "/api/store", session, timeout));
+        JsonNode storeId = data(store).path("storeId");
+        if (storeId.isMissingNode() || storeId.isNull()) {
+            Map<String, Object> storeRequest = new LinkedHashMap<>();
+            storeRequest.put("storeName", account.getStoreName());
+            storeRequest.put("businessType", account.getBusinessType());
+            storeRequest.put("address", account.getAddress());
+            storeRequest.put("seatCount", 20);
+            storeRequest.put("description", "부하 테스트용 매장");
+
+            store = send(ServiceScenarios.postJson(targets.getStore() + "/api/store/register", storeRequest, session, timeout));
+            storeId = data(store).path("storeId");
+            if (storeId.isMissingNode() || storeId.isNull()) {
+                throw new IllegalStateException("부하 테스트 매장 등록 실패: status=" + store.statusCode() + ", body=" + store.body());
+            }
+            log.info("부하 테스트 매장 등록: storeId={}", storeId.asLong());
+        }
+
+        return new Session(account.getUserId(), accessToken, storeId.asLong());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * ApiResponse의 data 필드 (응답이 JSON이 아니면 빈 노드)
+     */
+    private static JsonNode data(HttpResponse<String> response) {
+        try {
+            return OBJECT_MAPPER.readTree(response.body()).path("data");
+        } catch (IOException e) {
+            return OBJECT_MAPPER.missingNode();
+        }
+    }
+}
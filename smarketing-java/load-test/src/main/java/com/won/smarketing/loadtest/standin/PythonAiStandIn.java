@@ -0,0 +1,137 @@
+package com.won.smarketing.loadtest.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.won.smarketing.loadtest.config.LatencySpec;
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Python AI 서비스 대역 서버
+ *
+ * - ai-recommend: 마케팅 팁 생성 (단건, 일괄, SSE 스트리밍)
+ * - marketing-content: SNS 콘텐츠 생성 (단건, SSE 스트리밍), 포스터 생성
+ *
+ * 스트리밍 응답은 추출한 생성 지연을 조각 수로 나누어 조각 사이에 대기
+ */
+public class PythonAiStandIn extends StandInServer {
+
+    private static final String AI_MODEL = "stand-in";
+
+    private final LoadTestProperties.PythonAi settings;
+
+    public PythonAiStandIn(LoadTestProperties.PythonAi settings) throws IOException {
+        super("python-ai", settings.getPort(), settings.getErrorRate());
+        this.settings = settings;
+
+        // 경로는 접두어로 일치하며 가장 긴 경로가 선택됨
+        route("POST", "/api/v1/generate-marketing-tip/stream", this::streamMarketingTip);
+        route("POST", "/api/v1/generate-marketing-tip", this::generateMarketingTip);
+        route("POST", "/api/v1/generate-marketing-tips/batch", this::generateMarketingTips);
+        route("POST", "/api/ai/sns/stream", this::streamSnsContent);
+        route("POST", "/api/ai/sns", this::generateSnsContent);
+        route("POST", "/api/ai/poster", this::generatePoster);
+    }
+
+    private void generateMarketingTip(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        delay(settings.getTipLatency());
+
+        JsonNode request = OBJECT_MAPPER.readTree(body);
+        writeJson(exchange, 200, Map.of(
+                "tip", marketingTip(request),
+                "status", "success",
+                "message", "AI 마케팅 팁이 생성되었습니다.",
+                "ai_model", AI_MODEL));
+    }
+
+    private void generateMarketingTips(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        // 일괄 요청은 한 번의 생성 지연으로 처리
+        delay(settings.getTipLatency());
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (JsonNode request : OBJECT_MAPPER.readTree(body).path("requests")) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("request_id", request.path("request_id").asText());
+            result.put("tip", marketingTip(request));
+            result.put("status", "success");
+            results.add(result);
+        }
+        writeJson(exchange, 200, Map.of("results", results, "status", "success", "message", "일괄 생성 완료"));
+    }
+
+    private void streamMarketingTip(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        String tip = marketingTip(OBJECT_MAPPER.readTree(body));
+
+        EventStream stream = openEventStream(exchange);
+        long chunkDelay = chunkDelay(settings.getTipLatency());
+        for (String chunk : split(tip, settings.getStreamChunks())) {
+            Thread.sleep(chunkDelay);
+            stream.send("chunk", Map.of("text", chunk));
+        }
+        stream.send("complete", Map.of("status", "success"));
+    }
+
+    private void generateSnsContent(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        delay(settings.getSnsLatency());
+
+        writeJson(exchange, 200, Map.of("content", snsContent(OBJECT_MAPPER.readTree(body))));
+    }
+
+    private void streamSnsContent(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        String content = snsContent(OBJECT_MAPPER.readTree(body));
+
+        EventStream stream = openEventStream(exchange);
+        stream.send("status", Map.of("message", "콘텐츠 생성 중"));
+        long chunkDelay = chunkDelay(settings.getSnsLatency());
+        for (String chunk : split(content, settings.getStreamChunks())) {
+            Thread.sleep(chunkDelay);
+            stream.send("chunk", Map.of("text", chunk));
+        }
+        stream.send("complete", Map.of("content", content));
+    }
+
+    private void generatePoster(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        delay(settings.getPosterLatency());
+
+        writeJson(exchange, 200, Map.of("content", "https://stand-in.local/posters/" + UUID.randomUUID() + ".png"));
+    }
+
+    /**
+     * 조각 사이 대기 시간 (전체 생성 지연을 조각 수로 나눔)
+     */
+    private long chunkDelay(LatencySpec latency) {
+        return latency.sample(ThreadLocalRandom.current()) / Math.max(1, settings.getStreamChunks());
+    }
+
+    private static String marketingTip(JsonNode request) {
+        String storeName = request.path("store_name").asText("매장");
+        String businessType = request.path("business_type").asText("매장");
+        return "<h3>" + storeName + " 마케팅 팁</h3>" +
+                "<p>" + businessType + " 고객이 많은 점심 시간대에 대표 메뉴 세트 할인을 진행하고, " +
+                "방문 인증 후기를 SNS에 올린 고객에게 다음 방문 쿠폰을 제공해 보세요.</p>";
+    }
+
+    private static String snsContent(JsonNode request) {
+        String title = request.path("title").asText("오늘의 소식");
+        String storeName = request.path("storeName").asText("우리 매장");
+        return "🌟 " + title + " 🌟\n\n" + storeName + "에서 준비한 특별한 소식을 만나보세요!\n" +
+                "지금 방문하시면 더 풍성한 혜택을 드립니다.\n\n#" + storeName.replace(" ", "") + " #맛집 #이벤트";
+    }
+
+    private static List<String> split(String text, int chunks) {
+        int count = Math.max(1, Math.min(chunks, text.length()));
+        int size = (text.length() + count - 1) / count;
+        List<String> parts = new ArrayList<>();
+        for (int start = 0; start < text.length(); start += size) {
+            parts.add(text.substring(start, Math.min(text.length(), start + size)));
+        }
+        return parts;
+    }
+}
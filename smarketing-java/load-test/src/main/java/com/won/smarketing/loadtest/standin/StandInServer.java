@@ -0,0 +1,131 @@
+package com.won.smarketing.loadtest.standin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.won.smarketing.loadtest.config.LatencySpec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 서비스 대역 서버 공통 기능 (JDK 내장 HTTP 서버)
+ * 응답 지연과 오류 비율을 설정으로 조정하며, 지연은 요청 처리 스레드에서 대기하여 재현
+ */
+@Slf4j
+public abstract class StandInServer implements AutoCloseable {
+
+    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final double errorRate;
+
+    protected StandInServer(String name, int port, double errorRate) throws IOException {
+        this.name = name;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server.setExecutor(executor);
+    }
+
+    /**
+     * 요청 처리기
+     */
+    @FunctionalInterface
+    protected interface Handler {
+        void handle(HttpExchange exchange, byte[] body) throws IOException, InterruptedException;
+    }
+
+    /**
+     * 경로(접두어)별 처리기 등록
+     * 메서드가 다르면 405, 설정된 비율만큼 503으로 응답
+     */
+    protected void route(String method, String path, Handler handler) {
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                if (!method.equals(exchange.getRequestMethod())) {
+                    writeJson(exchange, 405, Map.of("status", "error", "message", "Method Not Allowed"));
+                    return;
+                }
+                if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                    writeJson(exchange, 503, Map.of("status", "error", "message", name + " 대역 서버 오류 주입"));
+                    return;
+                }
+                handler.handle(exchange, body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 호출 측 타임아웃 등으로 연결이 끊긴 경우
+                log.debug("{} 응답 전송 실패: path={}, error={}", name, path, e.getMessage());
+            }
+        });
+    }
+
+    public void start() {
+        server.start();
+        log.info("{} 대역 서버 시작: http://127.0.0.1:{}", name, server.getAddress().getPort());
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    protected static void delay(LatencySpec latency) throws InterruptedException {
+        long millis = latency.sample(ThreadLocalRandom.current());
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    protected static void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = OBJECT_MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    /**
+     * Server-Sent Events 응답 시작
+     */
+    protected static EventStream openEventStream(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        return new EventStream(exchange.getResponseBody());
+    }
+
+    /**
+     * SSE 이벤트 전송 (이벤트마다 flush)
+     */
+    protected record EventStream(OutputStream outputStream) {
+
+        public void send(String event, Object data) throws IOException {
+            String frame = "event: " + event + "\ndata: " + OBJECT_MAPPER.writeValueAsString(data) + "\n\n";
+            outputStream.write(frame.getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.won.smarketing.loadtest.standin;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.won.smarketing.loadtest.config.LoadTestProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 서비스 대역 서버
+ * ai-recommend, marketing-content가 호출하는 매장 조회(GET /api/store)와 메뉴 조회(GET /api/menu/store/{storeId}) 응답
+ *
+ * 매장은 JWT 사용자(sub)별로 store-count개 중 하나를 고정 배정하여 같은 사용자는 항상 같은 매장을 받음
+ */
+public class StoreServiceStandIn extends StandInServer {
+
+    private static final String[] BUSINESS_TYPES = {"카페", "한식", "베이커리", "치킨", "분식"};
+    private static final String[] LOCATIONS = {"서울시 강남구 역삼동", "서울시 마포구 서교동", "서울시 성동구 성수동", "부산시 해운대구 우동"};
+    private static final String MENU_PATH = "/api/menu/store/";
+
+    private final LoadTestProperties.StoreService settings;
+
+    public StoreServiceStandIn(LoadTestProperties.StoreService settings) throws IOException {
+        super("store-service", settings.getPort(), settings.getErrorRate());
+        this.settings = settings;
+
+        route("GET", "/api/store", this::getStore);
+        route("GET", MENU_PATH, this::getMenus);
+    }
+
+    private void getStore(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        delay(settings.getLatency());
+
+        long storeId = storeIdOf(exchange.getRequestHeaders().getFirst("Authorization"));
+        Map<String, Object> store = new LinkedHashMap<>();
+        store.put("storeId", storeId);
+        store.put("storeName", "부하테스트 매장 " + storeId);
+        store.put("businessType", BUSINESS_TYPES[(int) (storeId % BUSINESS_TYPES.length)]);
+        store.put("address", LOCATIONS[(int) (storeId % LOCATIONS.length)]);
+        store.put("description", "대역 서버가 생성한 매장입니다.");
+        store.put("seatCount", 10 + (int) (storeId % 40));
+
+        writeJson(exchange, 200, Map.of("status", 200, "message", "매장 조회 성공", "data", store));
+    }
+
+    private void getMenus(HttpExchange exchange, byte[] body) throws IOException, InterruptedException {
+        delay(settings.getLatency());
+
+        long storeId;
+        try {
+            storeId = Long.parseLong(exchange.getRequestURI().getPath().substring(MENU_PATH.length()));
+        } catch (NumberFormatException e) {
+            writeJson(exchange, 400, Map.of("success", false, "message", "잘못된 매장 ID"));
+            return;
+        }
+
+        List<Map<String, Object>> menus = new ArrayList<>();
+        for (int i = 1; i <= settings.getMenuCount(); i++) {
+            Map<String, Object> menu = new LinkedHashMap<>();
+            menu.put("menuId", storeId * 100 + i);
+            menu.put("menuName", "메뉴 " + i);
+            menu.put("category", i == 1 ? "대표" : "일반");
+            menu.put("price", 3000 + i * 1000);
+            menu.put("description", "매장 " + storeId + "의 메뉴 " + i);
+            menus.add(menu);
+        }
+
+        writeJson(exchange, 200, Map.of("success", true, "message", "메뉴 조회 성공", "data", menus));
+    }
+
+    /**
+     * JWT 사용자(sub)로 매장 ID 배정 (서명은 검증하지 않음)
+     */
+    private long storeIdOf(String authorization) {
+        String subject = "anonymous";
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String[] parts = authorization.substring("Bearer ".length()).split("\\.");
+            if (parts.length == 3) {
+                try {
+                    JsonNode claims = OBJECT_MAPPER.readTree(Base64.getUrlDecoder().decode(parts[1]));
+                    subject = claims.path("sub").asText(subject);
+                } catch (IOException | IllegalArgumentException e) {
+                    // 형식이 다른 토큰은 익명 사용자로 처리
+                }
+            }
+        }
+        return Math.floorMod(subject.hashCode(), Math.max(1, settings.getStoreCount())) + 1L;
+    }
+}
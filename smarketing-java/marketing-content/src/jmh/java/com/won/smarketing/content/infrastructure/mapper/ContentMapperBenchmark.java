@@ -0,0 +1,106 @@
+package com.won.smarketing.content.infrastructure.mapper;
+
+import com.won.smarketing.content.domain.model.Content;
+import com.won.smarketing.content.infrastructure.entity.ContentJpaEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 콘텐츠 행 변환 벤치마크
+ * findByFilters로 한 매장의 콘텐츠 이력을 조회한 결과(rows건)를 도메인으로 변환하는 비용을
+ * 기존 JSON 문자열(TEXT) 역직렬화와 text[] 컬럼 목록 복사로 비교
+ *
+ * 드라이버의 컬럼 값 해석 비용은 포함하지 않음 (TEXT는 문자열, text[]는 PgJDBC 배열 파싱)
+ * 행당 비용은 결과 시간을 rows로 나누어 확인
+ *
+ * 실행: ./gradlew :marketing-content:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int rows;
+
+    private List<ContentJpaEntity> entities;
+    private List<String> hashtagColumns;
+    private List<String> imageColumns;
+    private ContentMapper mapper;
+    private LegacyContentMapper legacyMapper;
+
+    @Setup
+    public void setUp() {
+        mapper = new ContentMapper();
+        legacyMapper = new LegacyContentMapper();
+        entities = new ArrayList<>(rows);
+        hashtagColumns = new ArrayList<>(rows);
+        imageColumns = new ArrayList<>(rows);
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < rows; i++) {
+            List<String> hashtags = List.of("#카페" + i % 7, "#신메뉴", "#디저트맛집", "#오늘의커피", "#동네카페" + i % 13);
+            List<String> images = List.of(
+                    "https://smarketing.blob.core.windows.net/content-images/" + String.format("%064x", i) + ".jpg",
+                    "https://smarketing.blob.core.windows.net/content-images/" + String.format("%064x", i + rows) + ".jpg");
+
+            ContentJpaEntity entity = new ContentJpaEntity();
+            entity.setId((long) i + 1);
+            entity.setStoreId(1L);
+            entity.setContentType("SNS");
+            entity.setPlatform("INSTAGRAM");
+            entity.setTitle("봄 시즌 신메뉴 홍보 " + i);
+            entity.setContent("따뜻한 봄날, 새로 나온 딸기 라떼와 함께 여유로운 오후를 보내세요. 매장 방문 시 스탬프 2배 적립!");
+            entity.setStatus("PUBLISHED");
+            entity.setHashtags(new ArrayList<>(hashtags));
+            entity.setImages(new ArrayList<>(images));
+            entity.setCreatedAt(base.plusHours(i));
+            entity.setUpdatedAt(base.plusHours(i));
+            entities.add(entity);
+
+            hashtagColumns.add(legacyMapper.convertListToJson(hashtags));
+            imageColumns.add(legacyMapper.convertListToJson(images));
+        }
+
+        Content expected = legacyMapper.toDomain(entities.get(0), hashtagColumns.get(0), imageColumns.get(0));
+        Content actual = mapper.toDomain(entities.get(0));
+        if (!expected.getHashtags().equals(actual.getHashtags()) || !expected.getImages().equals(actual.getImages())) {
+            throw new IllegalStateException("변환 결과 불일치: legacy=" + expected.getHashtags() + ", array=" + actual.getHashtags());
+        }
+    }
+
+    @Benchmark
+    public List<Content> legacyJsonText() {
+        List<Content> contents = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            contents.add(legacyMapper.toDomain(entities.get(i), hashtagColumns.get(i), imageColumns.get(i)));
+        }
+        return contents;
+    }
+
+    @Benchmark
+    public List<Content> textArray() {
+        List<Content> contents = new ArrayList<>(rows);
+        for (ContentJpaEntity entity : entities) {
+            contents.add(mapper.toDomain(entity));
+        }
+        return contents;
+    }
+}
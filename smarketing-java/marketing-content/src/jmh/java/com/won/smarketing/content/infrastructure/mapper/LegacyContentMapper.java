@@ -0,0 +1,72 @@
+package com.won.smarketing.content.infrastructure.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.content.domain.model.Content;
+import com.won.smarketing.content.domain.model.ContentStatus;
+import com.won.smarketing.content.domain.model.ContentType;
+import com.won.smarketing.content.domain.model.Platform;
+import com.won.smarketing.content.infrastructure.entity.ContentJpaEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 벤치마크 비교용 기존 행 변환 로직
+ * text[] 전환 전 ContentMapper가 TEXT 컬럼의 JSON 문자열을 행마다 역직렬화하던 구현을 옮김 (로그와 잘못된 열거형 값 처리 제외)
+ * 엔티티는 더 이상 JSON 문자열을 갖지 않으므로 hashtags/images 컬럼 값은 별도 인자로 받음
+ */
+class LegacyContentMapper {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    Content toDomain(ContentJpaEntity entity, String hashtagsJson, String imagesJson) {
+        if (entity == null) {
+            return null;
+        }
+
+        return Content.builder()
+                .id(entity.getId())
+                .storeId(entity.getStoreId())
+                .contentType(ContentType.valueOf(entity.getContentType()))
+                .platform(Platform.valueOf(entity.getPlatform()))
+                .title(entity.getTitle())
+                .content(entity.getContent())
+                .hashtags(convertJsonToList(hashtagsJson))
+                .images(convertJsonToList(imagesJson))
+                .status(ContentStatus.valueOf(entity.getStatus()))
+                .promotionStartDate(entity.getPromotionStartDate())
+                .promotionEndDate(entity.getPromotionEndDate())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * List를 JSON 문자열로 변환 (벤치마크 데이터 준비용)
+     */
+    String convertListToJson(List<String> list) {
+        if (list == null || list.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(list);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * JSON 문자열을 List로 변환
+     */
+    private List<String> convertJsonToList(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+}
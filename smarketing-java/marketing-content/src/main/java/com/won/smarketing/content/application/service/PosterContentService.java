@@ -1,28 +1,40 @@
 package com.won.smarketing.content.application.service;
 
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
 import com.won.smarketing.content.application.usecase.PosterContentUseCase;
 import com.won.smarketing.content.domain.model.Content;
 import com.won.smarketing.content.domain.model.ContentStatus;
 import com.won.smarketing.content.domain.model.ContentType;
 import com.won.smarketing.content.domain.model.CreationConditions;
 import com.won.smarketing.content.domain.model.Platform;
+import com.won.smarketing.content.domain.model.PosterJob;
+import com.won.smarketing.content.domain.model.PosterJobLane;
+import com.won.smarketing.content.domain.model.PosterJobStatus;
 import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
 import com.won.smarketing.content.domain.repository.ContentRepository;
 import com.won.smarketing.content.domain.service.AiPosterGenerator;
 import com.won.smarketing.content.domain.service.BlobStorageService;
 import com.won.smarketing.content.domain.service.StoreDataProvider;
+import com.won.smarketing.content.infrastructure.job.PosterJobQueue;
+import com.won.smarketing.content.infrastructure.job.PosterJobStore;
 import com.won.smarketing.content.presentation.dto.PosterContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.PosterContentCreateResponse;
 import com.won.smarketing.content.presentation.dto.PosterContentSaveRequest;
+import com.won.smarketing.content.presentation.dto.PosterJobResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 포스터 콘텐츠 서비스 구현체
@@ -41,6 +53,8 @@ public class PosterContentService implements PosterContentUseCase {
     private final AiPosterGenerator aiPosterGenerator;
     private final BlobStorageService blobStorageService;
     private final StoreDataProvider storeDataProvider;
+    private final PosterJobStore posterJobStore;
+    private final PosterJobQueue posterJobQueue;
 
     /**
      * 포스터 콘텐츠 생성
@@ -49,27 +63,103 @@ public class PosterContentService implements PosterContentUseCase {
      * @return 생성된 포스터 콘텐츠 정보
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PosterContentCreateResponse generatePosterContent(List<MultipartFile> images, PosterContentCreateRequest request) {
 
-        // 1. 이미지 blob storage에 저장하고 request 저장
-        List<String> imageUrls = blobStorageService.uploadImage(images, posterImageContainer);
-        request.setImages(imageUrls);
-        
-        // 매장 정보 호출
-        String userId = getCurrentUserId();
-        StoreWithMenuData storeWithMenuData = storeDataProvider.getStoreWithMenuData(userId);
+        // 1. 이미지 업로드 및 매장 정보 조회
+        StoreWithMenuData storeWithMenuData = prepare(images, request);
 
         // 2. AI 요청
         String generatedPoster = aiPosterGenerator.generatePoster(request, storeWithMenuData);
 
-        return PosterContentCreateResponse.builder()
-                .contentId(null) // 임시 생성이므로 ID 없음
-                .contentType(ContentType.POSTER.name())
-                .title(request.getTitle())
-                .content(generatedPoster)
-                .status(ContentStatus.DRAFT.name())
-                .build();
+        return toCreateResponse(request.getTitle(), generatedPoster);
+    }
+
+    /**
+     * 포스터 생성 작업 등록
+     * 이미지 업로드와 매장 정보 조회는 요청 사용자 인증 정보가 필요하므로 요청 스레드에서 마치고,
+     * AI 생성만 작업 대기열에서 수행
+     *
+     * @param images 포스터에 사용할 이미지
+     * @param request 포스터 콘텐츠 생성 요청
+     * @param retryOfJobId 다시 요청하는 이전 작업 ID (본인의 실패/취소된 작업이면 한 번 RETRY 우선순위)
+     * @return 등록된 작업 정보
+     * @throws BusinessException 대기열이 가득 찬 경우 (POSTER_JOB_QUEUE_FULL, 이미지 업로드 전에 확인)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PosterJobResponse submitPosterJob(List<MultipartFile> images, PosterContentCreateRequest request, String retryOfJobId) {
+        String userId = getCurrentUserId();
+        String jobId = UUID.randomUUID().toString();
+        PosterJobLane lane = resolveLane(userId, retryOfJobId, jobId);
+
+        // 업로드한 이미지가 거부된 요청에 남지 않도록 대기열 자리를 먼저 예약
+        try {
+            posterJobQueue.reserve(lane);
+        } catch (BusinessException e) {
+            releaseRetry(lane, retryOfJobId, jobId);
+            throw e;
+        }
+
+        PosterJob job;
+        try {
+            StoreWithMenuData storeWithMenuData = prepare(images, request);
+
+            job = PosterJob.builder()
+                    .jobId(jobId)
+                    .userId(userId)
+                    .storeId(request.getStoreId())
+                    .title(request.getTitle())
+                    .lane(lane)
+                    .status(PosterJobStatus.QUEUED)
+                    .requestedAt(LocalDateTime.now())
+                    .build();
+
+            posterJobStore.create(job);
+            posterJobQueue.enqueue(jobId, lane, request, storeWithMenuData);
+        } catch (RuntimeException e) {
+            posterJobQueue.cancelReservation();
+            posterJobStore.delete(jobId);
+            releaseRetry(lane, retryOfJobId, jobId);
+            throw e;
+        }
+
+        log.info("포스터 생성 작업 등록: jobId={}, storeId={}, lane={}", job.getJobId(), job.getStoreId(), lane);
+        return toJobResponse(job);
+    }
+
+    /**
+     * 포스터 생성 작업 조회 (작업을 등록한 사용자만 조회 가능)
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성된 포스터
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PosterJobResponse getPosterJob(String jobId) {
+        return toJobResponse(findOwnedJob(jobId));
+    }
+
+    /**
+     * 포스터 생성 작업 취소
+     * 이미 끝난 작업은 그대로 반환하며, 다른 인스턴스에서 실행 중인 작업은 결과가 버려짐
+     *
+     * @param jobId 작업 ID
+     * @return 취소 후 작업 상태
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PosterJobResponse cancelPosterJob(String jobId) {
+        PosterJob job = findOwnedJob(jobId);
+        if (job.getStatus().isFinished()) {
+            return toJobResponse(job);
+        }
+
+        posterJobStore.markCancelled(jobId);
+        boolean local = posterJobQueue.cancel(jobId);
+        log.info("포스터 생성 작업 취소: jobId={}, previousStatus={}, local={}", jobId, job.getStatus(), local);
+
+        return toJobResponse(findOwnedJob(jobId));
     }
 
     /**
@@ -105,6 +195,76 @@ public class PosterContentService implements PosterContentUseCase {
         contentRepository.save(content);
     }
 
+    /**
+     * 이미지 업로드 후 요청에 URL 설정, 매장 정보 조회 (이미지 업로드와 동시에 진행)
+     */
+    private StoreWithMenuData prepare(List<MultipartFile> images, PosterContentCreateRequest request) {
+        String userId = getCurrentUserId();
+        CompletableFuture<StoreWithMenuData> storeWithMenuDataFuture =
+                storeDataProvider.fetchStoreWithMenuData(userId, request.getStoreId()).toFuture();
+
+        List<String> imageUrls = blobStorageService.uploadImage(images, posterImageContainer);
+        request.setImages(imageUrls);
+
+        return storeWithMenuDataFuture.join();
+    }
+
+    /**
+     * 본인의 실패/취소된 작업을 처음 다시 요청한 경우에만 RETRY 우선순위 부여
+     * 완료/진행 중인 작업이나 이미 다시 요청한 작업을 지정하면 FIRST_ATTEMPT로 처리하여 우선순위 대기열 독점을 막음
+     */
+    private PosterJobLane resolveLane(String userId, String retryOfJobId, String jobId) {
+        if (retryOfJobId == null || retryOfJobId.isBlank()) {
+            return PosterJobLane.FIRST_ATTEMPT;
+        }
+        if (posterJobStore.claimRetry(retryOfJobId, userId, jobId)) {
+            return PosterJobLane.RETRY;
+        }
+        log.info("재요청 우선순위 미적용: retryOf={}, userId={}", retryOfJobId, userId);
+        return PosterJobLane.FIRST_ATTEMPT;
+    }
+
+    /**
+     * 새 작업을 등록하지 못했으면 이전 작업의 재요청 권한 반납
+     */
+    private void releaseRetry(PosterJobLane lane, String retryOfJobId, String jobId) {
+        if (lane == PosterJobLane.RETRY) {
+            posterJobStore.releaseRetry(retryOfJobId, jobId);
+        }
+    }
+
+    private PosterJob findOwnedJob(String jobId) {
+        String userId = getCurrentUserId();
+        return posterJobStore.find(jobId)
+                .filter(found -> found.isOwnedBy(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.POSTER_JOB_NOT_FOUND));
+    }
+
+    private PosterContentCreateResponse toCreateResponse(String title, String posterUrl) {
+        return PosterContentCreateResponse.builder()
+                .contentId(null) // 임시 생성이므로 ID 없음
+                .contentType(ContentType.POSTER.name())
+                .title(title)
+                .content(posterUrl)
+                .status(ContentStatus.DRAFT.name())
+                .build();
+    }
+
+    private PosterJobResponse toJobResponse(PosterJob job) {
+        return PosterJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .lane(job.getLane().name())
+                .poster(job.getStatus() == PosterJobStatus.COMPLETED
+                        ? toCreateResponse(job.getTitle(), job.getPosterUrl())
+                        : null)
+                .errorMessage(job.getErrorMessage())
+                .requestedAt(job.getRequestedAt())
+                .startedAt(job.getStartedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
     /**
      * 현재 로그인된 사용자 ID 조회
      */
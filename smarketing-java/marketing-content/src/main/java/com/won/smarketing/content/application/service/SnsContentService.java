@@ -1,5 +1,7 @@
 package com.won.smarketing.content.application.service;
 
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
 import com.won.smarketing.content.application.usecase.SnsContentUseCase;
 import com.won.smarketing.content.domain.model.Content;
 import com.won.smarketing.content.domain.model.ContentId;
@@ -7,25 +9,37 @@ import com.won.smarketing.content.domain.model.ContentStatus;
 import com.won.smarketing.content.domain.model.ContentType;
 import com.won.smarketing.content.domain.model.CreationConditions;
 import com.won.smarketing.content.domain.model.Platform;
+import com.won.smarketing.content.domain.model.SnsContentJob;
+import com.won.smarketing.content.domain.model.SnsContentJobStatus;
 import com.won.smarketing.content.domain.repository.ContentRepository;
 import com.won.smarketing.content.domain.service.AiContentGenerator;
 import com.won.smarketing.content.domain.service.BlobStorageService;
+import com.won.smarketing.content.infrastructure.job.SnsContentJobRunner;
+import com.won.smarketing.content.infrastructure.job.SnsContentJobStore;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateResponse;
+import com.won.smarketing.content.presentation.dto.SnsContentJobResponse;
 import com.won.smarketing.content.presentation.dto.SnsContentSaveRequest;
+import com.won.smarketing.content.presentation.dto.SnsContentStreamEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * SNS 콘텐츠 서비스 구현체
  * SNS 게시물 생성 및 저장 기능 구현
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -34,6 +48,8 @@ public class SnsContentService implements SnsContentUseCase {
     private final ContentRepository contentRepository;
     private final AiContentGenerator aiContentGenerator;
     private final BlobStorageService blobStorageService;
+    private final SnsContentJobStore snsContentJobStore;
+    private final SnsContentJobRunner snsContentJobRunner;
 
     @Value("${azure.storage.container.poster-images:content-images}")
     private String contentImageContainer;
@@ -45,7 +61,7 @@ public class SnsContentService implements SnsContentUseCase {
      * @return 생성된 SNS 콘텐츠 정보
      */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SnsContentCreateResponse generateSnsContent(SnsContentCreateRequest request, List<MultipartFile> files) {
         //파일들 주소 가져옴
         if(files != null) {
@@ -61,6 +77,81 @@ public class SnsContentService implements SnsContentUseCase {
                 .build();
     }
 
+    /**
+     * SNS 콘텐츠 스트리밍 생성
+     *
+     * @param request SNS 콘텐츠 생성 요청
+     * @return SNS 콘텐츠 스트리밍 이벤트
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<SnsContentStreamEvent> streamSnsContent(SnsContentCreateRequest request, List<MultipartFile> files) {
+        // 업로드 파일은 요청이 끝나면 사라지므로 스트림 시작 전에 요청 스레드에서 업로드
+        if(files != null) {
+            List<String> urls = blobStorageService.uploadImage(files, contentImageContainer);
+            request.setImages(urls);
+        }
+
+        return aiContentGenerator.streamSnsContent(request)
+                .onErrorResume(e -> {
+                    log.error("SNS 콘텐츠 스트리밍 생성 실패: {}", e.getMessage());
+                    ErrorCode errorCode = e instanceof BusinessException businessException
+                            ? businessException.getErrorCode() : ErrorCode.AI_SERVICE_UNAVAILABLE;
+                    return Flux.just(SnsContentStreamEvent.error(errorCode.getMessage()));
+                });
+    }
+
+    /**
+     * SNS 콘텐츠 생성 작업 등록
+     * 이미지는 요청이 끝나면 사라지므로 요청 스레드에서 업로드하고, AI 호출은 작업 스레드에서 수행
+     *
+     * @param request SNS 콘텐츠 생성 요청
+     * @return 등록된 작업 (PROCESSING)
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SnsContentJobResponse submitSnsContentJob(SnsContentCreateRequest request, List<MultipartFile> files) {
+        if(files != null) {
+            List<String> urls = blobStorageService.uploadImage(files, contentImageContainer);
+            request.setImages(urls);
+        }
+
+        SnsContentJob job = SnsContentJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .userId(getCurrentUserId())
+                .storeId(request.getStoreId())
+                .status(SnsContentJobStatus.PROCESSING)
+                .requestedAt(LocalDateTime.now())
+                .build();
+
+        snsContentJobStore.create(job);
+        try {
+            snsContentJobRunner.submit(job.getJobId(), request);
+        } catch (BusinessException e) {
+            snsContentJobStore.delete(job.getJobId());
+            throw e;
+        }
+
+        log.info("SNS 콘텐츠 생성 작업 등록: jobId={}, storeId={}", job.getJobId(), job.getStoreId());
+        return toJobResponse(job);
+    }
+
+    /**
+     * SNS 콘텐츠 생성 작업 조회 (작업을 등록한 사용자만 조회 가능)
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성 결과
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SnsContentJobResponse getSnsContentJob(String jobId) {
+        String userId = getCurrentUserId();
+        SnsContentJob job = snsContentJobStore.find(jobId)
+                .filter(found -> found.isOwnedBy(userId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.SNS_CONTENT_JOB_NOT_FOUND));
+        return toJobResponse(job);
+    }
+
     /**
      * SNS 콘텐츠 저장
      *
@@ -95,4 +186,19 @@ public class SnsContentService implements SnsContentUseCase {
 
         contentRepository.save(content);
     }
+
+    private SnsContentJobResponse toJobResponse(SnsContentJob job) {
+        return SnsContentJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus().name())
+                .content(job.getStatus() == SnsContentJobStatus.COMPLETED ? job.getContent() : null)
+                .errorMessage(job.getErrorMessage())
+                .requestedAt(job.getRequestedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+
+    private String getCurrentUserId() {
+        return SecurityContextHolder.getContext().getAuthentication().getName();
+    }
 }
@@ -5,6 +5,7 @@ import com.won.smarketing.content.domain.model.Content;
 import com.won.smarketing.content.presentation.dto.PosterContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.PosterContentCreateResponse;
 import com.won.smarketing.content.presentation.dto.PosterContentSaveRequest;
+import com.won.smarketing.content.presentation.dto.PosterJobResponse;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -22,6 +23,29 @@ public interface PosterContentUseCase {
      */
     PosterContentCreateResponse generatePosterContent(List<MultipartFile> images, PosterContentCreateRequest request);
 
+    /**
+     * 포스터 생성 작업 등록 (생성은 작업 대기열에서 비동기로 수행)
+     * @param images 포스터에 사용할 이미지
+     * @param request 포스터 콘텐츠 생성 요청
+     * @param retryOfJobId 다시 요청하는 이전 작업 ID (본인의 실패/취소된 작업이면 한 번 우선 처리)
+     * @return 등록된 작업 정보
+     */
+    PosterJobResponse submitPosterJob(List<MultipartFile> images, PosterContentCreateRequest request, String retryOfJobId);
+
+    /**
+     * 포스터 생성 작업 조회
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성된 포스터
+     */
+    PosterJobResponse getPosterJob(String jobId);
+
+    /**
+     * 포스터 생성 작업 취소
+     * @param jobId 작업 ID
+     * @return 취소 후 작업 상태
+     */
+    PosterJobResponse cancelPosterJob(String jobId);
+
     /**
      * 포스터 콘텐츠 저장
      * @param request 포스터 콘텐츠 저장 요청
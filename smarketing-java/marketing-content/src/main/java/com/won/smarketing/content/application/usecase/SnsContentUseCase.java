@@ -3,8 +3,11 @@ package com.won.smarketing.content.application.usecase;
 
 import com.won.smarketing.content.presentation.dto.SnsContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateResponse;
+import com.won.smarketing.content.presentation.dto.SnsContentJobResponse;
 import com.won.smarketing.content.presentation.dto.SnsContentSaveRequest;
+import com.won.smarketing.content.presentation.dto.SnsContentStreamEvent;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -21,6 +24,29 @@ public interface SnsContentUseCase {
      */
     SnsContentCreateResponse generateSnsContent(SnsContentCreateRequest request, List<MultipartFile> files);
 
+    /**
+     * SNS 콘텐츠 스트리밍 생성
+     * 생성 결과는 저장하지 않으며, 최종 콘텐츠는 SNS 콘텐츠 저장으로 저장
+     * @param request SNS 콘텐츠 생성 요청
+     * @return SNS 콘텐츠 스트리밍 이벤트
+     */
+    Flux<SnsContentStreamEvent> streamSnsContent(SnsContentCreateRequest request, List<MultipartFile> files);
+
+    /**
+     * SNS 콘텐츠 생성 작업 등록
+     * 작업 ID를 즉시 반환하며, 생성 결과는 작업 조회로 확인
+     * @param request SNS 콘텐츠 생성 요청
+     * @return 등록된 작업 (PROCESSING)
+     */
+    SnsContentJobResponse submitSnsContentJob(SnsContentCreateRequest request, List<MultipartFile> files);
+
+    /**
+     * SNS 콘텐츠 생성 작업 조회
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성 결과
+     */
+    SnsContentJobResponse getSnsContentJob(String jobId);
+
     /**
      * SNS 콘텐츠 저장
      * @param request SNS 콘텐츠 저장 요청
@@ -2,6 +2,7 @@
 package com.won.smarketing.content.config;
 
 import com.azure.identity.DefaultAzureCredentialBuilder;
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.common.StorageSharedKeyCredential;
@@ -35,29 +36,45 @@ public class AzureBlobStorageConfig {
     @Bean
     public BlobServiceClient blobServiceClient() {
         try {
-            // Managed Identity 사용 시 (Azure 환경에서 권장)
-            if (accountKey == null || accountKey.isEmpty()) {
-                log.info("Azure Blob Storage 연결 - Managed Identity 사용");
-                return new BlobServiceClientBuilder()
-                        .endpoint(getEndpoint())
-                        .credential(new DefaultAzureCredentialBuilder().build())
-                        .buildClient();
-            }
-
-            // Account Key 사용 시 (개발 환경용)
-            log.info("Azure Blob Storage 연결 - Account Key 사용");
-            StorageSharedKeyCredential credential = new StorageSharedKeyCredential(accountName, accountKey);
-            return new BlobServiceClientBuilder()
-                    .endpoint(getEndpoint())
-                    .credential(credential)
-                    .buildClient();
-
+            return clientBuilder().buildClient();
         } catch (Exception e) {
             log.error("Azure Blob Storage 클라이언트 생성 실패", e);
             throw new RuntimeException("Azure Blob Storage 연결 실패", e);
         }
     }
 
+    /**
+     * Azure Blob Storage 비동기 Service Client 생성 (여러 파일 동시 업로드용)
+     *
+     * @return BlobServiceAsyncClient 인스턴스
+     */
+    @Bean
+    public BlobServiceAsyncClient blobServiceAsyncClient() {
+        try {
+            return clientBuilder().buildAsyncClient();
+        } catch (Exception e) {
+            log.error("Azure Blob Storage 비동기 클라이언트 생성 실패", e);
+            throw new RuntimeException("Azure Blob Storage 연결 실패", e);
+        }
+    }
+
+    private BlobServiceClientBuilder clientBuilder() {
+        // Managed Identity 사용 시 (Azure 환경에서 권장)
+        if (accountKey == null || accountKey.isEmpty()) {
+            log.info("Azure Blob Storage 연결 - Managed Identity 사용");
+            return new BlobServiceClientBuilder()
+                    .endpoint(getEndpoint())
+                    .credential(new DefaultAzureCredentialBuilder().build());
+        }
+
+        // Account Key 사용 시 (개발 환경용)
+        log.info("Azure Blob Storage 연결 - Account Key 사용");
+        StorageSharedKeyCredential credential = new StorageSharedKeyCredential(accountName, accountKey);
+        return new BlobServiceClientBuilder()
+                .endpoint(getEndpoint())
+                .credential(credential);
+    }
+
     /**
      * Storage Account 엔드포인트 URL 생성
      *
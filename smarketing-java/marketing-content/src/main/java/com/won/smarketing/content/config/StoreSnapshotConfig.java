@@ -0,0 +1,40 @@
+package com.won.smarketing.content.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.common.cache.StoreSnapshotCache;
+import com.won.smarketing.common.event.StoreChangedEventSubscriber;
+import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 매장 스냅샷 캐시 및 매장 변경 이벤트 구독(Redis Pub/Sub) 설정
+ */
+@Configuration
+public class StoreSnapshotConfig {
+
+    @Bean
+    public StoreSnapshotCache<StoreWithMenuData> storeSnapshotCache(MeterRegistry meterRegistry,
+                                                                    @Value("${store-snapshot.cache.max-size:10000}") long maxSize,
+                                                                    @Value("${store-snapshot.cache.ttl:21600000}") long ttl) {
+        // Mock 데이터가 섞인 결과는 저장하지 않음
+        return new StoreSnapshotCache<>(meterRegistry, maxSize, ttl,
+                snapshot -> snapshot.getStoreData().getStoreId(), StoreWithMenuData::isDegraded);
+    }
+
+    @Bean
+    public StoreChangedEventSubscriber storeChangedEventSubscriber(ObjectMapper objectMapper,
+                                                                   StoreSnapshotCache<StoreWithMenuData> storeSnapshotCache) {
+        return new StoreChangedEventSubscriber(objectMapper, storeSnapshotCache);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer storeChangedListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       StoreChangedEventSubscriber storeChangedEventSubscriber) {
+        return storeChangedEventSubscriber.listenerContainer(redisConnectionFactory);
+    }
+}
@@ -0,0 +1,34 @@
+package com.won.smarketing.content.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스터 생성 작업 도메인 모델
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PosterJob {
+
+    private String jobId;
+    private String userId;
+    private Long storeId;
+    private String title;
+    private PosterJobLane lane;
+    private PosterJobStatus status;
+    private String posterUrl;
+    private String errorMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+
+    public boolean isOwnedBy(String userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.won.smarketing.content.domain.model;
+
+/**
+ * 포스터 생성 작업 대기열 우선순위 (선언 순서가 우선순위)
+ * 같은 우선순위 안에서는 먼저 등록된 작업부터 처리
+ */
+public enum PosterJobLane {
+
+    /** 실패/취소된 작업을 다시 요청한 작업 (이미 한 번 기다린 사용자, 이전 작업당 한 번) */
+    RETRY,
+
+    /** 처음 요청한 작업 */
+    FIRST_ATTEMPT
+}
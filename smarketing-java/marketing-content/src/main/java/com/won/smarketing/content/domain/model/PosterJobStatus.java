@@ -0,0 +1,16 @@
+package com.won.smarketing.content.domain.model;
+
+/**
+ * 포스터 생성 작업 처리 상태
+ */
+public enum PosterJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,31 @@
+package com.won.smarketing.content.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SNS 콘텐츠 생성 작업 도메인 모델
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnsContentJob {
+
+    private String jobId;
+    private String userId;
+    private Long storeId;
+    private SnsContentJobStatus status;
+    private String content;
+    private String errorMessage;
+    private LocalDateTime requestedAt;
+    private LocalDateTime completedAt;
+
+    public boolean isOwnedBy(String userId) {
+        return this.userId != null && this.userId.equals(userId);
+    }
+}
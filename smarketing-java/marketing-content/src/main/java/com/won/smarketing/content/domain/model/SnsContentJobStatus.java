@@ -0,0 +1,10 @@
+package com.won.smarketing.content.domain.model;
+
+/**
+ * SNS 콘텐츠 생성 작업 처리 상태
+ */
+public enum SnsContentJobStatus {
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
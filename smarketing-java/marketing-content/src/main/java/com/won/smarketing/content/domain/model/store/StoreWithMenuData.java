@@ -10,4 +10,5 @@ import java.util.List;
 public class StoreWithMenuData {
     private StoreData storeData;
     private List<MenuData> menuDataList;
+    private boolean degraded;           // 일부 조회 실패로 Mock 데이터가 포함된 경우
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.won.smarketing.content.domain.service;
 import com.won.smarketing.content.domain.model.Platform;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateResponse;
+import com.won.smarketing.content.presentation.dto.SnsContentStreamEvent;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -19,4 +21,12 @@ public interface AiContentGenerator {
      * @return 생성된 콘텐츠
      */
     String generateSnsContent(SnsContentCreateRequest request);
+
+    /**
+     * SNS 콘텐츠 스트리밍 생성
+     *
+     * @param request SNS 콘텐츠 생성 요청
+     * @return 진행 상황, 생성 조각, 최종 콘텐츠 이벤트
+     */
+    Flux<SnsContentStreamEvent> streamSnsContent(SnsContentCreateRequest request);
 }
@@ -1,27 +1,41 @@
 // store/src/main/java/com/won/smarketing/store/service/BlobStorageServiceImpl.java
 package com.won.smarketing.content.domain.service;
 
-import com.azure.core.util.BinaryData;
+import com.azure.core.util.FluxUtil;
+import com.azure.storage.blob.BlobAsyncClient;
 import com.azure.storage.blob.BlobClient;
+import com.azure.storage.blob.BlobContainerAsyncClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.models.PublicAccessType;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.common.storage.BlobDigestIndex;
+import com.won.smarketing.common.storage.ContentDigest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Azure Blob Storage 서비스 구현체
@@ -32,11 +46,28 @@ import java.util.UUID;
 @Slf4j
 public class BlobStorageServiceImpl implements BlobStorageService {
 
+    // 스트림을 읽어 전송 버퍼로 나누는 단위
+    private static final int STREAM_CHUNK_SIZE = 256 * 1024;
+
+    // 파일 하나를 블록으로 나누어 보낼 때 동시에 전송하는 블록 수
+    private static final int BLOCK_CONCURRENCY = 2;
+
     private final BlobServiceClient blobServiceClient;
+    private final BlobServiceAsyncClient blobServiceAsyncClient;
+    private final BlobDigestIndex blobDigestIndex;
+
+    // 존재를 확인했거나 생성한 컨테이너 (인스턴스 생존 동안 유지)
+    private final Set<String> verifiedContainers = ConcurrentHashMap.newKeySet();
 
     @Value("${azure.storage.max-file-size:10485760}") // 10MB
     private long maxFileSize;
 
+    @Value("${azure.storage.upload.concurrency:4}")
+    private int uploadConcurrency;
+
+    @Value("${azure.storage.upload.block-size:4194304}") // 4MB
+    private long uploadBlockSize;
+
     // 허용되는 이미지 확장자
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
             "jpg", "jpeg", "png", "gif", "bmp", "webp"
@@ -49,50 +80,99 @@ public class BlobStorageServiceImpl implements BlobStorageService {
 
     /**
      * 이미지 파일 업로드
+     * 파일별 업로드를 비동기 클라이언트로 동시에 진행하며, 각 파일은 요청 본문 스트림에서 바로 블록 단위로 전송
+     * (Content-Type은 업로드 요청에 함께 지정)
      *
      * @param files 업로드할 파일들
-     * @return 업로드된 파일의 URL
+     * @return 업로드된 파일의 URL (요청한 파일 순서)
      */
     @Override
     public List<String> uploadImage(List<MultipartFile> files, String containerName) {
         // 파일 유효성 검증
         validateImageFile(files);
-        List<String> urls = new ArrayList<>();
-
-        try {
-            // 컨테이너 존재 확인 및 생성
-            for(MultipartFile file : files) {
-                String fileName = generateMenuImageFileName(file.getOriginalFilename());
-
-                ensureContainerExists(containerName);
 
-                // Blob 클라이언트 생성
-                BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
-                BlobClient blobClient = containerClient.getBlobClient(fileName);
+        // 컨테이너 존재 확인 및 생성 (확인된 컨테이너는 다시 조회하지 않음)
+        ensureContainerExists(containerName);
+        BlobContainerAsyncClient containerClient = blobServiceAsyncClient.getBlobContainerAsyncClient(containerName);
 
-                // 파일 업로드 (간단한 방식)
-                BinaryData binaryData = BinaryData.fromBytes(file.getBytes());
+        try {
+            List<String> urls = Flux.fromIterable(files)
+                    .flatMapSequential(file -> upload(containerClient, file), uploadConcurrency)
+                    .collectList()
+                    .block();
+            log.info("이미지 업로드 완료: container={}, count={}", containerName, files.size());
+            return urls;
 
-                // 파일 업로드 실행 (덮어쓰기 허용)
-                blobClient.upload(binaryData, true);
+        } catch (Exception e) {
+            log.error("이미지 업로드 실패: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
 
-                // Content-Type 설정
-                BlobHttpHeaders headers = new BlobHttpHeaders().setContentType(file.getContentType());
-                blobClient.setHttpHeaders(headers);
+    /**
+     * 단일 파일 업로드
+     * 파일 내용으로 이름을 정하고, 같은 파일이 이미 있으면 (색인 → 스토리지 존재 확인 순) 전송 없이 기존 URL 반환
+     */
+    private Mono<String> upload(BlobContainerAsyncClient containerClient, MultipartFile file) {
+        String containerName = containerClient.getBlobContainerName();
+
+        // 다이제스트 계산과 색인 조회는 블로킹 작업이므로 별도 스케줄러에서 수행
+        return Mono.fromCallable(() -> contentAddressedFileName(file))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(fileName -> {
+                    Optional<String> indexed = blobDigestIndex.find(containerName, fileName);
+                    if (indexed.isPresent()) {
+                        log.info("동일 이미지 재사용: {}", indexed.get());
+                        return Mono.just(indexed.get());
+                    }
+
+                    BlobAsyncClient blobClient = containerClient.getBlobAsyncClient(fileName);
+                    return blobClient.exists()
+                            .flatMap(exists -> exists
+                                    ? Mono.just(blobClient.getBlobUrl())
+                                            .doOnNext(fileUrl -> log.info("동일 이미지 재사용: {}", fileUrl))
+                                    : transfer(blobClient, file))
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(fileUrl -> blobDigestIndex.record(containerName, fileName, fileUrl));
+                });
+    }
 
-                String fileUrl = blobClient.getBlobUrl();
-                log.info("이미지 업로드 성공: {}", fileUrl);
+    /**
+     * 파일 전송 (파일 크기가 블록 크기를 넘으면 블록으로 나누어 전송 후 커밋)
+     */
+    private Mono<String> transfer(BlobAsyncClient blobClient, MultipartFile file) {
+        Flux<ByteBuffer> data = Flux.using(
+                file::getInputStream,
+                inputStream -> FluxUtil.toFluxByteBuffer(inputStream, STREAM_CHUNK_SIZE),
+                this::closeQuietly);
+
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(data)
+                .setHeaders(new BlobHttpHeaders().setContentType(file.getContentType()))
+                .setParallelTransferOptions(new ParallelTransferOptions()
+                        .setBlockSizeLong(uploadBlockSize)
+                        .setMaxSingleUploadSizeLong(uploadBlockSize)
+                        .setMaxConcurrency(BLOCK_CONCURRENCY));
+
+        // 같은 이름은 같은 내용이므로 동시에 올라와 덮어써도 결과가 같음
+        return blobClient.uploadWithResponse(options)
+                .map(response -> blobClient.getBlobUrl())
+                .doOnNext(fileUrl -> log.info("이미지 업로드 성공: {}", fileUrl));
+    }
 
-                urls.add(fileUrl);
-            }
-            return urls;
+    /**
+     * 내용 기반 파일명 생성 (SHA-256 + 확장자, 업로드 전 로컬 스트림에서 계산)
+     */
+    private String contentAddressedFileName(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            return ContentDigest.fileName(ContentDigest.sha256(inputStream), getFileExtension(file.getOriginalFilename()));
+        }
+    }
 
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
         } catch (IOException e) {
-            log.error("이미지 업로드 실패 - 파일 읽기 오류: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
-        } catch (Exception e) {
-            log.error("이미지 업로드 실패: {}", e.getMessage());
-            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            log.debug("업로드 파일 스트림 닫기 실패: {}", e.getMessage());
         }
     }
 
@@ -132,6 +212,10 @@ public class BlobStorageServiceImpl implements BlobStorageService {
      */
     @Override
     public void ensureContainerExists(String containerName) {
+        if (verifiedContainers.contains(containerName)) {
+            return;
+        }
+
         try {
             BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
 
@@ -139,6 +223,7 @@ public class BlobStorageServiceImpl implements BlobStorageService {
                 containerClient.createWithResponse(null, PublicAccessType.BLOB, null, null);
                 log.info("컨테이너 생성 완료: {}", containerName);
             }
+            verifiedContainers.add(containerName);
 
         } catch (Exception e) {
             log.error("컨테이너 생성 실패: {}", e.getMessage());
@@ -182,20 +267,6 @@ public class BlobStorageServiceImpl implements BlobStorageService {
         }
     }
 
-    /**
-     * 메뉴 이미지 파일명 생성
-     *
-     * @param originalFilename 원본 파일명
-     * @return 생성된 파일명
-     */
-    private String generateMenuImageFileName(String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-
-        return String.format("menu_%s_%s.%s", timestamp, uuid, extension);
-    }
-
     /**
      * 매장 이미지 파일명 생성
      *
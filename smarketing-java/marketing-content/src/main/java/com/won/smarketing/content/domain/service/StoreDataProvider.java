@@ -1,6 +1,7 @@
 package com.won.smarketing.content.domain.service;
 
 import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
+import reactor.core.publisher.Mono;
 
 /**
  * 매장 데이터 제공 도메인 서비스 인터페이스
@@ -8,4 +9,14 @@ import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
 public interface StoreDataProvider {
 
     StoreWithMenuData getStoreWithMenuData(String userId);
+
+    /**
+     * 매장 정보와 메뉴 정보 비동기 조회
+     * 매장 ID 힌트가 있으면 메뉴를 동시에 조회하고, 실제 매장 ID와 다르면 메뉴만 다시 조회
+     *
+     * @param userId 사용자 ID
+     * @param storeIdHint 미리 알고 있는 매장 ID (없으면 null)
+     * @return 매장 및 메뉴 정보 (조회 실패 분기는 대체 데이터로 채워짐)
+     */
+    Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId, Long storeIdHint);
 }
@@ -5,12 +5,15 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.List;
 
 /**
  * 콘텐츠 JPA 엔티티
@@ -48,11 +51,14 @@ public class ContentJpaEntity {
     @Column(name = "content", columnDefinition = "TEXT")
     private String content;
 
-    @Column(name = "hashtags", columnDefinition = "TEXT")
-    private String hashtags;
+    // PostgreSQL text[] 컬럼 (기존 JSON 문자열 데이터는 db/contents_array_columns.sql로 변환)
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "hashtags", columnDefinition = "text[]")
+    private List<String> hashtags;
 
-    @Column(name = "images", columnDefinition = "TEXT")
-    private String images;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "images", columnDefinition = "text[]")
+    private List<String> images;
 
     @Column(name = "status", nullable = false, length = 20)
     private String status;
@@ -0,0 +1,33 @@
+package com.won.smarketing.content.infrastructure.external;
+
+import com.won.smarketing.common.cache.StoreSnapshotCache;
+import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
+import com.won.smarketing.content.domain.service.StoreDataProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 로컬 스냅샷 캐시를 사용하는 매장 데이터 제공자
+ * 캐시에 없을 때만 store 서비스를 호출하며, 변경 이벤트로 무효화된 항목은 다시 조회
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class CachingStoreDataProvider implements StoreDataProvider {
+
+    private final StoreApiDataProvider storeApiDataProvider;
+    private final StoreSnapshotCache<StoreWithMenuData> storeSnapshotCache;
+
+    @Override
+    public StoreWithMenuData getStoreWithMenuData(String userId) {
+        return fetchStoreWithMenuData(userId, null).block();
+    }
+
+    @Override
+    public Mono<StoreWithMenuData> fetchStoreWithMenuData(String userId, Long storeIdHint) {
+        return storeSnapshotCache.getOrFetch(userId,
+                () -> storeApiDataProvider.fetchStoreWithMenuData(userId, storeIdHint));
+    }
+}
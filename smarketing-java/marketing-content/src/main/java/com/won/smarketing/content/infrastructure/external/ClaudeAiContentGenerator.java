@@ -1,14 +1,24 @@
 package com.won.smarketing.content.infrastructure.external;
 
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.common.resilience.AiCallGuard;
 import com.won.smarketing.content.domain.service.AiContentGenerator;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateRequest;
 import com.won.smarketing.content.presentation.dto.SnsContentCreateResponse;
+import com.won.smarketing.content.presentation.dto.SnsContentStreamEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,7 +31,13 @@ import java.util.Map;
 @Slf4j
 public class ClaudeAiContentGenerator implements AiContentGenerator {
 
+    private static final String AI_ENDPOINT = "sns-content";
+    private static final String AI_STREAM_ENDPOINT = "sns-content-stream";
+    private static final ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>> SSE_EVENT_TYPE =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final AiCallGuard aiCallGuard;
 
     @Value("${external.ai-service.base-url:http://20.249.113.247:5001}")
     private String aiServiceBaseUrl;
@@ -34,6 +50,33 @@ public class ClaudeAiContentGenerator implements AiContentGenerator {
         log.info("Python AI 서비스 호출: {}/api/ai/sns", aiServiceBaseUrl);
 
         // 요청 데이터 구성
+        Map<String, Object> requestBody = buildRequestBody(request);
+
+        // Python AI 서비스 호출
+        Mono<String> call = webClient
+                .method(HttpMethod.POST)
+                .uri(aiServiceBaseUrl + "/api/ai/sns")
+                .header("Content-Type", "application/json")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .timeout(Duration.ofSeconds(300))
+                .map(response -> response.containsKey("content") ? (String) response.get("content") : "");
+
+        // SNS 콘텐츠는 대체 문구가 없으므로 차단/포화/실패 시 즉시 503으로 응답
+        String content = aiCallGuard.protect(AI_ENDPOINT, call,
+                        e -> Mono.error(new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE)))
+                .defaultIfEmpty("")
+                .block(Duration.ofMinutes(6));
+
+        log.info("AI 서비스 응답 성공: contentLength={}", content.length());
+        return content;
+    }
+
+    /**
+     * Python AI 서비스 요청 데이터 구성
+     */
+    private Map<String, Object> buildRequestBody(SnsContentCreateRequest request) {
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("storeId", request.getStoreId());
         requestBody.put("storeName", request.getStoreName());
@@ -48,28 +91,50 @@ public class ClaudeAiContentGenerator implements AiContentGenerator {
         requestBody.put("start_date", request.getStartDate());
         requestBody.put("end_date", request.getEndDate());
         requestBody.put("images", request.getImages());
+        return requestBody;
+    }
 
-        // Python AI 서비스 호출
-        Map<String, Object> response = webClient
-                .method(HttpMethod.POST)
-                .uri(aiServiceBaseUrl + "/api/ai/sns")
-                .header("Content-Type", "application/json")
-                .bodyValue(requestBody)
+    /**
+     * SNS 콘텐츠 스트리밍 생성 - Python AI 서비스 SSE 호출
+     */
+    @Override
+    public Flux<SnsContentStreamEvent> streamSnsContent(SnsContentCreateRequest request) {
+        log.info("Python AI 스트리밍 서비스 호출: {}/api/ai/sns/stream", aiServiceBaseUrl);
+
+        Flux<SnsContentStreamEvent> events = webClient
+                .post()
+                .uri(aiServiceBaseUrl + "/api/ai/sns/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(buildRequestBody(request))
                 .retrieve()
-                .bodyToMono(Map.class)
+                .bodyToFlux(SSE_EVENT_TYPE)
+                // 이벤트 사이의 대기 시간 기준 (이미지 분석 단계 포함)
                 .timeout(Duration.ofSeconds(300))
-                .block(Duration.ofMinutes(6));
-
-        String content = "";
+                .takeUntil(event -> SnsContentStreamEvent.COMPLETE.equals(event.event()))
+                .handle((event, sink) -> {
+                    String type = event.event();
+                    if (SnsContentStreamEvent.STATUS.equals(type)) {
+                        sink.next(SnsContentStreamEvent.status(eventField(event, "message")));
+                    } else if (SnsContentStreamEvent.CHUNK.equals(type)) {
+                        sink.next(SnsContentStreamEvent.chunk(eventField(event, "text")));
+                    } else if (SnsContentStreamEvent.COMPLETE.equals(type)) {
+                        String content = eventField(event, "content");
+                        log.info("AI 서비스 스트리밍 완료: contentLength={}", content != null ? content.length() : 0);
+                        sink.next(SnsContentStreamEvent.complete(content != null ? content : ""));
+                    } else if (SnsContentStreamEvent.ERROR.equals(type)) {
+                        sink.error(new IllegalStateException("Python AI 스트리밍 오류: " + eventField(event, "message")));
+                    }
+                });
 
-        // 응답에서 content 추출
-        if (response != null && response.containsKey("content")) {
-            content = (String) response.get("content");
-            log.info("AI 서비스 응답 성공: contentLength={}", content.length());
+        // SNS 콘텐츠는 대체 문구가 없으므로 차단/포화/실패 시 오류로 전달
+        return aiCallGuard.protectMany(AI_STREAM_ENDPOINT, events,
+                e -> Flux.error(new BusinessException(ErrorCode.AI_SERVICE_UNAVAILABLE)));
+    }
 
-            return content;
-        }
-        return content;
+    private String eventField(ServerSentEvent<Map<String, Object>> event, String field) {
+        Object value = event.data() != null ? event.data().get(field) : null;
+        return value != null ? value.toString() : null;
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.won.smarketing.content.infrastructure.external;
 
+import com.won.smarketing.common.resilience.AiCallGuard;
 import com.won.smarketing.content.domain.model.store.MenuData;
 import com.won.smarketing.content.domain.model.store.StoreData;
 import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
@@ -10,6 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
@@ -27,7 +29,10 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PythonAiPosterGenerator implements AiPosterGenerator {
 
+    private static final String AI_ENDPOINT = "poster";
+
     private final WebClient webClient;
+    private final AiCallGuard aiCallGuard;
 
     @Value("${external.ai-service.base-url}")
     private String aiServiceBaseUrl;
@@ -40,39 +45,32 @@ public class PythonAiPosterGenerator implements AiPosterGenerator {
      */
     @Override
     public String generatePoster(PosterContentCreateRequest request, StoreWithMenuData storeWithMenuData) {
-        try {
-            log.info("Python AI 포스터 서비스 호출: {}/api/ai/poster", aiServiceBaseUrl);
-
-            // 요청 데이터 구성
-            Map<String, Object> requestBody = buildRequestBody(request, storeWithMenuData);
-
-            log.debug("포스터 생성 요청 데이터: {}", requestBody);
-
-            // Python AI 서비스 호출
-            Map<String, Object> response = webClient
-                    .post()
-                    .uri(aiServiceBaseUrl + "/api/ai/poster")
-                    .header("Content-Type", "application/json")
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .timeout(Duration.ofSeconds(300))
-                    .block();
-
-            // 응답에서 content(이미지 URL) 추출
-            if (response != null && response.containsKey("content")) {
-                String imageUrl = (String) response.get("content");
-                log.info("AI 포스터 생성 성공: imageUrl={}", imageUrl);
-                return imageUrl;
-            } else {
-                log.warn("AI 포스터 생성 응답에 content가 없음: {}", response);
-                return generateFallbackPosterUrl(request.getTitle());
-            }
-
-        } catch (Exception e) {
-            log.error("AI 포스터 생성 실패: {}", e.getMessage(), e);
-            return generateFallbackPosterUrl(request.getTitle());
-        }
+        log.info("Python AI 포스터 서비스 호출: {}/api/ai/poster", aiServiceBaseUrl);
+
+        // 요청 데이터 구성
+        Map<String, Object> requestBody = buildRequestBody(request, storeWithMenuData);
+
+        log.debug("포스터 생성 요청 데이터: {}", requestBody);
+
+        // Python AI 서비스 호출
+        Mono<String> call = webClient
+                .post()
+                .uri(aiServiceBaseUrl + "/api/ai/poster")
+                .header("Content-Type", "application/json")
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .timeout(Duration.ofSeconds(300))
+                // 응답에서 content(이미지 URL) 추출
+                .filter(response -> response.containsKey("content"))
+                .map(response -> (String) response.get("content"))
+                .doOnNext(imageUrl -> log.info("AI 포스터 생성 성공: imageUrl={}", imageUrl))
+                .switchIfEmpty(Mono.error(new IllegalStateException("AI 포스터 생성 응답에 content가 없습니다.")));
+
+        // 서킷 차단, 동시 호출 포화, 호출 실패 시 기본 포스터로 대체
+        return aiCallGuard.protect(AI_ENDPOINT, call,
+                        e -> Mono.fromSupplier(() -> generateFallbackPosterUrl(request.getTitle())))
+                .block();
     }
 
     /**
@@ -0,0 +1,322 @@
+package com.won.smarketing.content.infrastructure.job;
+
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.content.domain.model.PosterJobLane;
+import com.won.smarketing.content.domain.model.store.StoreWithMenuData;
+import com.won.smarketing.content.domain.service.AiPosterGenerator;
+import com.won.smarketing.content.presentation.dto.PosterContentCreateRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포스터 생성 작업 대기열
+ * 포스터 생성은 수 분까지 걸리므로 요청 스레드에서 기다리지 않고, 고정된 수의 작업 스레드가 우선순위 대기열에서 꺼내 처리
+ *
+ * - 우선순위: 재요청(RETRY) 작업을 처음 요청(FIRST_ATTEMPT)보다 먼저 처리하고, 같은 우선순위 안에서는 등록 순서대로 처리
+ * - 용량: 대기 중이거나 등록 준비 중(reserve)인 작업 수가 queue-capacity에 이르면 거부 (POSTER_JOB_QUEUE_FULL)
+ *   이미지 업로드 전에 자리를 예약하므로, 거부된 요청은 업로드한 이미지를 남기지 않음
+ * - 취소: 대기 중이면 대기열에서 제거하고, 실행 중이면 작업 스레드를 인터럽트하여 AI 호출 구독을 해제
+ * - 종료: 아직 시작하지 못한 작업은 실패로 기록 (보관 기간 동안 QUEUED로 남지 않도록)
+ *
+ * 지표
+ * - poster_job.queue.depth{lane}: 우선순위별 대기 작업 수
+ * - poster_job.workers.active: 생성 중인 작업 스레드 수
+ * - poster_job.queue.wait{lane}: 등록부터 실행 시작까지 대기 시간
+ * - poster_job.jobs{lane, result}: 처리 결과 (completed/failed/cancelled/rejected)
+ *
+ * 작업 스레드 수는 Python AI 포스터 동시 호출 제한(ai-resilience.endpoints.poster)과 맞춤
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PosterJobQueue {
+
+    private static final String DEPTH_GAUGE = "poster_job.queue.depth";
+    private static final String ACTIVE_GAUGE = "poster_job.workers.active";
+    private static final String WAIT_TIMER = "poster_job.queue.wait";
+    private static final String RESULT_COUNTER = "poster_job.jobs";
+    private static final String SHUTDOWN_MESSAGE = "서버 종료로 작업이 처리되지 않았습니다. 다시 요청해 주세요.";
+
+    private final AiPosterGenerator aiPosterGenerator;
+    private final PosterJobStore posterJobStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${poster.job.worker-count:4}")
+    private int workerCount;
+
+    @Value("${poster.job.queue-capacity:50}")
+    private int queueCapacity;
+
+    private final PriorityBlockingQueue<QueuedJob> queue = new PriorityBlockingQueue<>(16,
+            Comparator.comparingInt((QueuedJob job) -> job.lane.ordinal()).thenComparingLong(job -> job.sequence));
+    private final Map<String, QueuedJob> localJobs = new ConcurrentHashMap<>();
+    private final Map<PosterJobLane, AtomicInteger> depths = new EnumMap<>(PosterJobLane.class);
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+
+    private Semaphore slots;
+    private volatile boolean running;
+
+    @PostConstruct
+    void start() {
+        slots = new Semaphore(queueCapacity);
+        for (PosterJobLane lane : PosterJobLane.values()) {
+            AtomicInteger depth = new AtomicInteger();
+            depths.put(lane, depth);
+            Gauge.builder(DEPTH_GAUGE, depth, AtomicInteger::get)
+                    .description("우선순위별 포스터 생성 대기 작업 수")
+                    .tag("lane", tag(lane))
+                    .register(meterRegistry);
+        }
+        Gauge.builder(ACTIVE_GAUGE, activeWorkers, AtomicInteger::get)
+                .description("포스터 생성 중인 작업 스레드 수")
+                .register(meterRegistry);
+
+        running = true;
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::work, "poster-job-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("포스터 생성 작업 대기열 시작: workerCount={}, queueCapacity={}", workerCount, queueCapacity);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+
+        // 실행 중이던 작업은 인터럽트로 실패 처리되고, 대기 중인 작업은 여기서 실패로 기록
+        List<QueuedJob> unstarted = new ArrayList<>();
+        queue.drainTo(unstarted);
+        for (QueuedJob job : unstarted) {
+            release(job);
+            localJobs.remove(job.jobId);
+            if (job.cancelled) {
+                continue;
+            }
+            try {
+                posterJobStore.markFailed(job.jobId, SHUTDOWN_MESSAGE);
+                countResult(job.lane, "failed");
+            } catch (Exception e) {
+                log.warn("종료 중 포스터 생성 작업 실패 기록 실패: jobId={}, error={}", job.jobId, e.getMessage());
+            }
+        }
+        log.info("포스터 생성 작업 대기열 종료: 미처리 작업 수={}", unstarted.size());
+    }
+
+    /**
+     * 대기열 자리 예약 (이미지 업로드 등 등록 준비 전에 호출)
+     * 예약한 자리는 enqueue로 작업을 넣거나 cancelReservation으로 반납해야 함
+     *
+     * @param lane 우선순위
+     * @throws BusinessException 대기열이 가득 찬 경우 (POSTER_JOB_QUEUE_FULL)
+     */
+    public void reserve(PosterJobLane lane) {
+        if (!slots.tryAcquire()) {
+            countResult(lane, "rejected");
+            log.warn("포스터 생성 대기열 포화: lane={}, queueCapacity={}", lane, queueCapacity);
+            throw new BusinessException(ErrorCode.POSTER_JOB_QUEUE_FULL);
+        }
+    }
+
+    /**
+     * 예약한 자리 반납 (등록 준비 중 실패한 경우)
+     */
+    public void cancelReservation() {
+        slots.release();
+    }
+
+    /**
+     * 예약한 자리에 작업 등록
+     *
+     * @param jobId 작업 ID (상태 저장소에 등록된 작업)
+     * @param lane 우선순위
+     * @param request 포스터 생성 요청 (이미지 업로드 완료 상태)
+     * @param storeWithMenuData 매장/메뉴 정보 (요청 사용자 토큰으로 미리 조회)
+     */
+    public void enqueue(String jobId, PosterJobLane lane, PosterContentCreateRequest request,
+                        StoreWithMenuData storeWithMenuData) {
+        QueuedJob job = new QueuedJob(jobId, lane, sequence.incrementAndGet(), request, storeWithMenuData);
+        localJobs.put(jobId, job);
+        depths.get(lane).incrementAndGet();
+        queue.offer(job);
+        log.info("포스터 생성 작업 등록: jobId={}, lane={}, queued={}", jobId, lane, queue.size());
+    }
+
+    /**
+     * 이 인스턴스에서 대기/실행 중인 작업 취소
+     *
+     * @return 이 인스턴스에 있던 작업이면 true
+     */
+    public boolean cancel(String jobId) {
+        QueuedJob job = localJobs.get(jobId);
+        if (job == null) {
+            return false;
+        }
+
+        job.cancelled = true;
+        if (queue.remove(job)) {
+            release(job);
+            localJobs.remove(jobId);
+            countResult(job.lane, "cancelled");
+            log.info("대기 중인 포스터 생성 작업 취소: jobId={}", jobId);
+            return true;
+        }
+
+        synchronized (job) {
+            if (job.worker != null) {
+                job.worker.interrupt();
+                log.info("실행 중인 포스터 생성 작업 취소: jobId={}, worker={}", jobId, job.worker.getName());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 우선순위별 대기 작업 수
+     */
+    public int depth(PosterJobLane lane) {
+        return depths.get(lane).get();
+    }
+
+    private void work() {
+        while (running) {
+            QueuedJob job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            release(job);
+            try {
+                process(job);
+            } catch (RuntimeException e) {
+                // 상태 저장소 오류 등으로 작업 스레드가 종료되지 않도록 기록 후 다음 작업 처리
+                localJobs.remove(job.jobId);
+                log.error("포스터 생성 작업 처리 오류: jobId={}", job.jobId, e);
+            }
+        }
+    }
+
+    private void process(QueuedJob job) {
+        Timer.builder(WAIT_TIMER)
+                .description("포스터 생성 작업 대기 시간")
+                .tag("lane", tag(job.lane))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - job.enqueuedAt, TimeUnit.NANOSECONDS);
+
+        // 다른 인스턴스에서 취소된 작업은 Redis 상태로 확인
+        if (job.cancelled || posterJobStore.isCancelled(job.jobId)) {
+            localJobs.remove(job.jobId);
+            countResult(job.lane, "cancelled");
+            log.info("취소된 포스터 생성 작업 건너뜀: jobId={}", job.jobId);
+            return;
+        }
+
+        synchronized (job) {
+            job.worker = Thread.currentThread();
+        }
+        activeWorkers.incrementAndGet();
+        try {
+            posterJobStore.markRunning(job.jobId);
+            log.info("포스터 생성 작업 시작: jobId={}, lane={}", job.jobId, job.lane);
+            String posterUrl = aiPosterGenerator.generatePoster(job.request, job.storeWithMenuData);
+            if (job.cancelled) {
+                countResult(job.lane, "cancelled");
+                return;
+            }
+            posterJobStore.markCompleted(job.jobId, posterUrl);
+            countResult(job.lane, "completed");
+            log.info("포스터 생성 작업 완료: jobId={}", job.jobId);
+        } catch (Exception e) {
+            if (job.cancelled) {
+                countResult(job.lane, "cancelled");
+                log.info("포스터 생성 작업 중단: jobId={}", job.jobId);
+                return;
+            }
+            String message = e instanceof BusinessException businessException
+                    ? businessException.getErrorCode().getMessage()
+                    : ErrorCode.CONTENT_GENERATION_FAILED.getMessage();
+            posterJobStore.markFailed(job.jobId, message);
+            countResult(job.lane, "failed");
+            log.error("포스터 생성 작업 실패: jobId={}", job.jobId, e);
+        } finally {
+            synchronized (job) {
+                job.worker = null;
+            }
+            // 취소 인터럽트가 다음 작업에 남지 않도록 해제
+            Thread.interrupted();
+            activeWorkers.decrementAndGet();
+            localJobs.remove(job.jobId);
+        }
+    }
+
+    private void release(QueuedJob job) {
+        slots.release();
+        depths.get(job.lane).decrementAndGet();
+    }
+
+    private void countResult(PosterJobLane lane, String result) {
+        Counter.builder(RESULT_COUNTER)
+                .tag("lane", tag(lane))
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String tag(PosterJobLane lane) {
+        return lane.name().toLowerCase();
+    }
+
+    /**
+     * 대기열 항목
+     */
+    private static class QueuedJob {
+
+        private final String jobId;
+        private final PosterJobLane lane;
+        private final long sequence;
+        private final PosterContentCreateRequest request;
+        private final StoreWithMenuData storeWithMenuData;
+        private final long enqueuedAt = System.nanoTime();
+        private volatile boolean cancelled;
+        private Thread worker;
+
+        QueuedJob(String jobId, PosterJobLane lane, long sequence, PosterContentCreateRequest request,
+                  StoreWithMenuData storeWithMenuData) {
+            this.jobId = jobId;
+            this.lane = lane;
+            this.sequence = sequence;
+            this.request = request;
+            this.storeWithMenuData = storeWithMenuData;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.won.smarketing.content.infrastructure.job;
+
+import com.won.smarketing.content.domain.model.PosterJob;
+import com.won.smarketing.content.domain.model.PosterJobLane;
+import com.won.smarketing.content.domain.model.PosterJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 포스터 생성 작업 상태 저장소 (Redis Hash)
+ * 대기열은 작업을 받은 인스턴스의 메모리에 있으므로, 다른 인스턴스에서 들어온 조회/취소도 처리할 수 있도록
+ * 상태는 공유 저장소에 두며 결과는 설정된 보관 기간 이후 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PosterJobStore {
+
+    private static final String KEY_PREFIX = "poster:job:";
+    private static final String STATUS = "status";
+    private static final String RETRIED_BY = "retriedBy";
+
+    /**
+     * 본인의 실패/취소된 작업이고 아직 다시 요청되지 않았으면 재요청 작업 ID를 기록 (1: 기록, 0: 거부)
+     */
+    private static final DefaultRedisScript<Long> CLAIM_RETRY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'userId') ~= ARGV[1] then return 0 end " +
+            "local status = redis.call('hget', KEYS[1], 'status') " +
+            "if status ~= 'FAILED' and status ~= 'CANCELLED' then return 0 end " +
+            "return redis.call('hsetnx', KEYS[1], '" + RETRIED_BY + "', ARGV[2])",
+            Long.class);
+
+    /**
+     * 작업이 남아 있고 취소되지 않았을 때만 필드 갱신 (1: 갱신, 0: 만료/없음, -1: 취소됨)
+     * 확인과 쓰기 사이에 키가 만료되면 TTL 없는 불완전한 해시가 남으므로 한 번에 수행
+     */
+    private static final DefaultRedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "if redis.call('hget', KEYS[1], 'status') == 'CANCELLED' then return -1 end " +
+            "redis.call('hset', KEYS[1], unpack(ARGV)) return 1",
+            Long.class);
+
+    /**
+     * 작업이 남아 있을 때만 취소 상태 기록 (1: 기록, 0: 만료/없음)
+     */
+    private static final DefaultRedisScript<Long> CANCEL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('hset', KEYS[1], unpack(ARGV)) return 1",
+            Long.class);
+
+    private static final DefaultRedisScript<Long> RELEASE_RETRY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], '" + RETRIED_BY + "') == ARGV[1] then " +
+            "return redis.call('hdel', KEYS[1], '" + RETRIED_BY + "') else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${poster.job.result-ttl:3600000}")
+    private long resultTtl;
+
+    /**
+     * 작업 최초 등록 (QUEUED)
+     */
+    public void create(PosterJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("jobId", job.getJobId());
+        fields.put("userId", job.getUserId());
+        fields.put("lane", job.getLane().name());
+        fields.put(STATUS, PosterJobStatus.QUEUED.name());
+        fields.put("requestedAt", job.getRequestedAt().toString());
+        if (job.getStoreId() != null) {
+            fields.put("storeId", String.valueOf(job.getStoreId()));
+        }
+        if (job.getTitle() != null) {
+            fields.put("title", job.getTitle());
+        }
+
+        String key = key(job.getJobId());
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        stringRedisTemplate.expire(key, Duration.ofMillis(resultTtl));
+    }
+
+    /**
+     * 실행 시작 처리
+     */
+    public void markRunning(String jobId) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, PosterJobStatus.RUNNING.name());
+        fields.put("startedAt", LocalDateTime.now().toString());
+        update(jobId, fields);
+    }
+
+    /**
+     * 완료 처리
+     */
+    public void markCompleted(String jobId, String posterUrl) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, PosterJobStatus.COMPLETED.name());
+        fields.put("posterUrl", posterUrl != null ? posterUrl : "");
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(jobId, fields);
+    }
+
+    /**
+     * 실패 처리
+     */
+    public void markFailed(String jobId, String errorMessage) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, PosterJobStatus.FAILED.name());
+        fields.put("errorMessage", errorMessage != null ? errorMessage : "알 수 없는 오류");
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(jobId, fields);
+    }
+
+    /**
+     * 취소 처리
+     * 취소된 작업은 이후 완료/실패 결과로 덮어쓰지 않음
+     */
+    public void markCancelled(String jobId) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(STATUS, PosterJobStatus.CANCELLED.name());
+        fields.put("completedAt", LocalDateTime.now().toString());
+        stringRedisTemplate.execute(CANCEL_SCRIPT, Collections.singletonList(key(jobId)), toArgs(fields));
+    }
+
+    /**
+     * 취소 여부 (다른 인스턴스에서 취소된 대기 작업을 실행 전에 걸러내기 위함)
+     */
+    public boolean isCancelled(String jobId) {
+        Object status = stringRedisTemplate.opsForHash().get(key(jobId), STATUS);
+        return status != null && PosterJobStatus.CANCELLED.name().equals(status.toString());
+    }
+
+    /**
+     * 이전 작업의 재요청 권한 확보 (RETRY 우선순위 부여 조건)
+     * 요청 사용자의 작업이 실패/취소 상태이고 아직 다시 요청된 적이 없을 때만 성공하며, 확인과 기록을 한 번에 수행
+     *
+     * @param previousJobId 다시 요청하는 이전 작업 ID
+     * @param userId 요청 사용자 ID
+     * @param jobId 새 작업 ID
+     * @return 확보하면 true
+     */
+    public boolean claimRetry(String previousJobId, String userId, String jobId) {
+        Long claimed = stringRedisTemplate.execute(CLAIM_RETRY_SCRIPT,
+                Collections.singletonList(key(previousJobId)), userId, jobId);
+        return claimed != null && claimed == 1L;
+    }
+
+    /**
+     * 재요청 권한 반납 (새 작업을 등록하지 못한 경우)
+     */
+    public void releaseRetry(String previousJobId, String jobId) {
+        stringRedisTemplate.execute(RELEASE_RETRY_SCRIPT, Collections.singletonList(key(previousJobId)), jobId);
+    }
+
+    /**
+     * 등록 취소 (작업 대기열에 넣지 못한 경우)
+     */
+    public void delete(String jobId) {
+        stringRedisTemplate.delete(key(jobId));
+    }
+
+    /**
+     * 작업 조회
+     */
+    public Optional<PosterJob> find(String jobId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String storeId = asString(fields, "storeId");
+        return Optional.of(PosterJob.builder()
+                .jobId(jobId)
+                .userId(asString(fields, "userId"))
+                .storeId(storeId != null ? Long.valueOf(storeId) : null)
+                .title(asString(fields, "title"))
+                .lane(PosterJobLane.valueOf(asString(fields, "lane")))
+                .status(PosterJobStatus.valueOf(asString(fields, STATUS)))
+                .posterUrl(asString(fields, "posterUrl"))
+                .errorMessage(asString(fields, "errorMessage"))
+                .requestedAt(asDateTime(fields, "requestedAt"))
+                .startedAt(asDateTime(fields, "startedAt"))
+                .completedAt(asDateTime(fields, "completedAt"))
+                .build());
+    }
+
+    private void update(String jobId, Map<String, String> fields) {
+        Long updated = stringRedisTemplate.execute(UPDATE_SCRIPT, Collections.singletonList(key(jobId)), toArgs(fields));
+        if (updated == null || updated == 0L) {
+            log.warn("만료되었거나 존재하지 않는 포스터 생성 작업: jobId={}", jobId);
+        } else if (updated < 0) {
+            log.info("취소된 포스터 생성 작업 결과 무시: jobId={}, status={}", jobId, fields.get(STATUS));
+        }
+    }
+
+    private Object[] toArgs(Map<String, String> fields) {
+        List<String> args = new ArrayList<>(fields.size() * 2);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        return args.toArray();
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private String asString(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private LocalDateTime asDateTime(Map<Object, Object> fields, String name) {
+        String value = asString(fields, name);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
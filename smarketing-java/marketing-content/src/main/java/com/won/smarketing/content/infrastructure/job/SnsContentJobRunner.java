@@ -0,0 +1,138 @@
+package com.won.smarketing.content.infrastructure.job;
+
+import com.won.smarketing.common.exception.BusinessException;
+import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.content.domain.service.AiContentGenerator;
+import com.won.smarketing.content.presentation.dto.SnsContentCreateRequest;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SNS 콘텐츠 생성 작업 실행기
+ * Python AI 호출은 요청 스레드가 아닌 크기가 제한된 전용 작업 스레드에서 수행하며,
+ * 대기열이 가득 차면 작업 등록을 거부하여 느린 생성이 서블릿 스레드와 DB 커넥션을 점유하지 않도록 함
+ *
+ * 작업 스레드 풀은 빈으로 노출하지 않음 (Executor 빈이 있으면 기본 applicationTaskExecutor가 만들어지지 않음)
+ *
+ * 종료 시 아직 시작하지 못한 작업과 대기 시간 안에 끝나지 않은 작업은 실패로 기록하여
+ * 보관 기간 동안 PROCESSING으로 남지 않도록 함 (프로세스 비정상 종료 시에는 보관 기간 후 만료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnsContentJobRunner {
+
+    private final AiContentGenerator aiContentGenerator;
+    private final SnsContentJobStore snsContentJobStore;
+
+    @Value("${sns-content.job.pool-size:8}")
+    private int poolSize;
+
+    @Value("${sns-content.job.queue-capacity:100}")
+    private int queueCapacity;
+
+    private static final String SHUTDOWN_MESSAGE = "서버 종료로 작업이 처리되지 않았습니다. 다시 요청해 주세요.";
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("sns-content-job-");
+        // 종료 시 실행 중인 생성은 잠시 기다리고, 끝나지 않은 작업은 stop()에서 실패로 기록
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void stop() {
+        List<Runnable> unstarted = new ArrayList<>();
+        executor.getThreadPoolExecutor().getQueue().drainTo(unstarted);
+        // 실행 중인 작업은 awaitTerminationSeconds 동안 기다림
+        executor.shutdown();
+
+        unstarted.stream()
+                .filter(JobTask.class::isInstance)
+                .map(task -> ((JobTask) task).jobId)
+                .forEach(this::failOnShutdown);
+        runningJobs.forEach(this::failOnShutdown);
+        log.info("SNS 콘텐츠 생성 작업 실행기 종료: unstarted={}, unfinished={}", unstarted.size(), runningJobs.size());
+    }
+
+    /**
+     * 작업 실행 등록
+     *
+     * @param jobId 작업 ID (상태 저장소에 등록된 작업)
+     * @param request SNS 콘텐츠 생성 요청 (이미지 업로드 완료 상태)
+     * @throws BusinessException 대기열이 가득 찬 경우 (SNS_CONTENT_JOB_QUEUE_FULL)
+     */
+    public void submit(String jobId, SnsContentCreateRequest request) {
+        try {
+            executor.execute(new JobTask(jobId, request));
+        } catch (TaskRejectedException e) {
+            log.warn("SNS 콘텐츠 생성 대기열 포화: jobId={}, queueCapacity={}", jobId, queueCapacity);
+            throw new BusinessException(ErrorCode.SNS_CONTENT_JOB_QUEUE_FULL);
+        }
+    }
+
+    private void run(String jobId, SnsContentCreateRequest request) {
+        log.info("SNS 콘텐츠 생성 작업 시작: jobId={}", jobId);
+        runningJobs.add(jobId);
+        try {
+            String content = aiContentGenerator.generateSnsContent(request);
+            snsContentJobStore.markCompleted(jobId, content);
+            log.info("SNS 콘텐츠 생성 작업 완료: jobId={}, contentLength={}", jobId, content.length());
+        } catch (BusinessException e) {
+            log.warn("SNS 콘텐츠 생성 작업 실패: jobId={}, error={}", jobId, e.getMessage());
+            snsContentJobStore.markFailed(jobId, e.getErrorCode().getMessage());
+        } catch (Exception e) {
+            log.error("SNS 콘텐츠 생성 작업 실패: jobId={}", jobId, e);
+            snsContentJobStore.markFailed(jobId, ErrorCode.CONTENT_GENERATION_FAILED.getMessage());
+        } finally {
+            runningJobs.remove(jobId);
+        }
+    }
+
+    private void failOnShutdown(String jobId) {
+        try {
+            snsContentJobStore.markFailed(jobId, SHUTDOWN_MESSAGE);
+        } catch (Exception e) {
+            log.warn("종료 중 SNS 콘텐츠 생성 작업 실패 기록 실패: jobId={}, error={}", jobId, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 스레드 풀 항목 (종료 시 시작하지 못한 작업 ID 확인용)
+     */
+    private class JobTask implements Runnable {
+
+        private final String jobId;
+        private final SnsContentCreateRequest request;
+
+        JobTask(String jobId, SnsContentCreateRequest request) {
+            this.jobId = jobId;
+            this.request = request;
+        }
+
+        @Override
+        public void run() {
+            SnsContentJobRunner.this.run(jobId, request);
+        }
+    }
+}
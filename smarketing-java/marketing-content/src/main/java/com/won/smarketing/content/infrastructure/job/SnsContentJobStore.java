@@ -0,0 +1,142 @@
+package com.won.smarketing.content.infrastructure.job;
+
+import com.won.smarketing.content.domain.model.SnsContentJob;
+import com.won.smarketing.content.domain.model.SnsContentJobStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SNS 콘텐츠 생성 작업 상태 저장소 (Redis Hash)
+ * 어느 인스턴스에서든 결과를 조회할 수 있도록 공유 저장소에 두며, 결과는 설정된 보관 기간 이후 만료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SnsContentJobStore {
+
+    private static final String KEY_PREFIX = "sns-content:job:";
+
+    /**
+     * 작업이 남아 있을 때만 필드 갱신 (1: 갱신, 0: 만료/없음)
+     * 확인과 쓰기 사이에 키가 만료되면 TTL 없는 불완전한 해시가 남으므로 한 번에 수행
+     */
+    private static final DefaultRedisScript<Long> UPDATE_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('hset', KEYS[1], unpack(ARGV)) return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${sns-content.job.result-ttl:3600000}")
+    private long resultTtl;
+
+    /**
+     * 작업 최초 등록 (PROCESSING)
+     */
+    public void create(SnsContentJob job) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("jobId", job.getJobId());
+        fields.put("userId", job.getUserId());
+        fields.put("status", SnsContentJobStatus.PROCESSING.name());
+        fields.put("requestedAt", job.getRequestedAt().toString());
+        if (job.getStoreId() != null) {
+            fields.put("storeId", String.valueOf(job.getStoreId()));
+        }
+
+        String key = key(job.getJobId());
+        stringRedisTemplate.opsForHash().putAll(key, fields);
+        stringRedisTemplate.expire(key, Duration.ofMillis(resultTtl));
+    }
+
+    /**
+     * 완료 처리
+     */
+    public void markCompleted(String jobId, String content) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", SnsContentJobStatus.COMPLETED.name());
+        fields.put("content", content != null ? content : "");
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(jobId, fields);
+    }
+
+    /**
+     * 실패 처리
+     */
+    public void markFailed(String jobId, String errorMessage) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("status", SnsContentJobStatus.FAILED.name());
+        fields.put("errorMessage", errorMessage != null ? errorMessage : "알 수 없는 오류");
+        fields.put("completedAt", LocalDateTime.now().toString());
+        update(jobId, fields);
+    }
+
+    /**
+     * 등록 취소 (작업 대기열에 넣지 못한 경우)
+     */
+    public void delete(String jobId) {
+        stringRedisTemplate.delete(key(jobId));
+    }
+
+    /**
+     * 작업 조회
+     */
+    public Optional<SnsContentJob> find(String jobId) {
+        Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(key(jobId));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String storeId = asString(fields, "storeId");
+        return Optional.of(SnsContentJob.builder()
+                .jobId(jobId)
+                .userId(asString(fields, "userId"))
+                .storeId(storeId != null ? Long.valueOf(storeId) : null)
+                .status(SnsContentJobStatus.valueOf(asString(fields, "status")))
+                .content(asString(fields, "content"))
+                .errorMessage(asString(fields, "errorMessage"))
+                .requestedAt(asDateTime(fields, "requestedAt"))
+                .completedAt(asDateTime(fields, "completedAt"))
+                .build());
+    }
+
+    private void update(String jobId, Map<String, String> fields) {
+        List<String> args = new ArrayList<>(fields.size() * 2);
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        Long updated = stringRedisTemplate.execute(UPDATE_IF_EXISTS_SCRIPT,
+                Collections.singletonList(key(jobId)), args.toArray());
+        if (updated == null || updated == 0L) {
+            log.warn("만료되었거나 존재하지 않는 SNS 콘텐츠 생성 작업: jobId={}", jobId);
+        }
+    }
+
+    private String key(String jobId) {
+        return KEY_PREFIX + jobId;
+    }
+
+    private String asString(Map<Object, Object> fields, String name) {
+        Object value = fields.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private LocalDateTime asDateTime(Map<Object, Object> fields, String name) {
+        String value = asString(fields, name);
+        return value != null ? LocalDateTime.parse(value) : null;
+    }
+}
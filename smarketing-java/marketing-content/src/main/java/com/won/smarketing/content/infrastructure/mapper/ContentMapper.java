@@ -4,12 +4,10 @@ package com.won.smarketing.content.infrastructure.mapper;
 import com.won.smarketing.content.domain.model.*;
 import com.won.smarketing.content.infrastructure.entity.ContentConditionsJpaEntity;
 import com.won.smarketing.content.infrastructure.entity.ContentJpaEntity;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,12 +19,9 @@ import java.util.List;
  * @version 1.0
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class ContentMapper {
 
-    private final ObjectMapper objectMapper;
-
     /**
      * 도메인 모델을 JPA 엔티티로 변환
      *
@@ -55,9 +50,9 @@ public class ContentMapper {
         entity.setCreatedAt(content.getCreatedAt());
         entity.setUpdatedAt(content.getUpdatedAt());
 
-        // 컬렉션 필드를 JSON으로 변환
-        entity.setHashtags(convertListToJson(content.getHashtags()));
-        entity.setImages(convertListToJson(content.getImages()));
+        // 컬렉션 필드는 text[] 컬럼에 그대로 저장
+        entity.setHashtags(toColumnValue(content.getHashtags()));
+        entity.setImages(toColumnValue(content.getImages()));
 
         // 생성 조건 정보 매핑
         if (content.getCreationConditions() != null) {
@@ -87,8 +82,8 @@ public class ContentMapper {
                 .platform(parsePlatform(entity.getPlatform()))
                 .title(entity.getTitle())
                 .content(entity.getContent())
-                .hashtags(convertJsonToList(entity.getHashtags()))
-                .images(convertJsonToList(entity.getImages()))
+                .hashtags(toDomainList(entity.getHashtags()))
+                .images(toDomainList(entity.getImages()))
                 .status(parseContentStatus(entity.getStatus()))
                 .promotionStartDate(entity.getPromotionStartDate())
                 .promotionEndDate(entity.getPromotionEndDate())
@@ -137,33 +132,24 @@ public class ContentMapper {
     }
 
     /**
-     * List를 JSON 문자열로 변환
+     * 컬렉션 필드를 text[] 컬럼 값으로 변환 (빈 목록은 NULL로 저장)
      */
-    private String convertListToJson(List<String> list) {
+    private List<String> toColumnValue(List<String> list) {
         if (list == null || list.isEmpty()) {
             return null;
         }
-        try {
-            return objectMapper.writeValueAsString(list);
-        } catch (Exception e) {
-            log.warn("Failed to convert list to JSON: {}", e.getMessage());
-            return null;
-        }
+        return new ArrayList<>(list);
     }
 
     /**
-     * JSON 문자열을 List로 변환
+     * text[] 컬럼 값을 도메인 컬렉션으로 변환
+     * 엔티티가 관리하는 목록을 도메인에서 수정하지 않도록 복사
      */
-    private List<String> convertJsonToList(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return Collections.emptyList();
-        }
-        try {
-            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            log.warn("Failed to convert JSON to list: {}", e.getMessage());
+    private List<String> toDomainList(List<String> values) {
+        if (values == null || values.isEmpty()) {
             return Collections.emptyList();
         }
+        return new ArrayList<>(values);
     }
 
     /**
@@ -15,10 +15,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -52,6 +54,55 @@ public class ContentController {
         return ResponseEntity.ok(ApiResponse.success(response, "SNS 콘텐츠가 성공적으로 생성되었습니다."));
     }
 
+    /**
+     * SNS 게시물 스트리밍 생성
+     *
+     * @return 진행 상황(status), 생성 조각(chunk), 최종 콘텐츠(complete) 이벤트 스트림
+     */
+    @Operation(summary = "SNS 게시물 스트리밍 생성",
+            description = "AI가 생성하는 SNS 게시물을 Server-Sent Events로 전달합니다. 최종 콘텐츠는 SNS 게시물 저장 API로 저장합니다.")
+    @PostMapping(path = "/sns/generate/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE,
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<SnsContentStreamEvent>> streamSnsContent(@Valid @RequestPart("request") String requestJson,
+                                                                         @Valid @RequestPart(name = "files", required = false) List<MultipartFile> images) throws JsonProcessingException {
+        SnsContentCreateRequest request = objectMapper.readValue(requestJson, SnsContentCreateRequest.class);
+        return snsContentUseCase.streamSnsContent(request, images)
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType())
+                        .build());
+    }
+
+    /**
+     * SNS 게시물 생성 작업 등록
+     *
+     * @return 등록된 작업 ID와 상태
+     */
+    @Operation(summary = "SNS 게시물 생성 작업 등록",
+            description = "SNS 게시물 생성을 작업으로 등록하고 작업 ID를 즉시 반환합니다. 결과는 작업 조회 API로 확인합니다.")
+    @PostMapping(path = "/sns/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<SnsContentJobResponse>> submitSnsContentJob(@Valid @RequestPart("request") String requestJson,
+                                                                                 @Valid @RequestPart(name = "files", required = false) List<MultipartFile> images) throws JsonProcessingException {
+        SnsContentCreateRequest request = objectMapper.readValue(requestJson, SnsContentCreateRequest.class);
+        SnsContentJobResponse response = snsContentUseCase.submitSnsContentJob(request, images);
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "SNS 콘텐츠 생성 작업이 등록되었습니다."));
+    }
+
+    /**
+     * SNS 게시물 생성 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성된 콘텐츠
+     */
+    @Operation(summary = "SNS 게시물 생성 작업 조회",
+            description = "작업 상태(PROCESSING, COMPLETED, FAILED)와 완료된 SNS 게시물을 조회합니다. 결과는 일정 시간 후 만료됩니다.")
+    @GetMapping("/sns/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<SnsContentJobResponse>> getSnsContentJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+        SnsContentJobResponse response = snsContentUseCase.getSnsContentJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * SNS 게시물 저장
      * 
@@ -85,6 +136,60 @@ public class ContentController {
         return ResponseEntity.ok(ApiResponse.success(response, "포스터 콘텐츠가 성공적으로 생성되었습니다."));
     }
 
+    /**
+     * 홍보 포스터 생성 작업 등록
+     *
+     * @param retryOf 다시 요청하는 이전 작업 ID
+     * @return 등록된 작업 ID와 상태
+     */
+    @Operation(summary = "홍보 포스터 생성 작업 등록",
+            description = "포스터 생성을 작업 대기열에 등록하고 작업 ID를 즉시 반환합니다. 실패하거나 취소된 이전 작업을 다시 요청(retryOf)하면 작업당 한 번 먼저 처리됩니다.")
+    @PostMapping(value = "/poster/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<PosterJobResponse>> submitPosterJob(
+            @Parameter(content = @Content(mediaType = MediaType.MULTIPART_FORM_DATA_VALUE))
+            @RequestPart(value = "images", required = false) List<MultipartFile> images,
+            @RequestPart("request") String requestJson,
+            @Parameter(description = "다시 요청하는 이전 작업 ID")
+            @RequestParam(value = "retryOf", required = false) String retryOf) throws JsonProcessingException {
+
+        PosterContentCreateRequest request = objectMapper.readValue(requestJson, PosterContentCreateRequest.class);
+
+        PosterJobResponse response = posterContentUseCase.submitPosterJob(images, request, retryOf);
+        return ResponseEntity.accepted().body(ApiResponse.success(response, "포스터 생성 작업이 등록되었습니다."));
+    }
+
+    /**
+     * 홍보 포스터 생성 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태와 생성된 포스터
+     */
+    @Operation(summary = "홍보 포스터 생성 작업 조회",
+            description = "작업 상태(QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED)와 완료된 포스터를 조회합니다. 결과는 일정 시간 후 만료됩니다.")
+    @GetMapping("/poster/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<PosterJobResponse>> getPosterJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+        PosterJobResponse response = posterContentUseCase.getPosterJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 홍보 포스터 생성 작업 취소
+     *
+     * @param jobId 작업 ID
+     * @return 취소 후 작업 상태
+     */
+    @Operation(summary = "홍보 포스터 생성 작업 취소",
+            description = "대기 중인 작업은 대기열에서 제거하고, 생성 중인 작업은 중단합니다. 이미 끝난 작업은 현재 상태를 반환합니다.")
+    @DeleteMapping("/poster/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<PosterJobResponse>> cancelPosterJob(
+            @Parameter(description = "작업 ID", required = true)
+            @PathVariable String jobId) {
+        PosterJobResponse response = posterContentUseCase.cancelPosterJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response, "포스터 생성 작업이 취소되었습니다."));
+    }
+
     /**
      * 홍보 포스터 저장
      *
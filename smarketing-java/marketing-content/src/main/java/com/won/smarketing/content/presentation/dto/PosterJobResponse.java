@@ -0,0 +1,44 @@
+package com.won.smarketing.content.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포스터 생성 작업 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "포스터 생성 작업 응답")
+public class PosterJobResponse {
+
+    @Schema(description = "작업 ID", example = "8a6e0f1b-2c3d-4e5f-9a7b-1c2d3e4f5a6b")
+    private String jobId;
+
+    @Schema(description = "처리 상태 (QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED)", example = "QUEUED")
+    private String status;
+
+    @Schema(description = "우선순위 (RETRY, FIRST_ATTEMPT)", example = "FIRST_ATTEMPT")
+    private String lane;
+
+    @Schema(description = "생성된 포스터 (COMPLETED 상태일 때만 포함)")
+    private PosterContentCreateResponse poster;
+
+    @Schema(description = "실패 사유", example = "AI 서비스를 사용할 수 없습니다.")
+    private String errorMessage;
+
+    @Schema(description = "요청 시간", example = "2025-06-13T14:30:00")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "생성 시작 시간", example = "2025-06-13T14:30:05")
+    private LocalDateTime startedAt;
+
+    @Schema(description = "처리 완료 시간", example = "2025-06-13T14:32:40")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,38 @@
+package com.won.smarketing.content.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * SNS 콘텐츠 생성 작업 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "SNS 콘텐츠 생성 작업 응답")
+public class SnsContentJobResponse {
+
+    @Schema(description = "작업 ID", example = "3f1c2a9e-5b7d-4e8a-9c1f-2d3e4f5a6b7c")
+    private String jobId;
+
+    @Schema(description = "처리 상태 (PROCESSING, COMPLETED, FAILED)", example = "PROCESSING")
+    private String status;
+
+    @Schema(description = "생성된 콘텐츠 (COMPLETED 상태일 때만 포함)")
+    private String content;
+
+    @Schema(description = "실패 사유", example = "AI 서비스를 사용할 수 없습니다.")
+    private String errorMessage;
+
+    @Schema(description = "요청 시간", example = "2025-06-13T14:30:00")
+    private LocalDateTime requestedAt;
+
+    @Schema(description = "처리 완료 시간", example = "2025-06-13T14:31:20")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,56 @@
+package com.won.smarketing.content.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * SNS 콘텐츠 스트리밍 이벤트 DTO
+ *
+ * status: 진행 상황, chunk: 생성 중인 원문 조각,
+ * complete: 후처리와 HTML 포맷팅이 끝난 최종 콘텐츠, error: 생성 실패
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "SNS 콘텐츠 스트리밍 이벤트")
+public class SnsContentStreamEvent {
+
+    public static final String STATUS = "status";
+    public static final String CHUNK = "chunk";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    @Schema(description = "이벤트 종류 (status, chunk, complete, error)", example = "chunk")
+    private String type;
+
+    @Schema(description = "진행 상황 또는 실패 사유 (status, error)", example = "콘텐츠를 작성하고 있습니다.")
+    private String message;
+
+    @Schema(description = "생성 중인 원문 조각 (chunk)")
+    private String text;
+
+    @Schema(description = "최종 생성된 콘텐츠 (complete)")
+    private String content;
+
+    public static SnsContentStreamEvent status(String message) {
+        return SnsContentStreamEvent.builder().type(STATUS).message(message).build();
+    }
+
+    public static SnsContentStreamEvent chunk(String text) {
+        return SnsContentStreamEvent.builder().type(CHUNK).text(text).build();
+    }
+
+    public static SnsContentStreamEvent complete(String content) {
+        return SnsContentStreamEvent.builder().type(COMPLETE).content(content).build();
+    }
+
+    public static SnsContentStreamEvent error(String message) {
+        return SnsContentStreamEvent.builder().type(ERROR).message(message).build();
+    }
+}
@@ -0,0 +1,38 @@
+-- 콘텐츠 해시태그/이미지 컬럼 배열 전환 마이그레이션 (PostgreSQL)
+-- JSON 문자열(TEXT)로 저장하던 contents.hashtags, contents.images를 text[]로 변환
+-- JPA_DDL_AUTO가 create/create-drop이 아닌 운영 DB에서 애플리케이션 배포 전에 한 번 실행
+-- (ddl-auto=update는 기존 컬럼의 타입을 바꾸지 않음)
+
+BEGIN;
+
+-- ALTER COLUMN ... USING 식에는 서브쿼리를 쓸 수 없으므로 세션 임시 함수로 변환
+-- 비어 있거나, JSON이 아니거나, JSON 배열이 아닌 값은 NULL로 저장 (애플리케이션에서는 빈 목록으로 조회됨)
+CREATE FUNCTION pg_temp.json_text_to_array(value TEXT) RETURNS TEXT[]
+    LANGUAGE plpgsql IMMUTABLE AS $$
+DECLARE
+    parsed JSONB;
+BEGIN
+    IF value IS NULL OR btrim(value) = '' THEN
+        RETURN NULL;
+    END IF;
+
+    BEGIN
+        parsed := value::jsonb;
+    EXCEPTION WHEN others THEN
+        -- 기존 변환기와 같이 잘못된 JSON은 건너뜀
+        RAISE NOTICE 'JSON이 아닌 값을 NULL로 변환: %', left(value, 100);
+        RETURN NULL;
+    END;
+
+    IF jsonb_typeof(parsed) <> 'array' THEN
+        RETURN NULL;
+    END IF;
+    RETURN ARRAY(SELECT jsonb_array_elements_text(parsed));
+END
+$$;
+
+ALTER TABLE contents
+    ALTER COLUMN hashtags TYPE TEXT[] USING pg_temp.json_text_to_array(hashtags),
+    ALTER COLUMN images TYPE TEXT[] USING pg_temp.json_text_to_array(images);
+
+COMMIT;
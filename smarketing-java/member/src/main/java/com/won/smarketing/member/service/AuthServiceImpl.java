@@ -1,5 +1,6 @@
 package com.won.smarketing.member.service;
 
+import com.won.smarketing.common.activity.ActiveUserRegistry;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
 import com.won.smarketing.common.security.JwtTokenProvider;
@@ -31,6 +32,7 @@ public class AuthServiceImpl implements AuthService {
         private final PasswordEncoder passwordEncoder;
         private final JwtTokenProvider jwtTokenProvider;
         private final RedisTemplate<String, String> redisTemplate;
+        private final ActiveUserRegistry activeUserRegistry;
 
         private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
         private static final String BLACKLIST_PREFIX = "blacklist:";
@@ -72,6 +74,9 @@ public class AuthServiceImpl implements AuthService {
                         TimeUnit.DAYS
                 );
 
+                // 최근 활동 사용자 기록 (AI 추천 서비스의 마케팅 팁 사전 생성 대상)
+                activeUserRegistry.recordLogin(member.getUserId());
+
                 log.info("로그인 성공: {}", request.getUserId());
 
                 return LoginResponse.builder()
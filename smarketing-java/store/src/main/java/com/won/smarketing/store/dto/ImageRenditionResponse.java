@@ -0,0 +1,42 @@
+package com.won.smarketing.store.dto;
+
+import com.won.smarketing.store.entity.ImageRenditions;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 변환본 응답 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "이미지 변환본 URL")
+public class ImageRenditionResponse {
+
+    @Schema(description = "썸네일 (긴 변 320px)", example = "https://example.com/{sha256}_thumb.webp")
+    private String thumbnail;
+
+    @Schema(description = "표시용 (긴 변 1280px)", example = "https://example.com/{sha256}_display.webp")
+    private String display;
+
+    @Schema(description = "AI 입력용 (긴 변 1024px)", example = "https://example.com/{sha256}_ai.webp")
+    private String aiInput;
+
+    /**
+     * 변환본이 없는 이미지(변환본 도입 전 업로드)는 null
+     */
+    public static ImageRenditionResponse from(ImageRenditions renditions) {
+        if (renditions == null || renditions.urls().isEmpty()) {
+            return null;
+        }
+        return ImageRenditionResponse.builder()
+                .thumbnail(renditions.getThumbnailUrl())
+                .display(renditions.getDisplayUrl())
+                .aiInput(renditions.getAiInputUrl())
+                .build();
+    }
+}
@@ -39,6 +39,9 @@ public class MenuResponse {
     
     @Schema(description = "이미지 URL", example = "https://example.com/americano.jpg")
     private String image;
+
+    @Schema(description = "이미지 변환본 URL (썸네일, 표시용, AI 입력용)")
+    private ImageRenditionResponse imageRenditions;
     
     @Schema(description = "등록일시", example = "2024-01-15T10:30:00")
     private LocalDateTime createdAt;
@@ -32,6 +32,9 @@ public class StoreResponse {
     @Schema(description = "가게 사진")
     private String storeImage;
 
+    @Schema(description = "가게 사진 변환본 URL (썸네일, 표시용, AI 입력용)")
+    private ImageRenditionResponse storeImageRenditions;
+
     @Schema(description = "주소", example = "서울시 강남구 테헤란로 123")
     private String address;
 
@@ -0,0 +1,53 @@
+package com.won.smarketing.store.entity;
+
+import com.won.smarketing.common.image.ImageRendition;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 이미지 변환본 URL (썸네일, 표시용, AI 입력용)
+ * 변환본 도입 전에 올린 이미지는 모두 null
+ */
+@Embeddable
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class ImageRenditions {
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "display_url", length = 500)
+    private String displayUrl;
+
+    @Column(name = "ai_input_url", length = 500)
+    private String aiInputUrl;
+
+    public static ImageRenditions from(Map<ImageRendition, String> urls) {
+        return ImageRenditions.builder()
+                .thumbnailUrl(urls.get(ImageRendition.THUMBNAIL))
+                .displayUrl(urls.get(ImageRendition.DISPLAY))
+                .aiInputUrl(urls.get(ImageRendition.AI_INPUT))
+                .build();
+    }
+
+    /**
+     * 저장된 변환본 URL 목록 (이미지 교체 시 삭제용)
+     */
+    public List<String> urls() {
+        return Stream.of(thumbnailUrl, displayUrl, aiInputUrl)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -47,6 +47,14 @@ public class Menu {
     @Column(name = "image_url", length = 500)
     private String image;
 
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "thumbnailUrl", column = @Column(name = "image_thumbnail_url", length = 500)),
+            @AttributeOverride(name = "displayUrl", column = @Column(name = "image_display_url", length = 500)),
+            @AttributeOverride(name = "aiInputUrl", column = @Column(name = "image_ai_input_url", length = 500))
+    })
+    private ImageRenditions imageRenditions;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -81,9 +89,11 @@ public class Menu {
      * 메뉴 이미지 URL 업데이트
      *
      * @param imageUrl 새로운 이미지 URL
+     * @param imageRenditions 새로운 이미지 변환본 URL
      */
-    public void updateImage(String imageUrl) {
+    public void updateImage(String imageUrl, ImageRenditions imageRenditions) {
         this.image = imageUrl;
+        this.imageRenditions = imageRenditions;
         this.updatedAt = LocalDateTime.now();
     }
 
@@ -66,6 +66,14 @@ public class Store {
     @Column(name = "store_image", length = 1000)
     private String storeImage;
 
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "thumbnailUrl", column = @Column(name = "store_image_thumbnail_url", length = 500)),
+            @AttributeOverride(name = "displayUrl", column = @Column(name = "store_image_display_url", length = 500)),
+            @AttributeOverride(name = "aiInputUrl", column = @Column(name = "store_image_ai_input_url", length = 500))
+    })
+    private ImageRenditions imageRenditions;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -113,9 +121,11 @@ public class Store {
      * 메뉴 이미지 URL 업데이트
      *
      * @param imageUrl 새로운 이미지 URL
+     * @param imageRenditions 새로운 이미지 변환본 URL
      */
-    public void updateImage(String imageUrl) {
+    public void updateImage(String imageUrl, ImageRenditions imageRenditions) {
         this.storeImage = imageUrl;
+        this.imageRenditions = imageRenditions;
         this.updatedAt = LocalDateTime.now();
     }
 }
@@ -0,0 +1,44 @@
+package com.won.smarketing.store.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.won.smarketing.common.event.StoreChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 매장/메뉴 변경 이벤트 발행자
+ * 트랜잭션 커밋 이후에 Redis Pub/Sub으로 전달하여 구독 측이 커밋 전 데이터를 다시 캐시하지 않도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreChangedEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 변경 이벤트 등록 (커밋 후 발행)
+     */
+    public void publish(StoreChangedEvent.ChangeType changeType, Long storeId, String userId) {
+        applicationEventPublisher.publishEvent(StoreChangedEvent.of(changeType, storeId, userId));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void relay(StoreChangedEvent event) {
+        try {
+            redisTemplate.convertAndSend(StoreChangedEvent.CHANNEL, objectMapper.writeValueAsString(event));
+            log.info("매장 변경 이벤트 발행: type={}, storeId={}, userId={}",
+                    event.getChangeType(), event.getStoreId(), event.getUserId());
+        } catch (Exception e) {
+            // 발행 실패 시 구독 측 캐시는 TTL 만료로 정리됨
+            log.warn("매장 변경 이벤트 발행 실패: storeId={}, error={}", event.getStoreId(), e.getMessage());
+        }
+    }
+}
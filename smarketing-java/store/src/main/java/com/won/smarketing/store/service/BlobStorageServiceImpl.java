@@ -2,17 +2,29 @@
 package com.won.smarketing.store.service;
 
 import com.azure.core.util.BinaryData;
+import com.azure.core.util.Context;
 import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.models.BlobHttpHeaders;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.azure.storage.blob.models.PublicAccessType;
+import com.azure.storage.blob.options.BlobParallelUploadOptions;
+import com.won.smarketing.common.event.StoreChangedEvent;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.common.image.ImageRendition;
+import com.won.smarketing.common.image.ImageRenditionProcessor;
+import com.won.smarketing.common.image.RenditionImage;
+import com.won.smarketing.common.storage.BlobDigestIndex;
+import com.won.smarketing.common.storage.ContentDigest;
+import com.won.smarketing.store.dto.ImageRenditionResponse;
 import com.won.smarketing.store.dto.MenuResponse;
 import com.won.smarketing.store.dto.StoreResponse;
+import com.won.smarketing.store.entity.ImageRenditions;
 import com.won.smarketing.store.entity.Menu;
 import com.won.smarketing.store.entity.Store;
+import com.won.smarketing.store.event.StoreChangedEventPublisher;
 import com.won.smarketing.store.repository.MenuRepository;
 import com.won.smarketing.store.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,11 +34,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Azure Blob Storage 서비스 구현체
@@ -40,6 +53,9 @@ public class BlobStorageServiceImpl implements BlobStorageService {
     private final BlobServiceClient blobServiceClient;
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
+    private final StoreChangedEventPublisher storeChangedEventPublisher;
+    private final ImageRenditionProcessor imageRenditionProcessor;
+    private final BlobDigestIndex blobDigestIndex;
 
     @Value("${azure.storage.container.menu-images:menu-images}")
     private String menuImageContainer;
@@ -50,6 +66,12 @@ public class BlobStorageServiceImpl implements BlobStorageService {
     @Value("${azure.storage.max-file-size:10485760}") // 10MB
     private long maxFileSize;
 
+    @Value("${azure.storage.upload.block-size:4194304}") // 4MB
+    private long uploadBlockSize;
+
+    // 블록 분할 전송 시 한 파일에 동시에 올리는 블록 수
+    private static final int BLOCK_CONCURRENCY = 2;
+
     // 허용되는 이미지 확장자
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList(
             "jpg", "jpeg", "png", "gif", "bmp", "webp"
@@ -79,20 +101,30 @@ public class BlobStorageServiceImpl implements BlobStorageService {
 
             // Blob 클라이언트 생성
             BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
-            BlobClient blobClient = containerClient.getBlobClient(fileName);
 
-            // 파일 업로드 (간단한 방식)
-            BinaryData binaryData = BinaryData.fromBytes(file.getBytes());
+            // 내용 기반 파일명이면 이미 저장된 같은 파일을 그대로 사용 (전송 생략)
+            Optional<String> existingUrl = findExisting(containerClient, fileName);
+            if (existingUrl.isPresent()) {
+                log.info("동일 이미지 재사용: {}", existingUrl.get());
+                return existingUrl.get();
+            }
 
-            // 파일 업로드 실행 (덮어쓰기 허용)
-            blobClient.upload(binaryData, true);
+            BlobClient blobClient = containerClient.getBlobClient(fileName);
 
-            // Content-Type 설정
-            BlobHttpHeaders headers = new BlobHttpHeaders().setContentType(file.getContentType());
-            blobClient.setHttpHeaders(headers);
+            // 파일을 메모리에 복사하지 않고 스트림으로 업로드 (Content-Type을 업로드 요청에 함께 지정, 덮어쓰기 허용)
+            try (InputStream inputStream = file.getInputStream()) {
+                BlobParallelUploadOptions options = new BlobParallelUploadOptions(inputStream)
+                        .setHeaders(new BlobHttpHeaders().setContentType(file.getContentType()))
+                        .setParallelTransferOptions(new ParallelTransferOptions()
+                                .setBlockSizeLong(uploadBlockSize)
+                                .setMaxSingleUploadSizeLong(uploadBlockSize)
+                                .setMaxConcurrency(BLOCK_CONCURRENCY));
+                blobClient.uploadWithResponse(options, null, Context.NONE);
+            }
 
             String fileUrl = blobClient.getBlobUrl();
             log.info("이미지 업로드 성공: {}", fileUrl);
+            recordIfContentAddressed(containerName, fileName, fileUrl);
 
             return fileUrl;
 
@@ -113,23 +145,26 @@ public class BlobStorageServiceImpl implements BlobStorageService {
      */
     @Override
     public MenuResponse uploadMenuImage(MultipartFile file, Long menuId) {
-        String fileName = generateMenuImageFileName(file.getOriginalFilename());
+        String fileName = contentAddressedFileName(file);
 
         //메뉴id로 데이터를 찾아서
         Menu menu = menuRepository.findById(menuId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MENU_NOT_FOUND));
 
-        // 기존 이미지가 있다면 삭제
-        if (menu.getImage() != null && !menu.getImage().isEmpty()) {
-            deleteFile(menu.getImage());
-        }
+        String previousImage = menu.getImage();
+        ImageRenditions previousRenditions = menu.getImageRenditions();
 
-        //새로 올리고
+        //새로 올리고 변환본 생성 (실패하면 기존 이미지를 그대로 유지)
         String fileUrl = uploadImage(file, menuImageContainer, fileName);
+        ImageRenditions renditions = uploadRenditionsOrSkip(file, menuImageContainer, fileName);
 
         //메뉴에 다시 저장
-        menu.updateImage(fileUrl);
+        menu.updateImage(fileUrl, renditions);
         menuRepository.save(menu);
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.MENU_IMAGE_UPDATED, menu.getStoreId(), null);
+
+        // 새 이미지로 교체한 뒤 기존 이미지 삭제
+        deleteReplacedImage(previousImage, previousRenditions);
 
         return MenuResponse.builder()
                 .menuId(menu.getMenuId())
@@ -137,6 +172,7 @@ public class BlobStorageServiceImpl implements BlobStorageService {
                 .category(menu.getCategory())
                 .price(menu.getPrice())
                 .image(fileUrl)
+                .imageRenditions(ImageRenditionResponse.from(renditions))
                 .description(menu.getDescription())
                 .createdAt(menu.getCreatedAt())
                 .updatedAt(menu.getUpdatedAt())
@@ -152,20 +188,24 @@ public class BlobStorageServiceImpl implements BlobStorageService {
      */
     @Override
     public StoreResponse uploadStoreImage(MultipartFile file, Long storeId) {
-        String fileName = generateStoreImageFileName(storeId, file.getOriginalFilename());
+        String fileName = contentAddressedFileName(file);
 
         Store store = storeRepository.findById(storeId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STORE_NOT_FOUND));
 
-        // 기존 이미지가 있다면 삭제
-        if (store.getStoreImage() != null && !store.getStoreImage().isEmpty()) {
-            deleteFile(store.getStoreImage());
-        }
-        //새로 올리고
+        String previousImage = store.getStoreImage();
+        ImageRenditions previousRenditions = store.getImageRenditions();
+
+        //새로 올리고 변환본 생성 (실패하면 기존 이미지를 그대로 유지)
         String fileUrl = uploadImage(file, storeImageContainer, fileName);
+        ImageRenditions renditions = uploadRenditionsOrSkip(file, storeImageContainer, fileName);
 
-        store.updateImage(fileUrl);
+        store.updateImage(fileUrl, renditions);
         storeRepository.save(store);
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.STORE_IMAGE_UPDATED, store.getId(), store.getUserId());
+
+        // 새 이미지로 교체한 뒤 기존 이미지 삭제
+        deleteReplacedImage(previousImage, previousRenditions);
 
         return StoreResponse.builder()
                 .storeId(store.getId())
@@ -179,12 +219,127 @@ public class BlobStorageServiceImpl implements BlobStorageService {
                 .blogAccounts(store.getBlogAccounts())
                 .instaAccounts(store.getInstaAccounts())
                 .storeImage(fileUrl)
+                .storeImageRenditions(ImageRenditionResponse.from(renditions))
                 .description(store.getDescription())
                 .createdAt(store.getCreatedAt())
                 .updatedAt(store.getUpdatedAt())
                 .build();
     }
 
+    /**
+     * 이미지 변환본 생성 및 업로드 (실패하면 변환본 없이 원본만 사용)
+     * CMYK JPEG처럼 디코딩할 수 없거나 해상도가 제한을 넘는 이미지도 원본 업로드는 허용하고, 화면은 원본 URL로 표시
+     *
+     * @return 변환본 URL (생성하지 못하면 null)
+     */
+    private ImageRenditions uploadRenditionsOrSkip(MultipartFile file, String containerName, String fileName) {
+        try {
+            return uploadRenditions(file, containerName, fileName);
+        } catch (BusinessException e) {
+            log.warn("이미지 변환본 생성 실패, 원본만 저장: fileName={}, errorCode={}", fileName, e.getErrorCode());
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("이미지 변환본 생성 실패, 원본만 저장: fileName={}, error={}", fileName, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이미지 변환본(썸네일, 표시용, AI 입력용) 생성 및 업로드
+     * 원본을 한 번 디코딩하여 변환본별 축소/인코딩/업로드를 동시에 수행
+     *
+     * @param file 원본 파일 (업로드 전 유효성 검증 완료)
+     * @param containerName 컨테이너 이름
+     * @param fileName 원본 파일명 (변환본은 원본 파일명에 접미사를 붙여 저장)
+     * @return 변환본 URL
+     */
+    private ImageRenditions uploadRenditions(MultipartFile file, String containerName, String fileName) {
+        BlobContainerClient containerClient = blobServiceClient.getBlobContainerClient(containerName);
+
+        // 같은 원본의 변환본이 모두 있으면 디코딩 없이 재사용
+        Map<ImageRendition, String> existingUrls = new EnumMap<>(ImageRendition.class);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            findExisting(containerClient, renditionFileName(fileName, rendition, imageRenditionProcessor.extension()))
+                    .ifPresent(url -> existingUrls.put(rendition, url));
+        }
+        if (existingUrls.size() == ImageRendition.values().length) {
+            return ImageRenditions.from(existingUrls);
+        }
+
+        try (InputStream source = file.getInputStream()) {
+            return ImageRenditions.from(imageRenditionProcessor.process(source, image -> uploadRendition(containerClient,
+                    renditionFileName(fileName, image.getRendition(), image.getExtension()), image)));
+        } catch (IOException e) {
+            log.error("이미지 변환본 생성 실패 - 파일 읽기 오류: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 변환본 업로드 (Content-Type을 업로드 요청에 함께 지정, 덮어쓰기 허용)
+     */
+    private String uploadRendition(BlobContainerClient containerClient, String fileName, RenditionImage image) {
+        BlobClient blobClient = containerClient.getBlobClient(fileName);
+        BlobParallelUploadOptions options = new BlobParallelUploadOptions(BinaryData.fromBytes(image.getData()))
+                .setHeaders(new BlobHttpHeaders().setContentType(image.getContentType()));
+        blobClient.uploadWithResponse(options, null, Context.NONE);
+
+        log.debug("이미지 변환본 업로드 성공: rendition={}, size={}x{}, bytes={}",
+                image.getRendition(), image.getWidth(), image.getHeight(), image.getData().length);
+        recordIfContentAddressed(containerClient.getBlobContainerName(), fileName, blobClient.getBlobUrl());
+        return blobClient.getBlobUrl();
+    }
+
+    /**
+     * 이미 저장된 내용 기반 파일 URL 조회 (색인 → 스토리지 존재 확인 순)
+     * 내용 기반 파일명이 아니면 항상 새로 올림
+     */
+    private Optional<String> findExisting(BlobContainerClient containerClient, String fileName) {
+        if (!ContentDigest.isContentAddressed(fileName)) {
+            return Optional.empty();
+        }
+
+        String containerName = containerClient.getBlobContainerName();
+        Optional<String> indexed = blobDigestIndex.find(containerName, fileName);
+        if (indexed.isPresent()) {
+            return indexed;
+        }
+
+        BlobClient blobClient = containerClient.getBlobClient(fileName);
+        if (!blobClient.exists()) {
+            return Optional.empty();
+        }
+        blobDigestIndex.record(containerName, fileName, blobClient.getBlobUrl());
+        return Optional.of(blobClient.getBlobUrl());
+    }
+
+    private void recordIfContentAddressed(String containerName, String fileName, String fileUrl) {
+        if (ContentDigest.isContentAddressed(fileName)) {
+            blobDigestIndex.record(containerName, fileName, fileUrl);
+        }
+    }
+
+    /**
+     * 교체된 기존 이미지와 변환본 삭제 (다른 메뉴/매장/콘텐츠와 공유하는 내용 기반 파일은 유지)
+     */
+    private void deleteReplacedImage(String previousImage, ImageRenditions previousRenditions) {
+        if (previousImage != null && !previousImage.isEmpty() && !ContentDigest.isContentAddressed(previousImage)) {
+            deleteFile(previousImage);
+        }
+        deleteRenditions(previousRenditions);
+    }
+
+    /**
+     * 기존 변환본 삭제
+     */
+    private void deleteRenditions(ImageRenditions renditions) {
+        if (renditions != null) {
+            renditions.urls().stream()
+                    .filter(url -> !ContentDigest.isContentAddressed(url))
+                    .forEach(this::deleteFile);
+        }
+    }
+
     /**
      * 파일 삭제
      *
@@ -270,32 +425,34 @@ public class BlobStorageServiceImpl implements BlobStorageService {
     }
 
     /**
-     * 메뉴 이미지 파일명 생성
+     * 내용 기반 파일명 생성 (SHA-256 + 확장자)
+     * 같은 사진은 항상 같은 이름이 되어 다시 올릴 때 전송을 생략할 수 있음
      *
-     * @param originalFilename 원본 파일명
+     * @param file 업로드할 파일
      * @return 생성된 파일명
      */
-    private String generateMenuImageFileName(String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-
-        return String.format("menu_%s_%s.%s", timestamp, uuid, extension);
+    private String contentAddressedFileName(MultipartFile file) {
+        validateImageFile(file);
+        try (InputStream inputStream = file.getInputStream()) {
+            return ContentDigest.fileName(ContentDigest.sha256(inputStream), getFileExtension(file.getOriginalFilename()));
+        } catch (IOException e) {
+            log.error("이미지 업로드 실패 - 파일 읽기 오류: {}", e.getMessage());
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+        }
     }
 
     /**
-     * 매장 이미지 파일명 생성
+     * 변환본 파일명 생성 (예: 3a7bd3e2...c9_thumb.webp)
      *
-     * @param storeId 매장 ID
-     * @param originalFilename 원본 파일명
-     * @return 생성된 파일명
+     * @param fileName 원본 파일명
+     * @param rendition 변환본 종류
+     * @param extension 변환본 확장자
+     * @return 변환본 파일명
      */
-    private String generateStoreImageFileName(Long storeId, String originalFilename) {
-        String extension = getFileExtension(originalFilename);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String uuid = UUID.randomUUID().toString().substring(0, 8);
-
-        return String.format("store_%d_%s_%s.%s", storeId, timestamp, uuid, extension);
+    private String renditionFileName(String fileName, ImageRendition rendition, String extension) {
+        int lastDotIndex = fileName.lastIndexOf('.');
+        String baseName = lastDotIndex == -1 ? fileName : fileName.substring(0, lastDotIndex);
+        return String.format("%s_%s.%s", baseName, rendition.getSuffix(), extension);
     }
 
     /**
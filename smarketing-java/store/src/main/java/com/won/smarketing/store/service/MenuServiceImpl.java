@@ -1,12 +1,15 @@
 package com.won.smarketing.store.service;
 
+import com.won.smarketing.common.event.StoreChangedEvent;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.store.dto.ImageRenditionResponse;
 import com.won.smarketing.store.dto.ImageUploadResponse;
 import com.won.smarketing.store.dto.MenuCreateRequest;
 import com.won.smarketing.store.dto.MenuResponse;
 import com.won.smarketing.store.dto.MenuUpdateRequest;
 import com.won.smarketing.store.entity.Menu;
+import com.won.smarketing.store.event.StoreChangedEventPublisher;
 import com.won.smarketing.store.repository.MenuRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,6 +28,7 @@ import java.util.stream.Collectors;
 public class MenuServiceImpl implements MenuService {
 
     private final MenuRepository menuRepository;
+    private final StoreChangedEventPublisher storeChangedEventPublisher;
 
     /**
      * 메뉴 정보 등록
@@ -45,6 +49,7 @@ public class MenuServiceImpl implements MenuService {
                 .build();
 
         Menu savedMenu = menuRepository.save(menu);
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.MENU_CREATED, savedMenu.getStoreId(), null);
         return toMenuResponse(savedMenu);
     }
 
@@ -88,6 +93,7 @@ public class MenuServiceImpl implements MenuService {
         );
 
         Menu updatedMenu = menuRepository.save(menu);
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.MENU_UPDATED, updatedMenu.getStoreId(), null);
         return toMenuResponse(updatedMenu);
     }
 
@@ -103,6 +109,7 @@ public class MenuServiceImpl implements MenuService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.MENU_NOT_FOUND));
         
         menuRepository.delete(menu);
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.MENU_DELETED, menu.getStoreId(), null);
     }
 
     /**
@@ -117,6 +124,7 @@ public class MenuServiceImpl implements MenuService {
                 .menuName(menu.getMenuName())
                 .category(menu.getCategory())
                 .image(menu.getImage())
+                .imageRenditions(ImageRenditionResponse.from(menu.getImageRenditions()))
                 .price(menu.getPrice())
                 .description(menu.getDescription())
                 .createdAt(menu.getCreatedAt())
@@ -1,12 +1,15 @@
 package com.won.smarketing.store.service;
 
+import com.won.smarketing.common.event.StoreChangedEvent;
 import com.won.smarketing.common.exception.BusinessException;
 import com.won.smarketing.common.exception.ErrorCode;
+import com.won.smarketing.store.dto.ImageRenditionResponse;
 import com.won.smarketing.store.dto.StoreCreateRequest;
 import com.won.smarketing.store.dto.StoreCreateResponse;
 import com.won.smarketing.store.dto.StoreResponse;
 import com.won.smarketing.store.dto.StoreUpdateRequest;
 import com.won.smarketing.store.entity.Store;
+import com.won.smarketing.store.event.StoreChangedEventPublisher;
 import com.won.smarketing.store.repository.StoreRepository;
 import jakarta.xml.bind.annotation.XmlType;
 import lombok.Builder;
@@ -27,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class StoreServiceImpl implements StoreService {
 
     private final StoreRepository storeRepository;
+    private final StoreChangedEventPublisher storeChangedEventPublisher;
 
     /**
      * 매장 등록
@@ -64,6 +68,7 @@ public class StoreServiceImpl implements StoreService {
         
         Store savedStore = storeRepository.save(store);
         log.info("매장 등록 완료: {} (ID: {})", savedStore.getStoreName(), savedStore.getId());
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.STORE_CREATED, savedStore.getId(), memberId);
         
         return toStoreCreateResponse(savedStore);
     }
@@ -134,6 +139,7 @@ public class StoreServiceImpl implements StoreService {
         
         Store updatedStore = storeRepository.save(store);
         log.info("매장 정보 수정 완료: {} (ID: {})", updatedStore.getStoreName(), updatedStore.getId());
+        storeChangedEventPublisher.publish(StoreChangedEvent.ChangeType.STORE_UPDATED, updatedStore.getId(), userId);
         
         return toStoreResponse(updatedStore);
     }
@@ -156,6 +162,8 @@ public class StoreServiceImpl implements StoreService {
                 .seatCount(store.getSeatCount())
                 .blogAccounts(store.getBlogAccounts())
                 .instaAccounts(store.getInstaAccounts())
+                .storeImage(store.getStoreImage())
+                .storeImageRenditions(ImageRenditionResponse.from(store.getImageRenditions()))
                 .description(store.getDescription())
                 .createdAt(store.getCreatedAt())
                 .updatedAt(store.getUpdatedAt())